@@ -0,0 +1,229 @@
+package com.crysisshot.benchmark;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.arena.ArenaManager;
+import com.crysisshot.config.ConfigManager;
+import com.crysisshot.game.GameLoop;
+import com.crysisshot.journal.JournalManager;
+import com.crysisshot.localization.MessageManager;
+import com.crysisshot.performance.PerfMonitor;
+import com.crysisshot.replay.ReplayManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+import org.bukkit.scoreboard.Team;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Bukkit-free stand-ins shared by the benchmarks
+ * Mocks are stub-only so they do not record invocations across millions of calls,
+ * and the server logger is silenced so console I/O does not dominate the numbers.
+ */
+final class BenchmarkEnvironment {
+
+    private static final Map<UUID, Player> players = new ConcurrentHashMap<>();
+    private static volatile Server server;
+    private static volatile BukkitScheduler scheduler = stub(BukkitScheduler.class);
+    private static volatile SimulatedScheduler simulatedScheduler;
+
+    private BenchmarkEnvironment() {
+    }
+
+    /**
+     * Install a stub server once per JVM so Bukkit statics and Logger work
+     */
+    static synchronized void installServer() {
+        if (Bukkit.getServer() != null) {
+            return;
+        }
+
+        Logger logger = Logger.getLogger("CrysisShot-Benchmark");
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.OFF);
+
+        Server stubServer = stub(Server.class);
+        when(stubServer.getLogger()).thenReturn(logger);
+        when(stubServer.getName()).thenReturn("Benchmark");
+        when(stubServer.getVersion()).thenReturn("benchmark");
+        when(stubServer.getBukkitVersion()).thenReturn("1.20.1-R0.1-SNAPSHOT");
+        when(stubServer.isPrimaryThread()).thenReturn(true);
+        when(stubServer.getScheduler()).thenAnswer(invocation -> scheduler);
+        when(stubServer.getCurrentTick()).thenAnswer(invocation ->
+            simulatedScheduler != null ? simulatedScheduler.getCurrentTick() : 0);
+        when(stubServer.getPlayer(any(UUID.class))).thenAnswer(invocation -> players.get(invocation.getArgument(0)));
+        when(stubServer.getOnlinePlayers()).thenAnswer(invocation -> players.values());
+        ScoreboardManager scoreboardManager = stub(ScoreboardManager.class);
+        when(scoreboardManager.getNewScoreboard()).thenAnswer(invocation -> scoreboard());
+        when(scoreboardManager.getMainScoreboard()).thenReturn(scoreboard());
+        when(stubServer.getScoreboardManager()).thenReturn(scoreboardManager);
+        Bukkit.setServer(stubServer);
+        server = stubServer;
+    }
+
+    /**
+     * Route Bukkit.getScheduler() and Bukkit.getCurrentTick() to a simulated clock
+     */
+    static void useScheduler(SimulatedScheduler simulated) {
+        installServer();
+        simulatedScheduler = simulated;
+        scheduler = simulated.asBukkitScheduler();
+    }
+
+    /**
+     * ConfigManager backed by the bundled config.yml, with optional overrides
+     */
+    static ConfigManager configManager(Object... overrides) throws Exception {
+        YamlConfiguration config = new YamlConfiguration();
+        try (Reader reader = resourceReader("config.yml")) {
+            config.load(reader);
+        }
+        for (int i = 0; i + 1 < overrides.length; i += 2) {
+            config.set((String) overrides[i], overrides[i + 1]);
+        }
+
+        // Same injection the unit tests use, so no plugin instance is needed
+        ConfigManager configManager = new ConfigManager(null);
+        Field configField = ConfigManager.class.getDeclaredField("config");
+        configField.setAccessible(true);
+        configField.set(configManager, config);
+        return configManager;
+    }
+
+    /**
+     * Plugin stub with a data folder, bundled resources and loaded messages
+     */
+    static CrysisShot plugin(Path dataFolder, ConfigManager configManager) {
+        installServer();
+
+        CrysisShot plugin = stub(CrysisShot.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getDataFolder()).thenReturn(dataFolder.toFile());
+        when(plugin.getConfigManager()).thenReturn(configManager);
+        when(plugin.getResource(anyString())).thenAnswer(invocation ->
+            BenchmarkEnvironment.class.getClassLoader().getResourceAsStream(invocation.getArgument(0)));
+
+        PerfMonitor perfMonitor = new PerfMonitor(plugin);
+        when(plugin.getPerfMonitor()).thenReturn(perfMonitor);
+        GameLoop gameLoop = new GameLoop(plugin);
+        when(plugin.getGameLoop()).thenReturn(gameLoop);
+        JournalManager journalManager = new JournalManager(plugin);
+        when(plugin.getJournalManager()).thenReturn(journalManager);
+        ReplayManager replayManager = new ReplayManager(plugin);
+        when(plugin.getReplayManager()).thenReturn(replayManager);
+        // No arenas configured, so matches fall back to unbounded arenas
+        when(plugin.getArenaManager()).thenReturn(stub(ArenaManager.class));
+
+        MessageManager messageManager = new MessageManager(plugin, configManager);
+        when(plugin.getMessageManager()).thenReturn(messageManager);
+        messageManager.loadMessages();
+        return plugin;
+    }
+
+    /**
+     * Online player stub holding a sword, with just enough state for the game code
+     * The player is registered so Bukkit.getPlayer(UUID) finds it.
+     */
+    static Player player(String name) {
+        ItemStack sword = stub(ItemStack.class);
+        when(sword.getType()).thenReturn(Material.IRON_SWORD);
+
+        PlayerInventory inventory = stub(PlayerInventory.class);
+        when(inventory.getContents()).thenReturn(new ItemStack[0]);
+        when(inventory.getArmorContents()).thenReturn(new ItemStack[0]);
+        when(inventory.getItemInMainHand()).thenReturn(sword);
+
+        AttributeInstance maxHealth = stub(AttributeInstance.class);
+        when(maxHealth.getValue()).thenReturn(20.0);
+
+        UUID playerId = UUID.randomUUID();
+        Player player = stub(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getName()).thenReturn(name);
+        when(player.isOnline()).thenReturn(true);
+        when(player.getInventory()).thenReturn(inventory);
+        when(player.getAttribute(Attribute.GENERIC_MAX_HEALTH)).thenReturn(maxHealth);
+        when(player.getLocation()).thenReturn(new Location(null, 0, 64, 0));
+        when(player.locale()).thenReturn(Locale.ENGLISH);
+        players.put(playerId, player);
+        return player;
+    }
+
+    /**
+     * Stub without invocation recording
+     */
+    /**
+     * Scoreboard whose objectives, scores and teams accept every update without sending anything
+     */
+    static Scoreboard scoreboard() {
+        Objective objective = stub(Objective.class);
+        Score score = stub(Score.class);
+        when(objective.getScore(anyString())).thenReturn(score);
+        Scoreboard scoreboard = stub(Scoreboard.class);
+        // The stub server has no criteria registry, so Criteria.DUMMY is null here
+        when(scoreboard.registerNewObjective(anyString(), nullable(Criteria.class), any(Component.class))).thenReturn(objective);
+        when(scoreboard.registerNewTeam(anyString())).thenAnswer(invocation -> stub(Team.class));
+        return scoreboard;
+    }
+
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    static Reader resourceReader(String name) throws IOException {
+        InputStream stream = BenchmarkEnvironment.class.getClassLoader().getResourceAsStream(name);
+        if (stream == null) {
+            throw new IOException("Missing resource " + name);
+        }
+        return new InputStreamReader(stream, StandardCharsets.UTF_8);
+    }
+
+    static Path createDataFolder() throws IOException {
+        return Files.createTempDirectory("crysisshot-bench");
+    }
+
+    static void deleteDataFolder(Path dataFolder) throws IOException {
+        if (dataFolder == null || !Files.exists(dataFolder)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dataFolder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.crysisshot.benchmark;
+
+import com.crysisshot.database.DatabaseManager;
+import com.crysisshot.database.StatDelta;
+import com.crysisshot.models.PlayerStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database round trips against a temporary SQLite file with the shipped pragmas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatabaseBenchmark {
+
+    private static final int PLAYERS = 1000;
+    private static final int FLUSH_BATCH = 50;
+
+    private Path dataFolder;
+    private DatabaseManager databaseManager;
+    private final List<PlayerStats> players = new ArrayList<>(PLAYERS);
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        dataFolder = BenchmarkEnvironment.createDataFolder();
+        databaseManager = new DatabaseManager(BenchmarkEnvironment.plugin(dataFolder,
+            BenchmarkEnvironment.configManager("database.file", "benchmark.db")));
+        if (!databaseManager.initialize()) {
+            throw new IllegalStateException("Could not open benchmark database");
+        }
+
+        for (int i = 0; i < PLAYERS; i++) {
+            PlayerStats stats = new PlayerStats(UUID.randomUUID(), "Player" + i);
+            stats.setTotalKills(i);
+            stats.setBowKills(i / 2);
+            players.add(stats);
+            databaseManager.savePlayerStats(stats).join();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        databaseManager.shutdown();
+        BenchmarkEnvironment.deleteDataFolder(dataFolder);
+    }
+
+    @Benchmark
+    public Boolean savePlayerStats() {
+        PlayerStats stats = nextPlayer();
+        stats.incrementKills();
+        return databaseManager.savePlayerStats(stats).join();
+    }
+
+    /**
+     * One write-behind flush of the stats cache
+     */
+    @Benchmark
+    public Boolean applyStatDeltas() {
+        Map<UUID, StatDelta> batch = new HashMap<>();
+        for (int i = 0; i < FLUSH_BATCH; i++) {
+            PlayerStats before = nextPlayer();
+            PlayerStats after = new PlayerStats(before);
+            after.incrementKills();
+            after.incrementBowKills();
+            batch.put(after.getPlayerId(), StatDelta.between(before, after));
+        }
+        return databaseManager.applyStatDeltas(batch).join();
+    }
+
+    @Benchmark
+    public List<PlayerStats> getTopPlayers() {
+        return databaseManager.getTopPlayers("kills", 10).join();
+    }
+
+    private PlayerStats nextPlayer() {
+        PlayerStats stats = players.get(next);
+        next = (next + 1) % PLAYERS;
+        return stats;
+    }
+}
@@ -0,0 +1,402 @@
+package com.crysisshot.benchmark;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.database.DatabaseManager;
+import com.crysisshot.database.PlayerStatsCache;
+import com.crysisshot.game.GameLoop;
+import com.crysisshot.game.GameManager;
+import com.crysisshot.game.GameSession;
+import com.crysisshot.journal.JournalManager;
+import com.crysisshot.listeners.CombatListener;
+import com.crysisshot.models.GamePlayer;
+import com.crysisshot.ranking.LeaderboardManager;
+import com.crysisshot.ranking.RankingManager;
+import com.crysisshot.replay.ReplayManager;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Arrow;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityShootBowEvent;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Headless match simulation for capacity planning
+ * Drives GameManager, GameSession, CombatListener and ScoringManager with synthetic
+ * sessions of synthetic players against a real SQLite file and the write-behind stats
+ * cache, advancing a simulated scheduler one tick at a time. Reports per-tick cost,
+ * main-thread allocation and database write rate.
+ *
+ * Player and arrow stand-ins are Mockito stubs, so the tick cost includes their
+ * interception overhead; treat it as an upper bound and compare runs against each other.
+ *
+ * Usage: mvn -P benchmarks test-compile exec:exec@simulate -Dsim.sessions=40 -Dsim.players=12
+ */
+public final class MatchSimulation {
+
+    private static final long TICK_BUDGET_NANOS = 50_000_000L;
+    private static final int MIN_FLIGHT_TICKS = 5;
+    private static final int MAX_FLIGHT_TICKS = 15;
+
+    private final Options options;
+    private final Random random;
+    private final SimulatedScheduler scheduler = new SimulatedScheduler();
+    private final ItemStack bow = new ItemStack(Material.BOW);
+
+    private final List<List<Player>> sessions = new ArrayList<>();
+    private final List<InFlightArrow> inFlight = new ArrayList<>();
+    private final ArrayDeque<InFlightArrow> arrowPool = new ArrayDeque<>();
+
+    private Path dataFolder;
+    private DatabaseManager databaseManager;
+    private PlayerStatsCache statsCache;
+    private GameManager gameManager;
+    private GameLoop gameLoop;
+    private JournalManager journalManager;
+    private ReplayManager replayManager;
+    private CombatListener combatListener;
+
+    private long shots;
+    private long hits;
+    private long meleeKills;
+
+    private MatchSimulation(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        MatchSimulation simulation = new MatchSimulation(options);
+        try {
+            simulation.setUp();
+            simulation.run();
+        } finally {
+            simulation.tearDown();
+        }
+    }
+
+    private void setUp() throws Exception {
+        BenchmarkEnvironment.useScheduler(scheduler);
+        dataFolder = BenchmarkEnvironment.createDataFolder();
+
+        // Every session starts as soon as it is full and never reaches the score limit
+        CrysisShot plugin = BenchmarkEnvironment.plugin(dataFolder, BenchmarkEnvironment.configManager(
+            "database.type", "sqlite",
+            "database.file", "simulation.db",
+            "game.min-players", options.players,
+            "game.max-players", options.players,
+            "game.target-score", Integer.MAX_VALUE));
+
+        // Same wiring order as CrysisShot.initializeManagers
+        databaseManager = new DatabaseManager(plugin);
+        if (!databaseManager.initialize()) {
+            throw new IllegalStateException("Could not open simulation database");
+        }
+        when(plugin.getDatabaseManager()).thenReturn(databaseManager);
+        gameLoop = plugin.getGameLoop();
+        gameLoop.start();
+        journalManager = plugin.getJournalManager();
+        replayManager = plugin.getReplayManager();
+        replayManager.start();
+
+        statsCache = new PlayerStatsCache(plugin, databaseManager);
+        when(plugin.getStatsCache()).thenReturn(statsCache);
+        LeaderboardManager leaderboardManager = new LeaderboardManager(plugin, databaseManager);
+        statsCache.addListener(leaderboardManager::update);
+        leaderboardManager.initialize();
+        when(plugin.getLeaderboardManager()).thenReturn(leaderboardManager);
+        RankingManager rankingManager = new RankingManager();
+        statsCache.addListener(rankingManager::update);
+        rankingManager.initialize(databaseManager);
+        when(plugin.getRankingManager()).thenReturn(rankingManager);
+        statsCache.start();
+
+        gameManager = new GameManager(plugin);
+        when(plugin.getGameManager()).thenReturn(gameManager);
+        combatListener = new CombatListener(plugin);
+
+        for (int s = 0; s < options.sessions; s++) {
+            String sessionId = "sim-" + s;
+            gameManager.createSession(sessionId, "simulation");
+            List<Player> members = new ArrayList<>(options.players);
+            for (int p = 0; p < options.players; p++) {
+                Player player = BenchmarkEnvironment.player("Sim" + s + "_" + p);
+                statsCache.handleJoin(player.getUniqueId(), player.getName()).join();
+                if (!gameManager.addPlayerToGame(player, sessionId)) {
+                    throw new IllegalStateException("Could not add " + player.getName() + " to " + sessionId);
+                }
+                members.add(player);
+            }
+            sessions.add(members);
+        }
+    }
+
+    private void run() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // Covers the pre-game countdown and lets the JIT settle before measuring
+        for (int i = 0; i < options.warmupTicks; i++) {
+            step();
+        }
+        int active = countActiveSessions();
+        if (active < options.sessions) {
+            System.out.println("Warning: only " + active + "/" + options.sessions
+                + " sessions are active after warm-up; raise --warmup-ticks");
+        }
+
+        shots = 0;
+        hits = 0;
+        meleeKills = 0;
+        long writesBefore = databaseManager.getExecutor().getCompletedWrites();
+        long rowsBefore = statsCache.getFlushedRows();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long[] tickNanos = new long[options.ticks];
+
+        for (int i = 0; i < options.ticks; i++) {
+            long start = System.nanoTime();
+            step();
+            tickNanos[i] = System.nanoTime() - start;
+        }
+
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long writes = databaseManager.getExecutor().getCompletedWrites() - writesBefore;
+        long rows = statsCache.getFlushedRows() - rowsBefore;
+        report(tickNanos, allocated, writes, rows);
+    }
+
+    /**
+     * One server tick: player input for every session, then due scheduler tasks
+     */
+    private void step() {
+        int tick = scheduler.getCurrentTick();
+        double shotChance = options.shotsPerSecond / 20.0;
+        double meleeChance = options.meleePerSecond / 20.0;
+
+        for (int s = 0; s < sessions.size(); s++) {
+            List<Player> members = sessions.get(s);
+            for (int p = 0; p < members.size(); p++) {
+                Player player = members.get(p);
+                GamePlayer gamePlayer = gameManager.getGamePlayer(player);
+                if (gamePlayer == null || gamePlayer.getState() != GamePlayer.GamePlayerState.PLAYING) {
+                    continue;
+                }
+
+                if (gamePlayer.getArrows() > 0 && random.nextDouble() < shotChance) {
+                    shoot(player, s, tick);
+                } else if (random.nextDouble() < meleeChance) {
+                    Player victim = randomOpponent(members, player);
+                    if (victim != null) {
+                        combatListener.onMeleeDamage(new EntityDamageByEntityEvent(
+                            player, victim, EntityDamageEvent.DamageCause.ENTITY_ATTACK, 6.0));
+                        meleeKills++;
+                    }
+                }
+            }
+        }
+
+        land(tick);
+        scheduler.tick();
+    }
+
+    private void shoot(Player shooter, int session, int tick) {
+        InFlightArrow arrow = arrowPool.isEmpty() ? new InFlightArrow() : arrowPool.poll();
+        arrow.shooter = shooter;
+        arrow.session = session;
+        arrow.landTick = tick + MIN_FLIGHT_TICKS + random.nextInt(MAX_FLIGHT_TICKS - MIN_FLIGHT_TICKS + 1);
+
+        EntityShootBowEvent event = new EntityShootBowEvent(shooter, bow, null, arrow.entity,
+            EquipmentSlot.HAND, 1.0f, true);
+        combatListener.onBowShoot(event);
+        if (event.isCancelled()) {
+            arrowPool.push(arrow);
+            return;
+        }
+        inFlight.add(arrow);
+        shots++;
+    }
+
+    /**
+     * Fire hit events for arrows whose flight time is over
+     */
+    private void land(int tick) {
+        for (int i = inFlight.size() - 1; i >= 0; i--) {
+            InFlightArrow arrow = inFlight.get(i);
+            if (arrow.landTick > tick) {
+                continue;
+            }
+
+            // Swap-remove; landing order within a tick does not matter
+            InFlightArrow last = inFlight.remove(inFlight.size() - 1);
+            if (i < inFlight.size()) {
+                inFlight.set(i, last);
+            }
+
+            Player victim = random.nextDouble() < options.hitChance
+                ? randomOpponent(sessions.get(arrow.session), arrow.shooter) : null;
+            combatListener.onProjectileHit(victim != null
+                ? new ProjectileHitEvent(arrow.entity, victim)
+                : new ProjectileHitEvent(arrow.entity));
+            if (victim != null) {
+                hits++;
+            }
+
+            arrow.shooter = null;
+            arrowPool.push(arrow);
+        }
+    }
+
+    private Player randomOpponent(List<Player> members, Player self) {
+        int start = random.nextInt(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Player candidate = members.get((start + i) % members.size());
+            if (candidate == self) {
+                continue;
+            }
+            GamePlayer gamePlayer = gameManager.getGamePlayer(candidate);
+            if (gamePlayer != null && gamePlayer.getState() == GamePlayer.GamePlayerState.PLAYING) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private int countActiveSessions() {
+        int active = 0;
+        for (GameSession session : gameManager.getAllSessions().values()) {
+            if (session.getCurrentState() == GameSession.GameState.ACTIVE) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    private void report(long[] tickNanos, long allocatedBytes, long writes, long rows) {
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long nanos : sorted) {
+            total += nanos;
+        }
+        double seconds = options.ticks / 20.0;
+        double meanNanos = (double) total / sorted.length;
+        long p99 = percentile(sorted, 0.99);
+        double p99PerSession = (double) p99 / options.sessions;
+
+        System.out.println();
+        System.out.println("CrysisShot match simulation");
+        System.out.printf("  Sessions: %d x %d players, %d ticks (%.0f s simulated), seed %d%n",
+            options.sessions, options.players, options.ticks, seconds, options.seed);
+        System.out.printf("  Input: %.2f shots/s, %.0f%% hit chance, %.2f melee kills/s per player%n",
+            options.shotsPerSecond, options.hitChance * 100, options.meleePerSecond);
+        System.out.printf("  Events: %d shots, %d arrow kills, %d melee kills%n", shots, hits, meleeKills);
+        System.out.println();
+        System.out.printf("  Tick cost (ms): mean %.3f, p50 %.3f, p99 %.3f, max %.3f%n",
+            meanNanos / 1e6, percentile(sorted, 0.50) / 1e6, p99 / 1e6, sorted[sorted.length - 1] / 1e6);
+        System.out.printf("  Per session at p99: %.1f us -> ~%d sessions fit in a 50 ms tick%n",
+            p99PerSession / 1e3, p99PerSession > 0 ? (long) (TICK_BUDGET_NANOS / p99PerSession) : 0);
+        System.out.printf("  Main-thread allocation: %.1f KB/tick, %.2f MB/s at 20 TPS%n",
+            allocatedBytes / 1024.0 / options.ticks, allocatedBytes / seconds / (1024.0 * 1024.0));
+        System.out.printf("  Database: %.2f writes/s, %.2f stat rows/s (%d writes, %d rows)%n",
+            writes / seconds, rows / seconds, writes, rows);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private void tearDown() throws Exception {
+        if (gameManager != null) {
+            gameManager.shutdown();
+        }
+        if (gameLoop != null) {
+            gameLoop.shutdown();
+        }
+        if (journalManager != null) {
+            journalManager.shutdown();
+        }
+        if (replayManager != null) {
+            replayManager.shutdown();
+        }
+        if (statsCache != null) {
+            statsCache.shutdown();
+        }
+        if (databaseManager != null) {
+            databaseManager.shutdown();
+        }
+        scheduler.shutdown();
+        BenchmarkEnvironment.deleteDataFolder(dataFolder);
+    }
+
+    /**
+     * A pooled arrow entity; its id is reused once the previous flight has landed
+     */
+    private static final class InFlightArrow {
+        private final Arrow entity = BenchmarkEnvironment.stub(Arrow.class);
+        private Player shooter;
+        private int session;
+        private int landTick;
+
+        InFlightArrow() {
+            UUID arrowId = UUID.randomUUID();
+            when(entity.getUniqueId()).thenReturn(arrowId);
+            when(entity.getVelocity()).thenReturn(new Vector(0, 0, 3));
+            when(entity.getLocation()).thenReturn(new Location(null, 0, 64, 10));
+        }
+    }
+
+    /**
+     * Command-line options in --name=value form
+     */
+    private static final class Options {
+        private int sessions = 10;
+        private int players = 8;
+        private int ticks = 2400;
+        private int warmupTicks = 400;
+        private double shotsPerSecond = 0.5;
+        private double hitChance = 0.35;
+        private double meleePerSecond = 0.05;
+        private long seed = 42;
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int split = arg.indexOf('=');
+                if (!arg.startsWith("--") || split < 0) {
+                    throw new IllegalArgumentException("Expected --name=value but got " + arg);
+                }
+                values.put(arg.substring(2, split), arg.substring(split + 1));
+            }
+
+            Options options = new Options();
+            options.sessions = Math.max(1, Integer.parseInt(values.getOrDefault("sessions", String.valueOf(options.sessions))));
+            options.players = Math.max(2, Integer.parseInt(values.getOrDefault("players", String.valueOf(options.players))));
+            options.ticks = Math.max(1, Integer.parseInt(values.getOrDefault("ticks", String.valueOf(options.ticks))));
+            options.warmupTicks = Math.max(0, Integer.parseInt(values.getOrDefault("warmup-ticks", String.valueOf(options.warmupTicks))));
+            options.shotsPerSecond = Math.max(0, Double.parseDouble(values.getOrDefault("shots-per-second", String.valueOf(options.shotsPerSecond))));
+            options.hitChance = Math.min(1, Math.max(0, Double.parseDouble(values.getOrDefault("hit-chance", String.valueOf(options.hitChance)))));
+            options.meleePerSecond = Math.max(0, Double.parseDouble(values.getOrDefault("melee-per-second", String.valueOf(options.meleePerSecond))));
+            options.seed = Long.parseLong(values.getOrDefault("seed", String.valueOf(options.seed)));
+            return options;
+        }
+    }
+}
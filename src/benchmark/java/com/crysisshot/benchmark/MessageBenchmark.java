@@ -0,0 +1,87 @@
+package com.crysisshot.benchmark;
+
+import com.crysisshot.localization.MessageManager;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message rendering as done on every shot, kill and broadcast
+ * The legacy* benchmarks reproduce the old lookup/replace/parse/serialize path
+ * so the compiled templates can be compared against it in the same run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageBenchmark {
+
+    private static final String PLAIN_KEY = "game.join-success";
+    private static final String PLACEHOLDER_KEY = "game.game-won";
+
+    private Path dataFolder;
+    private MessageManager messageManager;
+    private YamlConfiguration legacyLocale;
+    private final MiniMessage miniMessage = MiniMessage.miniMessage();
+
+    @Setup
+    public void setUp() throws Exception {
+        dataFolder = BenchmarkEnvironment.createDataFolder();
+        messageManager = BenchmarkEnvironment.plugin(dataFolder, BenchmarkEnvironment.configManager())
+            .getMessageManager();
+
+        legacyLocale = new YamlConfiguration();
+        try (Reader reader = BenchmarkEnvironment.resourceReader("locales/en.yml")) {
+            legacyLocale.load(reader);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkEnvironment.deleteDataFolder(dataFolder);
+    }
+
+    @Benchmark
+    public String getMessageWithoutPlaceholders() {
+        return messageManager.getMessage(PLAIN_KEY, "en");
+    }
+
+    @Benchmark
+    public String getMessageWithPlaceholders() {
+        return messageManager.getMessage(PLACEHOLDER_KEY, "en", "winner", "Steve", "score", "20");
+    }
+
+    @Benchmark
+    public Component getComponentWithPlaceholders() {
+        return messageManager.getComponent(PLACEHOLDER_KEY, "en", "winner", "Steve", "score", "20");
+    }
+
+    @Benchmark
+    public String legacyGetMessageWithoutPlaceholders() {
+        return legacyRender(PLAIN_KEY);
+    }
+
+    @Benchmark
+    public String legacyGetMessageWithPlaceholders() {
+        return legacyRender(PLACEHOLDER_KEY, "winner", "Steve", "score", "20");
+    }
+
+    /**
+     * getMessage as it worked before templates were compiled at load time
+     */
+    private String legacyRender(String key, String... placeholders) {
+        String message = legacyLocale.getString("messages." + key);
+        for (int i = 0; i + 1 < placeholders.length; i += 2) {
+            message = message.replace("{" + placeholders[i] + "}", placeholders[i + 1]);
+        }
+        return LegacyComponentSerializer.legacyAmpersand().serialize(miniMessage.deserialize(message));
+    }
+}
@@ -0,0 +1,109 @@
+package com.crysisshot.benchmark;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.database.PlayerStatsCache;
+import com.crysisshot.game.GameSession;
+import com.crysisshot.models.GamePlayer;
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.ranking.Rank;
+import com.crysisshot.scoring.ComboSystem;
+import com.crysisshot.scoring.ScoringManager;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Per-kill scoring work: ScoringManager.processKill, combo multipliers and rank lookups
+ * The stats cache is replaced by an in-memory map, so processKill is measured
+ * without any database work. The session is set ACTIVE with an unreachable target
+ * score, so every kill also pays for the standings update and win check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoringBenchmark {
+
+    // Kill counts spread over every rank threshold
+    private static final int[] KILLS = {0, 3, 49, 50, 120, 499, 500, 2000};
+
+    private Path dataFolder;
+    private ScoringManager scoringManager;
+    private ComboSystem comboSystem;
+    private GameSession session;
+    private GamePlayer first;
+    private GamePlayer second;
+    private int kills;
+
+    @Setup
+    public void setUp() throws Exception {
+        dataFolder = BenchmarkEnvironment.createDataFolder();
+        CrysisShot plugin = BenchmarkEnvironment.plugin(dataFolder,
+            BenchmarkEnvironment.configManager("game.target-score", Integer.MAX_VALUE));
+
+        Map<UUID, PlayerStats> stats = new HashMap<>();
+        PlayerStatsCache statsCache = mock(PlayerStatsCache.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            UUID playerId = invocation.getArgument(0);
+            Consumer<PlayerStats> update = invocation.getArgument(2);
+            update.accept(stats.computeIfAbsent(playerId, id -> new PlayerStats(id, invocation.getArgument(1))));
+            return null;
+        }).when(statsCache).modify(any(UUID.class), anyString(), any());
+        when(plugin.getStatsCache()).thenReturn(statsCache);
+
+        scoringManager = new ScoringManager(plugin);
+        comboSystem = new ComboSystem(plugin);
+
+        // Two players stay below min-players, so the session never starts a countdown by itself
+        session = new GameSession("benchmark", plugin, "benchmark");
+        Player firstPlayer = BenchmarkEnvironment.player("First");
+        Player secondPlayer = BenchmarkEnvironment.player("Second");
+        session.addPlayer(firstPlayer);
+        session.addPlayer(secondPlayer);
+        first = session.getPlayer(firstPlayer.getUniqueId());
+        second = session.getPlayer(secondPlayer.getUniqueId());
+        session.setState(GameSession.GameState.ACTIVE); // Score changes are ignored outside a match
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkEnvironment.deleteDataFolder(dataFolder);
+    }
+
+    /**
+     * Alternate killer every four kills so streaks, combos and streak resets all occur
+     */
+    @Benchmark
+    public void processKill() {
+        boolean firstKills = (kills++ & 4) == 0;
+        scoringManager.processKill(session,
+            firstKills ? first : second,
+            firstKills ? second : first,
+            ScoringManager.KillType.BOW);
+    }
+
+    @Benchmark
+    public double getComboMultiplier() {
+        return comboSystem.getComboMultiplier(kills++ % 12);
+    }
+
+    @Benchmark
+    public Rank getRankByKills() {
+        return Rank.getRankByKills(KILLS[kills++ & (KILLS.length - 1)]);
+    }
+}
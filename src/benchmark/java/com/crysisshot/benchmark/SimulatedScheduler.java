@@ -0,0 +1,171 @@
+package com.crysisshot.benchmark;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Tick-driven stand-in for the Bukkit scheduler
+ * Sync tasks run inside {@link #tick()} on the caller's thread, the way the server
+ * runs them on the main thread; async tasks become due on the same clock but run
+ * on a background pool.
+ */
+final class SimulatedScheduler {
+
+    private final PriorityQueue<SimulatedTask> queue = new PriorityQueue<>(
+        Comparator.comparingLong((SimulatedTask task) -> task.nextRun).thenComparingInt(task -> task.id));
+    private final ExecutorService async = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Simulated-Async");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final BukkitScheduler bukkitScheduler;
+
+    private int currentTick;
+    private int nextId = 1;
+
+    SimulatedScheduler() {
+        BukkitScheduler scheduler = mock(BukkitScheduler.class, withSettings().stubOnly());
+        when(scheduler.runTask(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+            schedule(invocation.getArgument(0), invocation.getArgument(1), 0, -1, true));
+        when(scheduler.runTaskLater(any(Plugin.class), any(Runnable.class), anyLong())).thenAnswer(invocation ->
+            schedule(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), -1, true));
+        when(scheduler.runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong())).thenAnswer(invocation ->
+            schedule(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), true));
+        when(scheduler.runTaskAsynchronously(any(Plugin.class), any(Runnable.class))).thenAnswer(invocation ->
+            schedule(invocation.getArgument(0), invocation.getArgument(1), 0, -1, false));
+        when(scheduler.runTaskLaterAsynchronously(any(Plugin.class), any(Runnable.class), anyLong())).thenAnswer(invocation ->
+            schedule(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), -1, false));
+        when(scheduler.runTaskTimerAsynchronously(any(Plugin.class), any(Runnable.class), anyLong(), anyLong())).thenAnswer(invocation ->
+            schedule(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), false));
+        doAnswer(invocation -> {
+            cancel(invocation.getArgument(0));
+            return null;
+        }).when(scheduler).cancelTask(anyInt());
+        this.bukkitScheduler = scheduler;
+    }
+
+    BukkitScheduler asBukkitScheduler() {
+        return bukkitScheduler;
+    }
+
+    synchronized int getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Advance the clock by one tick and run every sync task that is due
+     */
+    void tick() {
+        List<SimulatedTask> due = new ArrayList<>();
+        synchronized (this) {
+            currentTick++;
+            while (!queue.isEmpty() && queue.peek().nextRun <= currentTick) {
+                SimulatedTask task = queue.poll();
+                if (task.cancelled) {
+                    continue;
+                }
+                due.add(task);
+                if (task.period > 0) {
+                    task.nextRun += task.period;
+                    queue.add(task);
+                }
+            }
+        }
+
+        for (SimulatedTask task : due) {
+            if (task.cancelled) {
+                continue;
+            }
+            if (task.sync) {
+                task.runnable.run();
+            } else {
+                async.execute(task.runnable);
+            }
+        }
+    }
+
+    void shutdown() {
+        async.shutdown();
+        try {
+            async.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized SimulatedTask schedule(Plugin owner, Runnable runnable, long delay, long period, boolean sync) {
+        SimulatedTask task = new SimulatedTask(nextId++, owner, runnable, sync,
+            currentTick + Math.max(1, delay), period > 0 ? Math.max(1, period) : -1);
+        queue.add(task);
+        return task;
+    }
+
+    private synchronized void cancel(int taskId) {
+        for (SimulatedTask task : queue) {
+            if (task.id == taskId) {
+                task.cancelled = true;
+            }
+        }
+    }
+
+    private final class SimulatedTask implements BukkitTask {
+        private final int id;
+        private final Plugin owner;
+        private final Runnable runnable;
+        private final boolean sync;
+        private final long period;
+        private long nextRun;
+        private volatile boolean cancelled;
+
+        SimulatedTask(int id, Plugin owner, Runnable runnable, boolean sync, long nextRun, long period) {
+            this.id = id;
+            this.owner = owner;
+            this.runnable = runnable;
+            this.sync = sync;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+
+        @Override
+        public Plugin getOwner() {
+            return owner;
+        }
+
+        @Override
+        public boolean isSync() {
+            return sync;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
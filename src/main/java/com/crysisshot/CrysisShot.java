@@ -6,7 +6,10 @@ import com.crysisshot.arena.ArenaThemeManager;
 import com.crysisshot.commands.CrysisShotCommand;
 import com.crysisshot.config.ConfigManager;
 import com.crysisshot.database.DatabaseManager;
+import com.crysisshot.database.PlayerStatsCache;
+import com.crysisshot.game.GameLoop;
 import com.crysisshot.game.GameManager;
+import com.crysisshot.journal.JournalManager;
 // TODO: Uncomment when implemented in later steps
 // import com.crysisshot.integration.EconomyManager;
 // import com.crysisshot.integration.PlaceholderExpansion;
@@ -14,10 +17,19 @@ import com.crysisshot.listeners.CombatListener;
 import com.crysisshot.listeners.GameListener;
 import com.crysisshot.listeners.PlayerListener;
 import com.crysisshot.localization.MessageManager;
+import com.crysisshot.performance.PerfMonitor;
+import com.crysisshot.ranking.LeaderboardManager;
+import com.crysisshot.ranking.RankingManager;
+import com.crysisshot.replay.ReplayManager;
+import com.crysisshot.utils.AsyncLogSink;
 import com.crysisshot.utils.Logger;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Main plugin class for CrysisShot
  * A competitive PvP minigame plugin based on "One In The Chamber" game mode
@@ -29,10 +41,18 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
     private ConfigManager configManager;
     private MessageManager messageManager;
     private DatabaseManager databaseManager;
+    private PlayerStatsCache statsCache;
+    private LeaderboardManager leaderboardManager;
+    private RankingManager rankingManager;
     private ArenaManager arenaManager;
     private ArenaSetupManager arenaSetupManager;
     private ArenaThemeManager arenaThemeManager;
     private GameManager gameManager;
+    private PerfMonitor perfMonitor;
+    private GameLoop gameLoop;
+    private JournalManager journalManager;
+    private ReplayManager replayManager;
+    private AsyncLogSink logSink;
     // private EconomyManager economyManager;
     
     // Plugin state
@@ -80,6 +100,22 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
             if (gameManager != null) {
                 gameManager.shutdown();
             }
+            if (gameLoop != null) {
+                gameLoop.shutdown();
+            }
+            
+            // Finish writing the journals and replays of the games just ended
+            if (journalManager != null) {
+                journalManager.shutdown();
+            }
+            if (replayManager != null) {
+                replayManager.shutdown();
+            }
+            
+            // Write any cached stats before the pool closes
+            if (statsCache != null) {
+                statsCache.shutdown();
+            }
             
             // Close database connections
             if (databaseManager != null) {
@@ -95,10 +131,35 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
             Logger.severe("Error during plugin shutdown: " + e.getMessage());
             e.printStackTrace();
         } finally {
+            // Last, so the shutdown messages reach the log file
+            if (logSink != null) {
+                Logger.setSink(null);
+                logSink.shutdown();
+            }
             instance = null;
         }
     }
     
+    /**
+     * Start writing logs and game events to rotated files if debug.save-logs is on
+     */
+    private void startLogSink() {
+        if (!configManager.isSaveLogs()) {
+            return;
+        }
+        
+        AsyncLogSink sink = new AsyncLogSink(new File(getDataFolder(), "logs"), configManager.getLogBufferSize(),
+            configManager.getLogMaxFileBytes(), configManager.getLogArchiveCount());
+        try {
+            sink.start();
+            logSink = sink;
+            Logger.setSink(sink);
+            Logger.info("Writing logs to " + new File(getDataFolder(), "logs").getPath());
+        } catch (IOException e) {
+            Logger.warning("Could not open log file, logging to console only: " + e.getMessage());
+        }
+    }
+    
     /**
      * Initialize all plugin managers
      */
@@ -108,13 +169,42 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
         configManager = new ConfigManager(this);
         configManager.initialize();
         
+        // Log files (depends on config)
+        startLogSink();
+        
+        // Tick-cost instrumentation (used by the managers below)
+        perfMonitor = new PerfMonitor(this);
+        
+        // Shared tick driver for recurring game work (depends on the performance monitor)
+        gameLoop = new GameLoop(this);
+        gameLoop.start();
+        
+        // Match event journals (depends on config)
+        journalManager = new JournalManager(this);
+        
+        // Match replays (depends on config and the performance monitor)
+        replayManager = new ReplayManager(this);
+        replayManager.start();
+        
         // Message manager (depends on config)
         messageManager = new MessageManager(this, configManager);
         messageManager.loadMessages();        // Database manager
         databaseManager = new DatabaseManager(this);
         if (!databaseManager.initialize()) {
             throw new RuntimeException("Failed to initialize database");
-        }        // Arena manager (depends on config and message managers)
+        }
+        
+        // Player stats cache (depends on database)
+        statsCache = new PlayerStatsCache(this, databaseManager);
+        
+        // Leaderboards and global ranking (fed by the stats cache, so register before it preloads players)
+        leaderboardManager = new LeaderboardManager(this, databaseManager);
+        statsCache.addListener(leaderboardManager::update);
+        leaderboardManager.initialize();
+        rankingManager = new RankingManager();
+        statsCache.addListener(rankingManager::update);
+        rankingManager.initialize(databaseManager);
+        statsCache.start();        // Arena manager (depends on config and message managers)
         arenaManager = new ArenaManager(this);
         
         // Arena setup manager (depends on arena manager)
@@ -144,13 +234,10 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
     private void registerEvents() {
         Logger.info("Registering event listeners...");
         
-        // Register all event listeners
-        Bukkit.getPluginManager().registerEvents(
-            new PlayerListener(gameManager, messageManager), this);
-        Bukkit.getPluginManager().registerEvents(
-            new GameListener(gameManager, messageManager), this);
-        Bukkit.getPluginManager().registerEvents(
-            new CombatListener(this), this);
+        // Register all event listeners, timed per handler for /cs admin perf
+        perfMonitor.registerEvents(new PlayerListener(gameManager, messageManager, statsCache));
+        perfMonitor.registerEvents(new GameListener(gameManager, messageManager));
+        perfMonitor.registerEvents(new CombatListener(this));
         
         Logger.info("Event listeners registered successfully!");
     }
@@ -181,22 +268,30 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
     }
       /**
      * Reload plugin configuration and managers
+     * Completes on the main thread once the new message files are in use.
      */
-    public void reloadPlugin() {
-        try {            Logger.info("Reloading CrysisShot plugin...");
-              // Reload configurations
+    public CompletableFuture<Void> reloadPlugin() {
+        try {
+            Logger.info("Reloading CrysisShot plugin...");
+            // Reload configurations
             configManager.reloadConfig();
-            messageManager.loadMessages();
             
             // Reinitialize game manager with new config
             gameManager.reload();
-            
-            Logger.info("Plugin reloaded successfully!");
-            
         } catch (Exception e) {
             Logger.severe("Failed to reload plugin: " + e.getMessage());
             e.printStackTrace();
+            return CompletableFuture.failedFuture(e);
         }
+        
+        // Locale files are parsed in the background
+        return messageManager.reload().whenComplete((ignored, error) -> {
+            if (error == null) {
+                Logger.info("Plugin reloaded successfully!");
+            } else {
+                Logger.severe("Failed to reload plugin: " + error.getMessage());
+            }
+        });
     }
     
     /**
@@ -215,6 +310,27 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
     }    public DatabaseManager getDatabaseManager() {
         return databaseManager;
     }
+    
+    /**
+     * Get the write-behind player stats cache
+     */
+    public PlayerStatsCache getStatsCache() {
+        return statsCache;
+    }
+    
+    /**
+     * Get the in-memory leaderboards
+     */
+    public LeaderboardManager getLeaderboardManager() {
+        return leaderboardManager;
+    }
+    
+    /**
+     * Get the global bow-kill ranking
+     */
+    public RankingManager getRankingManager() {
+        return rankingManager;
+    }
       /**
      * Get the arena manager
      */
@@ -240,6 +356,41 @@ public class CrysisShot extends JavaPlugin {    private static CrysisShot instan
         return gameManager;
     }
     
+    /**
+     * Get the handler and task timing monitor
+     */
+    public PerfMonitor getPerfMonitor() {
+        return perfMonitor;
+    }
+    
+    /**
+     * Get the shared tick driver for recurring game work
+     */
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+    
+    /**
+     * Get the match event journal writer
+     */
+    public JournalManager getJournalManager() {
+        return journalManager;
+    }
+    
+    /**
+     * Get the match replay recorder and player
+     */
+    public ReplayManager getReplayManager() {
+        return replayManager;
+    }
+    
+    /**
+     * Get the log file writer, or null if debug.save-logs is off
+     */
+    public AsyncLogSink getLogSink() {
+        return logSink;
+    }
+    
     // TODO: Implement in Step 7.1 when EconomyManager is available
     // public EconomyManager getEconomyManager() {
     //     return economyManager;
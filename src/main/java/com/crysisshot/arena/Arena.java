@@ -196,18 +196,6 @@ public class Arena {
         return world != null;
     }
     
-    /**
-     * Check if a location is within arena boundaries
-     */
-    public boolean isWithinBoundaries(Location location) {
-        if (boundaryMin == null || boundaryMax == null) return true;
-        if (!location.getWorld().getName().equals(worldName)) return false;
-        
-        return location.getX() >= boundaryMin.getX() && location.getX() <= boundaryMax.getX() &&
-               location.getY() >= boundaryMin.getY() && location.getY() <= boundaryMax.getY() &&
-               location.getZ() >= boundaryMin.getZ() && location.getZ() <= boundaryMax.getZ();
-    }
-    
     /**
      * Get a random spawn point for players
      */
@@ -0,0 +1,103 @@
+package com.crysisshot.arena;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Axis-aligned block box a match is played in
+ * Built once when a match starts from the arena's two boundary corners, in whatever order
+ * they were set, and widened to whole blocks so both corner blocks count as inside. Checks
+ * are plain integer compares on block coordinates.
+ */
+public final class ArenaBounds {
+
+    /**
+     * Build-height limits used for arenas without boundaries
+     */
+    public static final ArenaBounds UNBOUNDED =
+        new ArenaBounds(null, Integer.MIN_VALUE, -50, Integer.MIN_VALUE, Integer.MAX_VALUE, 300, Integer.MAX_VALUE);
+
+    private final String worldName;
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    private ArenaBounds(String worldName, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.worldName = worldName;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Bounds of an arena, or UNBOUNDED if it has none set
+     */
+    public static ArenaBounds of(Arena arena) {
+        if (arena == null || arena.getBoundaryMin() == null || arena.getBoundaryMax() == null) {
+            return UNBOUNDED;
+        }
+        return of(arena.getWorldName(), arena.getBoundaryMin(), arena.getBoundaryMax());
+    }
+
+    /**
+     * Bounds spanning two corners given in any order
+     */
+    public static ArenaBounds of(String worldName, Location a, Location b) {
+        return new ArenaBounds(worldName,
+            Math.min(a.getBlockX(), b.getBlockX()),
+            Math.min(a.getBlockY(), b.getBlockY()),
+            Math.min(a.getBlockZ(), b.getBlockZ()),
+            Math.max(a.getBlockX(), b.getBlockX()),
+            Math.max(a.getBlockY(), b.getBlockY()),
+            Math.max(a.getBlockZ(), b.getBlockZ()));
+    }
+
+    /**
+     * Whether the bounds apply in a world; players elsewhere are not checked
+     */
+    public boolean appliesTo(World world) {
+        return worldName == null || world == null || worldName.equals(world.getName());
+    }
+
+    /**
+     * Whether a block position is inside the bounds
+     */
+    public boolean contains(int blockX, int blockY, int blockZ) {
+        return blockX >= minX && blockX <= maxX
+            && blockY >= minY && blockY <= maxY
+            && blockZ >= minZ && blockZ <= maxZ;
+    }
+
+    /**
+     * Squared block distance from a position to the nearest block inside the bounds, 0 when inside
+     */
+    public long distanceSquared(int blockX, int blockY, int blockZ) {
+        long dx = Math.max(0, Math.max(minX - (long) blockX, blockX - (long) maxX));
+        long dy = Math.max(0, Math.max(minY - (long) blockY, blockY - (long) maxY));
+        long dz = Math.max(0, Math.max(minZ - (long) blockZ, blockZ - (long) maxZ));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Whether a block height is under the arena floor
+     */
+    public boolean isBelow(int blockY) {
+        return blockY < minY;
+    }
+
+    public String getWorldName() { return worldName; }
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMinZ() { return minZ; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+    public int getMaxZ() { return maxZ; }
+
+    @Override
+    public String toString() {
+        return "ArenaBounds{" + worldName + " " + minX + "," + minY + "," + minZ
+            + " -> " + maxX + "," + maxY + "," + maxZ + "}";
+    }
+}
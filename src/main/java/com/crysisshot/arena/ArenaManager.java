@@ -28,6 +28,7 @@ public class ArenaManager {
     // Arena storage
     private final Map<String, Arena> arenas = new ConcurrentHashMap<>();
     private final Map<String, Arena> availableArenas = new ConcurrentHashMap<>();
+    private final ArenaSpatialIndex spatialIndex = new ArenaSpatialIndex(); // location -> arena lookups
     
     // Arena configuration file
     private File arenasFile;
@@ -88,6 +89,7 @@ public class ArenaManager {
      */
     public void loadArenasFromConfig() {
         arenas.clear();
+        spatialIndex.clear();
         
         ConfigurationSection arenasSection = arenasConfig.getConfigurationSection("arenas");
         if (arenasSection == null) {
@@ -100,6 +102,7 @@ public class ArenaManager {
                 Arena arena = loadArenaFromConfig(arenaName, arenasSection.getConfigurationSection(arenaName));
                 if (arena != null) {
                     arenas.put(arenaName, arena);
+                    spatialIndex.put(arena);
                     Logger.info("Loaded arena: " + arenaName);
                 }
             } catch (Exception e) {
@@ -392,6 +395,26 @@ public class ArenaManager {
         return availableArenas.values();
     }
     
+    /**
+     * Get the arena containing a location, or null if it is in none
+     */
+    public Arena getArenaAt(Location location) {
+        return spatialIndex.getArenaAt(location);
+    }
+    
+    /**
+     * Re-index a loaded arena after its boundaries or world change
+     */
+    public void updateArenaBounds(Arena arena) {
+        if (arenas.get(arena.getName()) == arena) {
+            spatialIndex.put(arena);
+        }
+    }
+    
+    public ArenaSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+    
     public boolean isArenaAvailable(String name) {
         return availableArenas.containsKey(name);
     }
@@ -177,9 +177,11 @@ public class ArenaSetupManager {
                     String boundType = args[2].toLowerCase();
                     if (boundType.equals("min")) {
                         arena.setBoundaryMin(player.getLocation());
+                        arenaManager.updateArenaBounds(arena);
                         messageManager.sendMessage(player, "arena.setup.bounds-min-set");
                     } else if (boundType.equals("max")) {
                         arena.setBoundaryMax(player.getLocation());
+                        arenaManager.updateArenaBounds(arena);
                         messageManager.sendMessage(player, "arena.setup.bounds-max-set");
                     } else {
                         messageManager.sendMessage(player, "arena.setup.bounds-usage");
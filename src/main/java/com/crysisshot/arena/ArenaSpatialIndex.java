@@ -0,0 +1,208 @@
+package com.crysisshot.arena;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "which arena is this location in" without scanning every arena
+ * Each arena with boundaries is registered in every chunk its bounds touch, per world, so a
+ * lookup is one map hit on the chunk followed by exact bounds checks on the few arenas there.
+ * Arenas spanning more than MAX_INDEXED_CHUNKS are kept in a short per-world list instead so
+ * one oversized arena cannot flood the index. Updated one arena at a time by ArenaManager.
+ */
+public class ArenaSpatialIndex {
+
+    static final int MAX_INDEXED_CHUNKS = 4096;
+
+    // world -> chunk key -> arenas touching that chunk (arrays are replaced, never modified)
+    private final Map<String, Map<Long, Entry[]>> chunks = new ConcurrentHashMap<>();
+    private final Map<String, Entry[]> oversized = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byName = new ConcurrentHashMap<>();
+
+    /**
+     * Add an arena, or move it if its bounds or world changed
+     */
+    public synchronized void put(Arena arena) {
+        remove(arena.getName());
+
+        ArenaBounds bounds = ArenaBounds.of(arena);
+        if (bounds == ArenaBounds.UNBOUNDED || bounds.getWorldName() == null) {
+            return; // Nothing to index without boundaries
+        }
+
+        Entry entry = new Entry(arena, bounds);
+        byName.put(arena.getName(), entry);
+        if (entry.chunkCount() > MAX_INDEXED_CHUNKS) {
+            oversized.compute(bounds.getWorldName(), (world, entries) -> append(entries, entry));
+            return;
+        }
+
+        Map<Long, Entry[]> worldChunks = chunks.computeIfAbsent(bounds.getWorldName(), world -> new ConcurrentHashMap<>());
+        for (int chunkX = entry.minChunkX; chunkX <= entry.maxChunkX; chunkX++) {
+            for (int chunkZ = entry.minChunkZ; chunkZ <= entry.maxChunkZ; chunkZ++) {
+                worldChunks.compute(chunkKey(chunkX, chunkZ), (key, entries) -> append(entries, entry));
+            }
+        }
+    }
+
+    /**
+     * Remove an arena from the index
+     */
+    public synchronized void remove(String arenaName) {
+        Entry entry = byName.remove(arenaName);
+        if (entry == null) {
+            return;
+        }
+
+        String worldName = entry.bounds.getWorldName();
+        if (entry.chunkCount() > MAX_INDEXED_CHUNKS) {
+            oversized.computeIfPresent(worldName, (world, entries) -> without(entries, entry));
+            return;
+        }
+
+        Map<Long, Entry[]> worldChunks = chunks.get(worldName);
+        if (worldChunks == null) {
+            return;
+        }
+        for (int chunkX = entry.minChunkX; chunkX <= entry.maxChunkX; chunkX++) {
+            for (int chunkZ = entry.minChunkZ; chunkZ <= entry.maxChunkZ; chunkZ++) {
+                worldChunks.computeIfPresent(chunkKey(chunkX, chunkZ), (key, entries) -> without(entries, entry));
+            }
+        }
+        if (worldChunks.isEmpty()) {
+            chunks.remove(worldName, worldChunks);
+        }
+    }
+
+    /**
+     * Remove every arena
+     */
+    public synchronized void clear() {
+        chunks.clear();
+        oversized.clear();
+        byName.clear();
+    }
+
+    /**
+     * Get the arena containing a location, or null if it is in none
+     */
+    public Arena getArenaAt(Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return null;
+        }
+        return getArenaAt(world.getName(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Get the arena containing a block position, or null if it is in none
+     * Where arenas overlap, the first one registered wins.
+     */
+    public Arena getArenaAt(String worldName, int blockX, int blockY, int blockZ) {
+        Map<Long, Entry[]> worldChunks = chunks.get(worldName);
+        if (worldChunks != null) {
+            Entry[] entries = worldChunks.get(chunkKey(blockX >> 4, blockZ >> 4));
+            if (entries != null) {
+                for (Entry entry : entries) {
+                    if (entry.bounds.contains(blockX, blockY, blockZ)) {
+                        return entry.arena;
+                    }
+                }
+            }
+        }
+
+        Entry[] large = oversized.get(worldName);
+        if (large != null) {
+            for (Entry entry : large) {
+                if (entry.bounds.contains(blockX, blockY, blockZ)) {
+                    return entry.arena;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the indexed bounds of an arena, or null if it has none
+     */
+    public ArenaBounds getBounds(String arenaName) {
+        Entry entry = byName.get(arenaName);
+        return entry != null ? entry.bounds : null;
+    }
+
+    /**
+     * Number of arenas in the index
+     */
+    public int size() {
+        return byName.size();
+    }
+
+    /**
+     * Number of chunk cells across all worlds
+     */
+    public int getIndexedChunkCount() {
+        int count = 0;
+        for (Map<Long, Entry[]> worldChunks : chunks.values()) {
+            count += worldChunks.size();
+        }
+        return count;
+    }
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        if (entries == null) {
+            return new Entry[] {entry};
+        }
+        Entry[] copy = new Entry[entries.length + 1];
+        System.arraycopy(entries, 0, copy, 0, entries.length);
+        copy[entries.length] = entry;
+        return copy;
+    }
+
+    // Returns null once empty, which drops the cell from the map
+    private static Entry[] without(Entry[] entries, Entry entry) {
+        int index = -1;
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == entry) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return entries;
+        }
+        if (entries.length == 1) {
+            return null;
+        }
+        Entry[] copy = new Entry[entries.length - 1];
+        System.arraycopy(entries, 0, copy, 0, index);
+        System.arraycopy(entries, index + 1, copy, index, entries.length - index - 1);
+        return copy;
+    }
+
+    private static final class Entry {
+        private final Arena arena;
+        private final ArenaBounds bounds;
+        private final int minChunkX, minChunkZ;
+        private final int maxChunkX, maxChunkZ;
+
+        private Entry(Arena arena, ArenaBounds bounds) {
+            this.arena = arena;
+            this.bounds = bounds;
+            this.minChunkX = bounds.getMinX() >> 4;
+            this.minChunkZ = bounds.getMinZ() >> 4;
+            this.maxChunkX = bounds.getMaxX() >> 4;
+            this.maxChunkZ = bounds.getMaxZ() >> 4;
+        }
+
+        private long chunkCount() {
+            return (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.crysisshot.arena;
 
 import com.crysisshot.CrysisShot;
+import com.crysisshot.game.GameLoop;
 import com.crysisshot.localization.MessageManager;
 import com.crysisshot.utils.Logger;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,9 +17,14 @@ public class ArenaThemeManager {
     
     private final CrysisShot plugin;
     private final MessageManager messageManager;
+    private final ArenaManager arenaManager;
     
     // Active theme effects per arena
-    private final Map<String, BukkitTask> activeEffects = new ConcurrentHashMap<>();
+    private final Map<String, GameLoop.Job> activeEffects = new ConcurrentHashMap<>();
+    
+    // Online players by the arena they stand in, regrouped at most once per tick
+    private final Map<String, List<Player>> playersByArena = new HashMap<>();
+    private long groupedTick = -1;
     
     // Theme-specific configurations
     private final Map<Arena.Theme, ThemeConfiguration> themeConfigs = new HashMap<>();
@@ -27,6 +32,7 @@ public class ArenaThemeManager {
     public ArenaThemeManager(CrysisShot plugin) {
         this.plugin = plugin;
         this.messageManager = plugin.getMessageManager();
+        this.arenaManager = plugin.getArenaManager();
         initializeThemeConfigurations();
     }
     
@@ -144,12 +150,14 @@ public class ArenaThemeManager {
         ThemeConfiguration config = themeConfigs.get(arena.getTheme());
         if (config == null) return;
         
-        BukkitTask effectTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        Runnable effects = () -> {
             if (arena.getBoundaryMin() != null && arena.getBoundaryMax() != null) {
                 spawnThemeParticles(arena, config);
                 playThemeSounds(arena, config);
             }
-        }, 0L, config.getParticleInterval());
+        };
+        GameLoop.Job effectTask = plugin.getGameLoop().schedule(GameLoop.Phase.EFFECTS,
+            "ArenaThemeManager.effects[" + arena.getName() + "]", config.getParticleInterval(), effects);
         
         activeEffects.put(arena.getName(), effectTask);
         
@@ -162,7 +170,7 @@ public class ArenaThemeManager {
     public void stopThemeEffects(Arena arena) {
         if (arena == null) return;
         
-        BukkitTask task = activeEffects.remove(arena.getName());
+        GameLoop.Job task = activeEffects.remove(arena.getName());
         if (task != null) {
             task.cancel();
             Logger.info("Stopped theme effects for arena: " + arena.getName());
@@ -219,38 +227,28 @@ public class ArenaThemeManager {
      * Get players currently in the arena
      */
     private Collection<Player> getPlayersInArena(Arena arena) {
-        Collection<Player> players = new ArrayList<>();
-        
-        if (arena.getBoundaryMin() == null || arena.getBoundaryMax() == null) {
-            return players;
+        long tick = plugin.getGameLoop().getTimers().getCurrentTick();
+        if (tick != groupedTick) {
+            groupPlayersByArena();
+            groupedTick = tick;
         }
-        
-        Location min = arena.getBoundaryMin();
-        Location max = arena.getBoundaryMax();
-        World world = min.getWorld();
-        
-        if (world == null) return players;
-        
-        for (Player player : world.getPlayers()) {
-            Location loc = player.getLocation();
-            if (isLocationInBounds(loc, min, max)) {
-                players.add(player);
-            }
-        }
-        
-        return players;
+        List<Player> players = playersByArena.get(arena.getName());
+        return players != null ? players : Collections.emptyList();
     }
     
     /**
-     * Check if a location is within arena bounds
+     * Sort every online player into the arena they stand in
+     * Done once per tick however many arenas play effects on it, each player being one index lookup.
      */
-    private boolean isLocationInBounds(Location loc, Location min, Location max) {
-        return loc.getX() >= Math.min(min.getX(), max.getX()) &&
-               loc.getX() <= Math.max(min.getX(), max.getX()) &&
-               loc.getY() >= Math.min(min.getY(), max.getY()) &&
-               loc.getY() <= Math.max(min.getY(), max.getY()) &&
-               loc.getZ() >= Math.min(min.getZ(), max.getZ()) &&
-               loc.getZ() <= Math.max(min.getZ(), max.getZ());
+    private void groupPlayersByArena() {
+        playersByArena.clear();
+        Location scratch = new Location(null, 0, 0, 0);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Arena arena = arenaManager.getArenaAt(player.getLocation(scratch));
+            if (arena != null) {
+                playersByArena.computeIfAbsent(arena.getName(), name -> new ArrayList<>()).add(player);
+            }
+        }
     }
     
     /**
@@ -363,7 +361,7 @@ public class ArenaThemeManager {
      * Shutdown all active effects
      */
     public void shutdown() {
-        for (BukkitTask task : activeEffects.values()) {
+        for (GameLoop.Job task : activeEffects.values()) {
             task.cancel();
         }
         activeEffects.clear();
@@ -3,8 +3,24 @@ package com.crysisshot.commands;
 import com.crysisshot.CrysisShot;
 import com.crysisshot.arena.Arena;
 import com.crysisshot.arena.ArenaSetupManager;
+import com.crysisshot.database.PlayerStatsCache;
+import com.crysisshot.game.GameLoop;
 import com.crysisshot.game.GameManager;
+import com.crysisshot.game.GameSession;
+import com.crysisshot.journal.JournalManager;
 import com.crysisshot.localization.MessageManager;
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.performance.LatencyHistogram;
+import com.crysisshot.performance.PerfMonitor;
+import com.crysisshot.ranking.LeaderboardEntry;
+import com.crysisshot.ranking.LeaderboardManager;
+import com.crysisshot.ranking.LeaderboardMetric;
+import com.crysisshot.ranking.Rank;
+import com.crysisshot.ranking.RankingManager;
+import com.crysisshot.replay.ReplayManager;
+import com.crysisshot.utils.AsyncLogSink;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -20,6 +36,11 @@ import java.util.List;
  * Main command handler for CrysisShot plugin
  */
 public class CrysisShotCommand implements CommandExecutor, TabCompleter {
+    // Probes listed by /cs admin perf, slowest total first
+    private static final int MAX_PERF_LINES = 15;
+    // Newest replays listed by /cs admin replay list
+    private static final int MAX_REPLAY_LINES = 10;
+    
     private final CrysisShot plugin;
     private final GameManager gameManager;
     private final MessageManager messageManager;
@@ -62,7 +83,11 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
                 
             case "top":
             case "leaderboard":
-                handleLeaderboard(sender);
+                handleLeaderboard(sender, args);
+                break;
+                
+            case "rank":
+                handleRank(sender);
                 break;
                 
             case "lang":
@@ -103,6 +128,7 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
             messageManager.sendMessage(player, "commands.help.leave");
             messageManager.sendMessage(player, "commands.help.stats");
             messageManager.sendMessage(player, "commands.help.leaderboard");
+            messageManager.sendMessage(player, "commands.help.rank");
             messageManager.sendMessage(player, "commands.help.language");
               if (player.hasPermission("crysisshot.admin")) {
                 messageManager.sendMessage(player, "commands.admin-help.header");
@@ -234,13 +260,66 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        // TODO: Implement stats viewing logic
-        messageManager.sendMessage(player, "stats.header", "player", player.getName());
-        messageManager.sendMessage(player, "stats.total-kills", "kills", "0");
-        messageManager.sendMessage(player, "stats.games-played", "games", "0");
+        if (args.length < 2 || args[1].equalsIgnoreCase(player.getName())) {
+            // Own stats were prefetched on join
+            PlayerStats stats = plugin.getStatsCache().getCached(player.getUniqueId());
+            if (stats == null) {
+                messageManager.sendMessage(player, "stats.loading");
+                return;
+            }
+            showStats(player, stats);
+            return;
+        }
+        
+        Player target = Bukkit.getPlayerExact(args[1]);
+        if (target != null) {
+            PlayerStats stats = plugin.getStatsCache().getCached(target.getUniqueId());
+            if (stats != null) {
+                showStats(player, stats);
+                return;
+            }
+        }
+        
+        // Offline players are read straight from the database so they don't end up in the cache
+        OfflinePlayer offline = target != null ? target : Bukkit.getOfflinePlayerIfCached(args[1]);
+        if (offline == null) {
+            messageManager.sendMessage(player, "error.player-not-found");
+            return;
+        }
+        
+        plugin.getDatabaseManager().loadPlayerStats(offline.getUniqueId()).whenComplete((stats, error) -> 
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (!player.isOnline()) {
+                    return;
+                }
+                if (stats == null) {
+                    messageManager.sendMessage(player, "error.player-not-found");
+                } else {
+                    showStats(player, stats);
+                }
+            }));
     }
     
-    private void handleLeaderboard(CommandSender sender) {
+    private void showStats(Player player, PlayerStats stats) {
+        messageManager.sendMessage(player, "stats.header", "player", stats.getPlayerName());
+        messageManager.sendMessage(player, "stats.total-kills", "kills", String.valueOf(stats.getTotalKills()));
+        messageManager.sendMessage(player, "stats.bow-kills", "kills", String.valueOf(stats.getBowKills()));
+        messageManager.sendMessage(player, "stats.sword-kills", "kills", String.valueOf(stats.getMeleeKills()));
+        messageManager.sendMessage(player, "stats.games-played", "games", String.valueOf(stats.getGamesPlayed()));
+        messageManager.sendMessage(player, "stats.games-won", "wins", String.valueOf(stats.getGamesWon()));
+        messageManager.sendMessage(player, "stats.win-rate", "rate", String.format("%.1f", stats.getWinRate()));
+        messageManager.sendMessage(player, "stats.best-streak", "streak", String.valueOf(stats.getLongestKillStreak()));
+        messageManager.sendMessage(player, "stats.current-rank", "rank", stats.getCurrentRank().getFormattedName());
+        
+        int position = plugin.getRankingManager().getPosition(stats.getPlayerId());
+        if (position > 0) {
+            messageManager.sendMessage(player, "stats.position", 
+                "position", String.valueOf(position), 
+                "total", String.valueOf(plugin.getRankingManager().getTotalPlayers()));
+        }
+    }
+    
+    private void handleLeaderboard(CommandSender sender, String[] args) {
         if (!(sender instanceof Player)) {
             sender.sendMessage("This command can only be used by players!");
             return;
@@ -253,8 +332,102 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        // TODO: Implement leaderboard logic
-        messageManager.sendMessage(player, "leaderboard.header");
+        // Usage: /cs top [metric] [page], where the metric may be omitted
+        LeaderboardMetric metric = LeaderboardMetric.BOW_KILLS;
+        int pageArg = 1;
+        if (args.length >= 2) {
+            LeaderboardMetric requested = LeaderboardMetric.fromKey(args[1]);
+            if (requested != null) {
+                metric = requested;
+                pageArg = 2;
+            } else if (!args[1].matches("\\d+")) {
+                messageManager.sendMessage(player, "leaderboard.invalid-metric", 
+                    "metric", args[1], "metrics", getLeaderboardMetricKeys());
+                return;
+            }
+        }
+        
+        int page = 1;
+        if (args.length > pageArg) {
+            try {
+                page = Math.max(1, Integer.parseInt(args[pageArg]));
+            } catch (NumberFormatException e) {
+                messageManager.sendMessage(player, "commands.invalid-args", 
+                    "usage", "/cs top [metric] [page]");
+                return;
+            }
+        }
+        
+        // Served from memory; the boards are kept current from stat updates
+        LeaderboardManager leaderboardManager = plugin.getLeaderboardManager();
+        int pageSize = plugin.getConfigManager().getLeaderboardPageSize();
+        int totalPages = leaderboardManager.getPageCount(metric, pageSize);
+        page = Math.min(page, totalPages);
+        List<LeaderboardEntry> entries = leaderboardManager.getPage(metric, page, pageSize);
+        
+        messageManager.sendMessage(player, "leaderboard.header", "metric", metric.getKey());
+        if (entries.isEmpty()) {
+            messageManager.sendMessage(player, "leaderboard.empty");
+            return;
+        }
+        
+        RankingManager rankingManager = plugin.getRankingManager();
+        int position = (page - 1) * pageSize;
+        for (LeaderboardEntry entry : entries) {
+            position++;
+            Rank rank = Rank.getRankByKills(Math.max(0, rankingManager.getBowKills(entry.getPlayerId())));
+            messageManager.sendMessage(player, "leaderboard.entry", 
+                "position", String.valueOf(position), 
+                "rank", rank.getFormattedName(), 
+                "player", entry.getPlayerName(), 
+                "score", entry.getFormattedValue());
+        }
+        messageManager.sendMessage(player, "leaderboard.footer", 
+            "current", String.valueOf(page), "total", String.valueOf(totalPages));
+    }
+    
+    private void handleRank(CommandSender sender) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage("This command can only be used by players!");
+            return;
+        }
+        
+        Player player = (Player) sender;
+        
+        if (!player.hasPermission("crysisshot.stats")) {
+            messageManager.sendMessage(player, "commands.no-permission");
+            return;
+        }
+        
+        RankingManager rankingManager = plugin.getRankingManager();
+        int position = rankingManager.getPosition(player.getUniqueId());
+        if (position < 0) {
+            messageManager.sendMessage(player, "rank.unranked");
+            return;
+        }
+        
+        messageManager.sendMessage(player, "rank.position", 
+            "position", String.valueOf(position), 
+            "total", String.valueOf(rankingManager.getTotalPlayers()), 
+            "percent", String.format("%.1f", rankingManager.getTopPercent(player.getUniqueId())), 
+            "bow_kills", String.valueOf(rankingManager.getBowKills(player.getUniqueId())));
+        
+        for (LeaderboardEntry entry : rankingManager.getPlayersAbove(player.getUniqueId(), 1)) {
+            messageManager.sendMessage(player, "rank.neighbour-above", 
+                "player", entry.getPlayerName(), "bow_kills", entry.getFormattedValue());
+        }
+        for (LeaderboardEntry entry : rankingManager.getPlayersBelow(player.getUniqueId(), 1)) {
+            messageManager.sendMessage(player, "rank.neighbour-below", 
+                "player", entry.getPlayerName(), "bow_kills", entry.getFormattedValue());
+        }
+    }
+    
+    private String getLeaderboardMetricKeys() {
+        List<String> keys = new ArrayList<>();
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            keys.add(metric.getKey());
+        }
+        return String.join(", ", keys);
     }
     
     private void handleLanguage(CommandSender sender, String[] args) {
@@ -273,6 +446,7 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
         
         String language = args[1].toLowerCase();
         messageManager.setPlayerLanguage(player, language);
+        gameManager.refreshPlayerLanguage(player);
     }
       private void handleAdmin(CommandSender sender, String[] args) {
         if (!sender.hasPermission("crysisshot.admin")) {
@@ -304,17 +478,168 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
                 handleThemeCommands(sender, args);
                 break;
                 
+            case "cache":
+                handleCacheInfo(sender);
+                break;
+                
+            case "perf":
+                handlePerfInfo(sender, args);
+                break;
+                
+            case "replay":
+                handleReplayCommands(sender, args);
+                break;
+                
             default:
                 if (sender instanceof Player) {
                     messageManager.sendMessage((Player) sender, "commands.invalid-args", 
-                        "usage", "/cs admin <reload|setup|theme>"); // Updated usage
+                        "usage", "/cs admin <reload|setup|theme|cache|perf|replay>");
                 } else {
-                    sender.sendMessage("Invalid admin command! Use: reload, setup, theme"); // Updated usage
+                    sender.sendMessage("Invalid admin command! Use: reload, setup, theme, cache, perf, replay");
                 }
                 break;
         }
     }
     
+    private void handleCacheInfo(CommandSender sender) {
+        PlayerStatsCache statsCache = plugin.getStatsCache();
+        
+        sender.sendMessage("§6--- CrysisShot Stats Cache ---");
+        sender.sendMessage("§eCached players: §f" + statsCache.size() + " §7(online " + statsCache.getOnlineCount() 
+            + ", max " + statsCache.getMaxSize() + ")");
+        sender.sendMessage("§eUnwritten changes: §f" + statsCache.getDirtyCount() + " players §7(" 
+            + statsCache.getFlushedRows() + " rows written since startup)");
+        sender.sendMessage("§eJoin-to-ready: §f" + String.format("avg %.2fms, max %.2fms", 
+            statsCache.getAverageJoinMillis(), statsCache.getMaxJoinMillis()) 
+            + " §7(" + statsCache.getJoinCount() + " joins, " + statsCache.getWarmJoinCount() + " already cached)");
+        sender.sendMessage("§e" + plugin.getDatabaseManager().getPoolStats());
+        sender.sendMessage("§eTracked arrows: §f" + gameManager.getProjectileTracker().size() 
+            + " §7(ttl " + gameManager.getProjectileTracker().getTtlTicks() + " ticks)");
+    }
+    
+    private void handleReplayCommands(CommandSender sender, String[] args) {
+        ReplayManager replayManager = plugin.getReplayManager();
+        String action = args.length >= 3 ? args[2].toLowerCase() : "list";
+        
+        switch (action) {
+            case "list":
+                List<String> replays = replayManager.listReplays();
+                sender.sendMessage("§6--- CrysisShot Replays §7(" + replays.size() + " stored, " 
+                    + replayManager.getRecordingCount() + " recording)§6 ---");
+                for (int i = 0; i < Math.min(MAX_REPLAY_LINES, replays.size()); i++) {
+                    sender.sendMessage("§e" + replays.get(i));
+                }
+                sender.sendMessage("§7Written: " + replayManager.getWrittenBytes() / 1024 + " KB from " 
+                    + replayManager.getRawBytes() / 1024 + " KB of samples, " + replayManager.getDroppedChunks() + " chunks dropped");
+                break;
+                
+            case "play":
+                if (!(sender instanceof Player)) {
+                    sender.sendMessage("Replays can only be watched by players!");
+                    return;
+                }
+                if (args.length < 4) {
+                    sender.sendMessage("§cUsage: /cs admin replay play <name>");
+                    return;
+                }
+                if (!replayManager.play((Player) sender, args[3])) {
+                    sender.sendMessage("§cNo replay named §f" + args[3] + "§c. Use §f/cs admin replay list§c.");
+                }
+                break;
+                
+            case "stop":
+                if (!(sender instanceof Player) || !replayManager.stopViewing(((Player) sender).getUniqueId())) {
+                    sender.sendMessage("§cYou are not watching a replay.");
+                    return;
+                }
+                sender.sendMessage("§aReplay stopped.");
+                break;
+                
+            default:
+                sender.sendMessage("§cUsage: /cs admin replay <list|play <name>|stop>");
+                break;
+        }
+    }
+    
+    private void handlePerfInfo(CommandSender sender, String[] args) {
+        PerfMonitor perfMonitor = plugin.getPerfMonitor();
+        
+        if (!perfMonitor.isEnabled()) {
+            sender.sendMessage("§cProfiling is disabled (performance.profiling in config.yml)");
+            return;
+        }
+        
+        if (args.length >= 3 && "reset".equalsIgnoreCase(args[2])) {
+            perfMonitor.reset();
+            plugin.getStatsCache().resetJoinMetrics();
+            sender.sendMessage("§aPerformance counters and join-to-ready times reset.");
+            return;
+        }
+        
+        double seconds = Math.max(0.001, perfMonitor.getWindowSeconds());
+        int ticks = perfMonitor.getWindowTicks();
+        List<PerfMonitor.Probe> probes = perfMonitor.getProbes();
+        long totalNanos = 0;
+        long loopNanos = 0;
+        for (PerfMonitor.Probe probe : probes) {
+            if (GameLoop.TICK_PROBE.equals(probe.getName())) {
+                loopNanos = probe.getHistogram().getTotalNanos(); // Wraps the job probes, so not summed
+            } else {
+                totalNanos += probe.getHistogram().getTotalNanos();
+            }
+        }
+        
+        sender.sendMessage("§6--- CrysisShot Performance §7(last " + String.format("%.0fs, %d ticks", seconds, ticks) + ")§6 ---");
+        sender.sendMessage("§eMain thread cost: §f" + String.format("%.3fms/tick", totalNanos / 1_000_000.0 / ticks) 
+            + " §7(" + String.format("%.1f%%", totalNanos / 1_000_000.0 / ticks / 50.0 * 100) + " of a 50ms tick)");
+        AsyncLogSink logSink = plugin.getLogSink();
+        if (logSink != null) {
+            sender.sendMessage("§eLog writer: §f" + logSink.getWrittenCount() + " lines written §7(" 
+                + logSink.getPendingCount() + "/" + logSink.getCapacity() + " queued, " 
+                + logSink.getDroppedCount() + " dropped)");
+        }
+        GameLoop gameLoop = plugin.getGameLoop();
+        sender.sendMessage("§eGame loop: §f" + gameLoop.getJobCount() + " jobs, " 
+            + String.format("%.3fms/tick", loopNanos / 1_000_000.0 / ticks) + " §7(" 
+            + String.format("%.1fms", gameLoop.getBudgetNanos() / 1_000_000.0) + " budget, " 
+            + gameLoop.getDeferredRuns() + " phases deferred)");
+        sender.sendMessage("§eTimers: §f" + gameLoop.getTimers().getPendingCount() + " pending §7(" 
+            + gameLoop.getTimers().getExpiredCount() + " fired)");
+        int scoreboardViewers = 0;
+        long scoreboardLines = 0;
+        for (GameSession session : plugin.getGameManager().getAllSessions().values()) {
+            scoreboardViewers += session.getScoreboard().getViewerCount();
+            scoreboardLines += session.getScoreboard().getLinesSent();
+        }
+        sender.sendMessage("§eScoreboards: §f" + scoreboardViewers + " viewers §7(" 
+            + scoreboardLines + " line updates sent)");
+        JournalManager journalManager = plugin.getJournalManager();
+        if (journalManager.isEnabled()) {
+            sender.sendMessage("§eMatch journal: §f" + journalManager.getWrittenRecords() + " events written §7(" 
+                + journalManager.getOpenJournals() + " open, " + journalManager.getPendingBuffers() + " buffers queued, " 
+                + journalManager.getDroppedRecords() + " dropped)");
+        }
+        if (probes.isEmpty()) {
+            sender.sendMessage("§7Nothing recorded yet.");
+            return;
+        }
+        
+        for (int i = 0; i < probes.size(); i++) {
+            if (i == MAX_PERF_LINES) {
+                sender.sendMessage("§7... and " + (probes.size() - MAX_PERF_LINES) + " more");
+                break;
+            }
+            PerfMonitor.Probe probe = probes.get(i);
+            LatencyHistogram histogram = probe.getHistogram();
+            sender.sendMessage("§e" + probe.getName() + ": §f" 
+                + String.format("%.1f/s, %.3fms/tick", histogram.getCount() / seconds, histogram.getTotalNanos() / 1_000_000.0 / ticks)
+                + " §7" + String.format("p50 %.3fms, p99 %.3fms, max %.3fms", 
+                    histogram.getValueAtPercentile(50) / 1_000_000.0, 
+                    histogram.getValueAtPercentile(99) / 1_000_000.0, 
+                    histogram.getMaxNanos() / 1_000_000.0));
+        }
+    }
+    
     private void showAdminHelp(CommandSender sender) {
         if (sender instanceof Player) {
             Player player = (Player) sender;
@@ -327,6 +652,9 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage("§e/cs admin reload §7- Reload plugin configuration");
             sender.sendMessage("§e/cs admin setup <command> §7- Arena setup commands");
             sender.sendMessage("§e/cs admin theme <command> §7- Arena theme commands"); // Added theme help
+            sender.sendMessage("§e/cs admin cache §7- Show cache, database and arrow tracking status");
+            sender.sendMessage("§e/cs admin perf [reset] §7- Show handler and task tick cost; reset also clears join times");
+            sender.sendMessage("§e/cs admin replay <list|play <name>|stop> §7- List and watch match replays");
             sender.sendMessage("§e/cs admin setup help §7- Show setup command help");
         }
     }
@@ -492,20 +820,22 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        try {
-            plugin.reloadPlugin();
-            if (sender instanceof Player) {
-                messageManager.sendMessage((Player) sender, "commands.reload-success");
-            } else {
-                sender.sendMessage("§aConfiguration reloaded successfully!");
-            }
-        } catch (Exception e) {
-            if (sender instanceof Player) {
-                messageManager.sendMessage((Player) sender, "errors.general");
+        // Reported once the new messages are in use; the future completes on the main thread
+        plugin.reloadPlugin().whenComplete((ignored, error) -> {
+            if (error == null) {
+                if (sender instanceof Player) {
+                    messageManager.sendMessage((Player) sender, "commands.reload-success");
+                } else {
+                    sender.sendMessage("§aConfiguration reloaded successfully!");
+                }
             } else {
-                sender.sendMessage("§cFailed to reload configuration: " + e.getMessage());
+                if (sender instanceof Player) {
+                    messageManager.sendMessage((Player) sender, "errors.general");
+                } else {
+                    sender.sendMessage("§cFailed to reload configuration: " + error.getMessage());
+                }
             }
-        }
+        });
     }
     
     private void handleThemeCommands(CommandSender sender, String[] args) {
@@ -662,7 +992,7 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 1) {
             // Main subcommands
-            List<String> subCommands = new ArrayList<>(Arrays.asList("help", "join", "leave", "stats", "top", "lang", "version", "queue"));
+            List<String> subCommands = new ArrayList<>(Arrays.asList("help", "join", "leave", "stats", "top", "rank", "lang", "version", "queue"));
             
             if (sender.hasPermission("crysisshot.admin")) {
                 subCommands.addAll(Arrays.asList("admin", "reload"));
@@ -677,7 +1007,7 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
             String mainCommand = args[0].toLowerCase();
             
             if ("admin".equals(mainCommand) && sender.hasPermission("crysisshot.admin")) {
-                List<String> adminCommands = Arrays.asList("reload", "setup", "theme"); // Added "theme"
+                List<String> adminCommands = Arrays.asList("reload", "setup", "theme", "cache", "perf", "replay");
                 for (String adminCommand : adminCommands) {
                     if (adminCommand.startsWith(partial)) {
                         completions.add(adminCommand);
@@ -691,6 +1021,12 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
                         completions.add(language);
                     }
                 }
+            } else if ("top".equals(mainCommand) || "leaderboard".equals(mainCommand)) {
+                for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                    if (metric.getKey().startsWith(partial)) {
+                        completions.add(metric.getKey());
+                    }
+                }
             } else if ("queue".equals(mainCommand) && sender.hasPermission("crysisshot.queue")) {
                  List<String> queueCommands = Arrays.asList("join", "leave", "status");
                  for (String queueCmd : queueCommands) {
@@ -721,6 +1057,14 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
                             completions.add(themeCmd);
                         }
                     }
+                } else if ("perf".equals(subCommand) && "reset".startsWith(partial)) {
+                    completions.add("reset");
+                } else if ("replay".equals(subCommand)) {
+                    for (String replayCmd : Arrays.asList("list", "play", "stop")) {
+                        if (replayCmd.startsWith(partial)) {
+                            completions.add(replayCmd);
+                        }
+                    }
                 }
             }
         } else if (args.length == 4) {
@@ -729,7 +1073,13 @@ public class CrysisShotCommand implements CommandExecutor, TabCompleter {
             String actionCommand = args[2].toLowerCase();
 
             if ("admin".equals(mainCommand) && sender.hasPermission("crysisshot.admin")) {
-                if ("setup".equals(subCommand) && sender.hasPermission("crysisshot.admin.setup")) {
+                if ("replay".equals(subCommand) && "play".equals(actionCommand)) {
+                    for (String replay : plugin.getReplayManager().listReplays()) {
+                        if (replay.toLowerCase().startsWith(partial)) {
+                            completions.add(replay);
+                        }
+                    }
+                } else if ("setup".equals(subCommand) && sender.hasPermission("crysisshot.admin.setup")) {
                     if ("start".equals(actionCommand) || "test".equals(actionCommand)) {
                         // Suggest arena names for start/test
                         for (Arena arena : plugin.getArenaManager().getAllArenas()) {
@@ -72,6 +72,9 @@ public class ConfigManager {
         
         // Validate and update config if needed
         validateMainConfig();
+        
+        // Debug calls read a cached flag instead of this config
+        Logger.configure(this);
     }
     
     /**
@@ -181,6 +184,10 @@ public class ConfigManager {
             config.set("database.file", "crysisshot.db");
             modified = true;
         }
+        if (!config.contains("database.flush-interval")) {
+            config.set("database.flush-interval", 30);
+            modified = true;
+        }
         
         // Debug settings
         if (!config.contains("debug.enabled")) {
@@ -329,4 +336,174 @@ public class ConfigManager {
     public boolean isDebugMode() {
         return getBoolean("debug.enabled", false);
     }
+    
+    /**
+     * Debug categories to log when debug mode is on (empty means all)
+     */
+    public List<String> getDebugCategories() {
+        return getStringList("debug.categories");
+    }
+    
+    /**
+     * Whether log lines and game events are written to files under the data folder
+     */
+    public boolean isSaveLogs() {
+        return getBoolean("debug.save-logs", true);
+    }
+    
+    public int getLogBufferSize() {
+        return Math.max(256, getInt("debug.log-buffer-size", 8192));
+    }
+    
+    /**
+     * Log file size in bytes at which it is compressed and rotated
+     */
+    public long getLogMaxFileBytes() {
+        return Math.max(1, getInt("debug.log-max-size", 5)) * 1024L * 1024L;
+    }
+    
+    public int getLogArchiveCount() {
+        return Math.max(1, getInt("debug.log-archives", 10));
+    }
+    
+    /**
+     * Whether stats are stored on a MySQL/MariaDB server instead of the local SQLite file
+     */
+    public boolean isMySqlDatabase() {
+        String type = getString("database.type", "sqlite");
+        return type.equalsIgnoreCase("mysql") || type.equalsIgnoreCase("mariadb");
+    }
+    
+    /**
+     * Seconds between write-behind flushes of cached player stats
+     */
+    public int getStatsFlushInterval() {
+        return Math.max(1, getInt("database.flush-interval", 30));
+    }
+    
+    /**
+     * Cached player stats above which offline players are evicted early
+     */
+    public int getStatsCacheMaxSize() {
+        return Math.max(100, getInt("database.cache-max-size", 2000));
+    }
+    
+    /**
+     * Number of threads serving database reads
+     */
+    public int getDatabaseReadThreads() {
+        return Math.max(1, getInt("database.executor.read-threads", 2));
+    }
+    
+    /**
+     * Maximum number of queued database writes before new ones are rejected
+     */
+    public int getDatabaseWriteQueueSize() {
+        return Math.max(16, getInt("database.executor.write-queue-size", 2048));
+    }
+    
+    /**
+     * Maximum number of queued database reads before new ones are rejected
+     */
+    public int getDatabaseReadQueueSize() {
+        return Math.max(16, getInt("database.executor.read-queue-size", 512));
+    }
+    
+    /**
+     * Number of players kept in memory per leaderboard
+     */
+    public int getLeaderboardSize() {
+        return Math.max(10, getInt("ranking.leaderboard-size", 100));
+    }
+    
+    /**
+     * Number of leaderboard entries shown per page of /cs top
+     */
+    public int getLeaderboardPageSize() {
+        return Math.max(1, getInt("ranking.leaderboard-page-size", 10));
+    }
+
+    /**
+     * Ticks between in-match sidebar scoreboard refreshes
+     */
+    public int getScoreboardUpdateInterval() {
+        return Math.max(1, getInt("performance.scoreboard-update-interval", 20));
+    }
+    
+    /**
+     * Ticks after which an arrow that never landed stops counting for kill attribution
+     */
+    public int getProjectileTtlTicks() {
+        return Math.max(20, getInt("performance.projectile-ttl", 200));
+    }
+    
+    /**
+     * Milliseconds per tick the game loop may spend on recurring game work
+     */
+    public int getGameLoopBudgetMillis() {
+        return Math.max(1, getInt("performance.game-loop-budget", 10));
+    }
+    
+    /**
+     * Whether match events are written to binary journals
+     */
+    public boolean isJournalEnabled() {
+        return getBoolean("statistics.journal", true);
+    }
+    
+    /**
+     * Journal records buffered per match before a write is queued
+     */
+    public int getJournalBufferRecords() {
+        return Math.max(64, getInt("statistics.journal-buffer-size", 1024));
+    }
+    
+    /**
+     * Number of match journal files kept on disk
+     */
+    public int getJournalMaxFiles() {
+        return Math.max(1, getInt("statistics.journal-max-files", 500));
+    }
+    
+    /**
+     * Whether match replays are recorded
+     */
+    public boolean isReplayEnabled() {
+        return getBoolean("replay.enabled", true);
+    }
+    
+    /**
+     * Ticks between replay samples
+     */
+    public int getReplaySampleInterval() {
+        return Math.max(1, getInt("replay.sample-interval", 2));
+    }
+    
+    /**
+     * Uncompressed bytes a match buffers before a replay chunk is written
+     */
+    public int getReplayChunkBytes() {
+        return Math.max(4, getInt("replay.chunk-size", 64)) * 1024;
+    }
+    
+    /**
+     * Seconds after which a partly filled replay chunk is written
+     */
+    public int getReplayChunkSeconds() {
+        return Math.max(1, getInt("replay.chunk-seconds", 30));
+    }
+    
+    /**
+     * Number of replay files kept on disk
+     */
+    public int getReplayMaxFiles() {
+        return Math.max(1, getInt("replay.max-files", 200));
+    }
+    
+    /**
+     * Whether event handlers and scheduled tasks are timed for /cs admin perf
+     */
+    public boolean isProfilingEnabled() {
+        return getBoolean("performance.profiling", true);
+    }
 }
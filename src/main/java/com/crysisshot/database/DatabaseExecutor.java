@@ -0,0 +1,117 @@
+package com.crysisshot.database;
+
+import com.crysisshot.utils.Logger;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Executors for database work
+ * All writes go through a single ordered writer thread so they never contend on the
+ * database lock; reads use a small separate pool. Both queues are bounded, and work
+ * submitted to a full queue fails fast instead of piling up behind a slow database.
+ */
+public class DatabaseExecutor {
+
+    private final ThreadPoolExecutor writer;
+    private final ThreadPoolExecutor readers;
+
+    private final AtomicLong rejectedWrites = new AtomicLong();
+    private final AtomicLong rejectedReads = new AtomicLong();
+
+    public DatabaseExecutor(int readThreads, int writeQueueSize, int readQueueSize) {
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(writeQueueSize), threadFactory("CrysisShot-DB-Writer"));
+        this.readers = new ThreadPoolExecutor(readThreads, readThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(readQueueSize), threadFactory("CrysisShot-DB-Reader"));
+    }
+
+    /**
+     * Run a write on the writer thread; writes run in submission order
+     */
+    public <T> CompletableFuture<T> write(Supplier<T> task) {
+        return submit(writer, task, rejectedWrites, "write");
+    }
+
+    /**
+     * Run a read on the reader pool
+     */
+    public <T> CompletableFuture<T> read(Supplier<T> task) {
+        return submit(readers, task, rejectedReads, "read");
+    }
+
+    private <T> CompletableFuture<T> submit(ThreadPoolExecutor executor, Supplier<T> task,
+                                            AtomicLong rejected, String kind) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            long count = rejected.incrementAndGet();
+            // Log the first rejection and then every 100th to avoid flooding the console
+            if (count == 1 || count % 100 == 0) {
+                Logger.warning("Database " + kind + " queue is full, rejected " + count + " tasks so far");
+            }
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Stop accepting work and wait for queued tasks to finish
+     * Readers are drained first so the writer's final tasks see a quiet database.
+     */
+    public void shutdown(long timeoutMillis) {
+        readers.shutdown();
+        writer.shutdown();
+        try {
+            if (!readers.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                readers.shutdownNow();
+            }
+            if (!writer.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                Logger.warning("Database writer did not finish in time, " + writer.getQueue().size() + " writes dropped");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            readers.shutdownNow();
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getWriteQueueSize() {
+        return writer.getQueue().size();
+    }
+
+    public int getReadQueueSize() {
+        return readers.getQueue().size();
+    }
+
+    public long getCompletedWrites() {
+        return writer.getCompletedTaskCount();
+    }
+
+    public long getRejectedWrites() {
+        return rejectedWrites.get();
+    }
+
+    public long getRejectedReads() {
+        return rejectedReads.get();
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
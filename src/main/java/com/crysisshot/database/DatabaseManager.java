@@ -1,70 +1,32 @@
 package com.crysisshot.database;
 
 import com.crysisshot.CrysisShot;
+import com.crysisshot.config.ConfigManager;
 import com.crysisshot.models.PlayerStats;
-import com.crysisshot.ranking.Rank;
+import com.crysisshot.ranking.LeaderboardEntry;
+import com.crysisshot.ranking.LeaderboardMetric;
 import com.crysisshot.utils.Logger;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.io.File;
-import java.sql.*;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Database manager for CrysisShot plugin
- * Handles all database operations with connection pooling using HikariCP
+ * Handles all database operations with connection pooling using HikariCP.
+ * The SQL itself lives in a StatsRepository chosen by database.type.
  */
 public class DatabaseManager {
     
     private final CrysisShot plugin;
     private HikariDataSource dataSource;
+    private DatabaseExecutor executor;
+    private StatsRepository repository;
     private boolean initialized = false;
-      // SQL Queries
-    private static final String CREATE_PLAYERS_TABLE = """
-        CREATE TABLE IF NOT EXISTS crysis_players (
-            player_id TEXT PRIMARY KEY,
-            player_name TEXT NOT NULL,
-            total_kills INTEGER DEFAULT 0,
-            total_deaths INTEGER DEFAULT 0,
-            bow_kills INTEGER DEFAULT 0,
-            melee_kills INTEGER DEFAULT 0,
-            current_rank TEXT DEFAULT 'NOVATO',
-            games_played INTEGER DEFAULT 0,
-            games_won INTEGER DEFAULT 0,
-            longest_kill_streak INTEGER DEFAULT 0,
-            total_arrows_fired INTEGER DEFAULT 0,
-            total_arrows_hit INTEGER DEFAULT 0,
-            total_damage_dealt REAL DEFAULT 0.0,
-            powerups_collected INTEGER DEFAULT 0,
-            total_playtime INTEGER DEFAULT 0,
-            first_join TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-            last_seen TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-            is_active BOOLEAN DEFAULT 1
-        )
-    """;
-    
-    private static final String INSERT_PLAYER = """
-        INSERT OR REPLACE INTO crysis_players 
-        (player_id, player_name, total_kills, total_deaths, bow_kills, melee_kills, current_rank,
-         games_played, games_won, longest_kill_streak, total_arrows_fired, total_arrows_hit, 
-         total_damage_dealt, powerups_collected, total_playtime, first_join, last_seen, is_active)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-    """;
-    
-    private static final String SELECT_PLAYER = """
-        SELECT * FROM crysis_players WHERE player_id = ?
-    """;
-    
-    private static final String UPDATE_LAST_SEEN = """
-        UPDATE crysis_players SET last_seen = CURRENT_TIMESTAMP WHERE player_id = ?
-    """;
-    
-    private static final String SELECT_TOP_PLAYERS = """
-        SELECT * FROM crysis_players WHERE is_active = 1 
-        ORDER BY %s DESC LIMIT ?
-    """;
     
     public DatabaseManager(CrysisShot plugin) {
         this.plugin = plugin;
@@ -74,10 +36,27 @@ public class DatabaseManager {
      */
     public boolean initialize() {
         try {
-            setupDataSource();
+            ConfigManager configManager = plugin.getConfigManager();
+            if (configManager.isMySqlDatabase()) {
+                dataSource = createMySqlDataSource(configManager);
+                repository = new MySqlStatsRepository(dataSource);
+            } else {
+                dataSource = createSqliteDataSource(configManager);
+                repository = new SqliteStatsRepository(dataSource);
+            }
+            
+            executor = new DatabaseExecutor(
+                configManager.getDatabaseReadThreads(),
+                configManager.getDatabaseWriteQueueSize(),
+                configManager.getDatabaseReadQueueSize());
             initialized = true; // Set this after dataSource is ready but before createTables
-            createTables();
-            Logger.info("Database initialized successfully");
+            
+            repository.createTables();
+            repository.createLeaderboardIndexes(getLeaderboardColumns());
+            Logger.info("Database tables created/verified");
+            repository.logSettings();
+            Logger.info("Database initialized successfully (" + repository.getClass().getSimpleName()
+                + ", pool size " + dataSource.getMaximumPoolSize() + ")");
             return true;
         } catch (Exception e) {
             Logger.severe("Failed to initialize database: " + e.getMessage());
@@ -88,83 +67,91 @@ public class DatabaseManager {
     }
     
     /**
-     * Setup HikariCP connection pool
+     * Setup the HikariCP pool for the local SQLite file
      */
-    private void setupDataSource() {
+    private HikariDataSource createSqliteDataSource(ConfigManager configManager) {
         File dataFolder = plugin.getDataFolder();
         if (!dataFolder.exists()) {
             dataFolder.mkdirs();
         }
         
-        File databaseFile = new File(dataFolder, "crysisshot.db");
+        File databaseFile = new File(dataFolder, configManager.getString("database.file", "crysisshot.db"));
         
         HikariConfig config = new HikariConfig();
         config.setDriverClassName("org.sqlite.JDBC");
         config.setJdbcUrl("jdbc:sqlite:" + databaseFile.getAbsolutePath());
-        config.setMaximumPoolSize(10);
-        config.setMinimumIdle(2);
-        config.setConnectionTimeout(30000);
+        
+        // SQLite allows a single writer, so size the pool for the writer thread plus the readers
+        int poolSize = configManager.getDatabaseReadThreads() + 1;
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        config.setConnectionTimeout(configManager.getInt("database.pool.connection-timeout", 30000));
+        config.setIdleTimeout(0);
+        config.setMaxLifetime(0);
+        config.setPoolName("CrysisShot-Pool");
+        
+        // Pragmas are applied by the xerial driver to every new connection
+        config.addDataSourceProperty("journal_mode", configManager.getString("database.sqlite.journal-mode", "WAL"));
+        config.addDataSourceProperty("synchronous", configManager.getString("database.sqlite.synchronous", "NORMAL"));
+        config.addDataSourceProperty("busy_timeout", String.valueOf(configManager.getInt("database.sqlite.busy-timeout", 5000)));
+        config.addDataSourceProperty("cache_size", String.valueOf(-configManager.getInt("database.sqlite.cache-size-kb", 16384)));
+        config.addDataSourceProperty("mmap_size", String.valueOf(configManager.getInt("database.sqlite.mmap-size-mb", 64) * 1024L * 1024L));
+        config.addDataSourceProperty("temp_store", "MEMORY");
+        
+        return new HikariDataSource(config);
+    }
+    
+    /**
+     * Setup the HikariCP pool for a shared MySQL/MariaDB server
+     */
+    private HikariDataSource createMySqlDataSource(ConfigManager configManager) {
+        String host = configManager.getString("database.mysql.host", "localhost");
+        int port = configManager.getInt("database.mysql.port", 3306);
+        String database = configManager.getString("database.mysql.database", "crysisshot");
+        boolean ssl = configManager.getBoolean("database.mysql.ssl", false);
+        
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        config.setJdbcUrl("jdbc:mysql://" + host + ":" + port + "/" + database
+            + "?useSSL=" + ssl + "&characterEncoding=utf8");
+        config.setUsername(configManager.getString("database.mysql.username", "root"));
+        config.setPassword(configManager.getString("database.mysql.password", ""));
+        
+        config.setMaximumPoolSize(configManager.getInt("database.pool.maximum-pool-size", 10));
+        config.setMinimumIdle(configManager.getInt("database.pool.minimum-idle", 2));
+        config.setConnectionTimeout(configManager.getInt("database.pool.connection-timeout", 30000));
         config.setIdleTimeout(600000);
         config.setMaxLifetime(1800000);
         config.setPoolName("CrysisShot-Pool");
         
-        // SQLite specific settings
+        // Connector/J statement caching and batch rewriting
         config.addDataSourceProperty("cachePrepStmts", "true");
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
         
-        dataSource = new HikariDataSource(config);
-    }
-    
-    /**
-     * Create database tables if they don't exist
-     */
-    private void createTables() throws SQLException {
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(CREATE_PLAYERS_TABLE);
-            Logger.info("Database tables created/verified");
-        }
+        return new HikariDataSource(config);
     }
     
     /**
-     * Get a connection from the pool
+     * Get the repository, failing if the database is not usable
      */
-    private Connection getConnection() throws SQLException {
+    private StatsRepository requireRepository() throws SQLException {
         if (!initialized || dataSource == null || dataSource.isClosed()) {
             throw new SQLException("Database not initialized or connection pool closed");
         }
-        return dataSource.getConnection();
+        return repository;
     }
     
-    /**     * Save player statistics to database
+    /**
+     * Save player statistics to database
      */
     public CompletableFuture<Boolean> savePlayerStats(PlayerStats stats) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(INSERT_PLAYER)) {
-                
-                stmt.setString(1, stats.getPlayerId().toString());
-                stmt.setString(2, stats.getPlayerName());
-                stmt.setInt(3, stats.getTotalKills());
-                stmt.setInt(4, stats.getTotalDeaths());
-                stmt.setInt(5, stats.getBowKills());
-                stmt.setInt(6, stats.getMeleeKills());
-                stmt.setString(7, stats.getCurrentRank().name());
-                stmt.setInt(8, stats.getGamesPlayed());
-                stmt.setInt(9, stats.getGamesWon());
-                stmt.setInt(10, stats.getLongestKillStreak());
-                stmt.setInt(11, stats.getTotalArrowsFired());
-                stmt.setInt(12, stats.getTotalArrowsHit());
-                stmt.setDouble(13, stats.getTotalDamageDealt());
-                stmt.setInt(14, stats.getPowerupsCollected());
-                stmt.setLong(15, stats.getTotalPlaytime());
-                stmt.setTimestamp(16, stats.getFirstJoin());
-                stmt.setTimestamp(17, stats.getLastSeen());
-                stmt.setBoolean(18, stats.isActive());
-                
-                return stmt.executeUpdate() > 0;
-                
+        return executor.write(() -> {
+            try {
+                requireRepository().save(stats);
+                return true;
             } catch (SQLException e) {
                 Logger.severe("Failed to save player stats for " + stats.getPlayerName() + ": " + e.getMessage());
                 return false;
@@ -172,27 +159,40 @@ public class DatabaseManager {
         });
     }
     
+    /**
+     * Apply counter increments and changed values to a player's row
+     * Only the changed columns are written, so concurrent updates never lose increments
+     */
+    public CompletableFuture<Boolean> applyStatDeltas(UUID playerId, StatDelta delta) {
+        return applyStatDeltas(Map.of(playerId, delta));
+    }
+    
+    /**
+     * Apply several players' deltas in a single transaction on the writer thread
+     */
+    public CompletableFuture<Boolean> applyStatDeltas(Map<UUID, StatDelta> deltas) {
+        return executor.write(() -> {
+            try {
+                requireRepository().applyDeltas(deltas);
+                return true;
+            } catch (SQLException e) {
+                Logger.severe("Failed to apply stat changes for " + deltas.size() + " players: " + e.getMessage());
+                return false;
+            }
+        });
+    }
+    
     /**
      * Load player statistics from database
+     * Completes with null if the player has no row, and exceptionally if the query failed
      */
     public CompletableFuture<PlayerStats> loadPlayerStats(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(SELECT_PLAYER)) {
-                
-                stmt.setString(1, playerId.toString());
-                
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
-                        return mapResultSetToPlayerStats(rs);
-                    }
-                }
-                
-                return null; // Player not found
-                
+        return executor.read(() -> {
+            try {
+                return requireRepository().load(playerId);
             } catch (SQLException e) {
                 Logger.severe("Failed to load player stats for " + playerId + ": " + e.getMessage());
-                return null;
+                throw new CompletionException(e);
             }
         });
     }
@@ -201,16 +201,13 @@ public class DatabaseManager {
      * Update player's last seen timestamp
      */
     public CompletableFuture<Void> updateLastSeen(UUID playerId) {
-        return CompletableFuture.runAsync(() -> {
-            try (Connection conn = getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(UPDATE_LAST_SEEN)) {
-                
-                stmt.setString(1, playerId.toString());
-                stmt.executeUpdate();
-                
+        return executor.write(() -> {
+            try {
+                requireRepository().updateLastSeen(playerId);
             } catch (SQLException e) {
                 Logger.severe("Failed to update last seen for " + playerId + ": " + e.getMessage());
             }
+            return null;
         });
     }
     
@@ -218,31 +215,34 @@ public class DatabaseManager {
      * Get top players by specified criteria
      */
     public CompletableFuture<List<PlayerStats>> getTopPlayers(String orderBy, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<PlayerStats> topPlayers = new ArrayList<>();
-              // Validate orderBy parameter to prevent SQL injection
+        return executor.read(() -> {
+            // Validate orderBy parameter to prevent SQL injection
             String validOrderBy = validateOrderByColumn(orderBy);
             if (validOrderBy == null) {
                 Logger.severe("Invalid orderBy parameter: " + orderBy);
-                return topPlayers;
+                return new ArrayList<>();
             }
             
-            String query = String.format(SELECT_TOP_PLAYERS, validOrderBy);
-            
-            try (Connection conn = getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(query)) {
-                
-                stmt.setInt(1, limit);
-                
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        topPlayers.add(mapResultSetToPlayerStats(rs));
-                    }
-                }                } catch (SQLException e) {
+            try {
+                return requireRepository().getTopPlayers(validOrderBy, limit);
+            } catch (SQLException e) {
                 Logger.severe("Failed to get top players: " + e.getMessage());
+                return new ArrayList<>();
+            }
+        });
+    }
+    
+    /**
+     * Get the top entries for a leaderboard metric using the narrow indexed query
+     */
+    public CompletableFuture<List<LeaderboardEntry>> getTopEntries(LeaderboardMetric metric, int limit) {
+        return executor.read(() -> {
+            try {
+                return requireRepository().getTopEntries(metric.getColumn(), limit);
+            } catch (SQLException e) {
+                Logger.severe("Failed to get top entries for " + metric.getKey() + ": " + e.getMessage());
+                throw new CompletionException(e);
             }
-            
-            return topPlayers;
         });
     }
     
@@ -250,49 +250,26 @@ public class DatabaseManager {
      * Validate and return safe column name for ORDER BY
      */
     private String validateOrderByColumn(String orderBy) {
-        Set<String> validColumns = Set.of(
-            "total_kills", "total_deaths", "games_played", "games_won",
-            "longest_kill_streak", "total_arrows_fired", "total_arrows_hit",
-            "total_damage_dealt", "powerups_collected", "total_playtime"
-        );
-        
-        return validColumns.contains(orderBy.toLowerCase()) ? orderBy : null;
+        LeaderboardMetric metric = LeaderboardMetric.fromKey(orderBy);
+        return metric != null ? metric.getColumn() : null;
     }
-      /**
-     * Map ResultSet to PlayerStats object
+    
+    /**
+     * Columns players can be ranked by
      */
-    private PlayerStats mapResultSetToPlayerStats(ResultSet rs) throws SQLException {
-        PlayerStats stats = new PlayerStats();
-        
-        stats.setPlayerId(UUID.fromString(rs.getString("player_id")));
-        stats.setPlayerName(rs.getString("player_name"));
-        stats.setTotalKills(rs.getInt("total_kills"));
-        stats.setTotalDeaths(rs.getInt("total_deaths"));
-        stats.setBowKills(rs.getInt("bow_kills"));
-        stats.setMeleeKills(rs.getInt("melee_kills"));
-        
-        // Parse rank from string
-        try {
-            String rankStr = rs.getString("current_rank");
-            stats.setCurrentRank(Rank.valueOf(rankStr));
-        } catch (IllegalArgumentException e) {
-            // Default to NOVATO if rank is invalid
-            stats.setCurrentRank(Rank.NOVATO);
+    private List<String> getLeaderboardColumns() {
+        List<String> columns = new ArrayList<>();
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            columns.add(metric.getColumn());
         }
-        
-        stats.setGamesPlayed(rs.getInt("games_played"));
-        stats.setGamesWon(rs.getInt("games_won"));
-        stats.setLongestKillStreak(rs.getInt("longest_kill_streak"));
-        stats.setTotalArrowsFired(rs.getInt("total_arrows_fired"));
-        stats.setTotalArrowsHit(rs.getInt("total_arrows_hit"));
-        stats.setTotalDamageDealt(rs.getDouble("total_damage_dealt"));
-        stats.setPowerupsCollected(rs.getInt("powerups_collected"));
-        stats.setTotalPlaytime(rs.getLong("total_playtime"));
-        stats.setFirstJoin(rs.getTimestamp("first_join"));
-        stats.setLastSeen(rs.getTimestamp("last_seen"));
-        stats.setActive(rs.getBoolean("is_active"));
-        
-        return stats;
+        return columns;
+    }
+    
+    /**
+     * Get the storage backend in use
+     */
+    public StatsRepository getRepository() {
+        return repository;
     }
     
     /**
@@ -303,16 +280,31 @@ public class DatabaseManager {
             return "DataSource not initialized";
         }
         
-        return String.format("Pool Stats - Active: %d, Idle: %d, Total: %d",
+        return String.format("Pool Stats - Active: %d, Idle: %d, Total: %d, Queued writes: %d, Queued reads: %d, Rejected: %d",
                            dataSource.getHikariPoolMXBean().getActiveConnections(),
                            dataSource.getHikariPoolMXBean().getIdleConnections(),
-                           dataSource.getHikariPoolMXBean().getTotalConnections());
+                           dataSource.getHikariPoolMXBean().getTotalConnections(),
+                           executor.getWriteQueueSize(),
+                           executor.getReadQueueSize(),
+                           executor.getRejectedWrites() + executor.getRejectedReads());
+    }
+    
+    /**
+     * Get the executor that runs database work
+     */
+    public DatabaseExecutor getExecutor() {
+        return executor;
     }
     
     /**
      * Close the database connection pool
      */
     public void shutdown() {
+        // Let queued writes finish before the pool goes away
+        if (executor != null) {
+            executor.shutdown(10000);
+        }
+        
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             Logger.info("Database connection pool closed");
@@ -0,0 +1,287 @@
+package com.crysisshot.database;
+
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.ranking.LeaderboardEntry;
+import com.crysisshot.ranking.Rank;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Shared JDBC implementation of StatsRepository
+ * Subclasses only supply the SQL that differs between database dialects.
+ */
+public abstract class JdbcStatsRepository implements StatsRepository {
+
+    private static final String SELECT_PLAYER = """
+        SELECT * FROM crysis_players WHERE player_id = ?
+    """;
+
+    private static final String UPDATE_LAST_SEEN = """
+        UPDATE crysis_players SET last_seen = CURRENT_TIMESTAMP WHERE player_id = ?
+    """;
+
+    private static final String SELECT_TOP_PLAYERS = """
+        SELECT * FROM crysis_players WHERE is_active = 1
+        ORDER BY %s DESC LIMIT ?
+    """;
+
+    // Only reads columns in the leaderboard index, so it never touches the table rows
+    private static final String SELECT_TOP_ENTRIES = """
+        SELECT player_id, player_name, %1$s FROM crysis_players WHERE is_active = 1
+        ORDER BY %1$s DESC LIMIT ?
+    """;
+
+    private static final String CREATE_LEADERBOARD_INDEX = """
+        CREATE INDEX %s ON crysis_players (is_active, %s, player_id, player_name)
+    """;
+
+    protected final DataSource dataSource;
+
+    protected JdbcStatsRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * CREATE TABLE statement for crysis_players
+     */
+    protected abstract String createTableSql();
+
+    /**
+     * Insert of all 18 columns that updates every column except first_join on conflict
+     */
+    protected abstract String upsertSql();
+
+    /**
+     * Insert of (player_id, player_name) that does nothing if the row exists
+     */
+    protected abstract String insertIfAbsentSql();
+
+    /**
+     * Name of the two-argument maximum function
+     */
+    protected abstract String greatestFunction();
+
+    @Override
+    public void createTables() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(createTableSql());
+        }
+    }
+
+    @Override
+    public PlayerStats load(UUID playerId) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PLAYER)) {
+
+            stmt.setString(1, playerId.toString());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToPlayerStats(rs);
+                }
+            }
+            return null; // Player not found
+        }
+    }
+
+    @Override
+    public void save(PlayerStats stats) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(upsertSql())) {
+            bindPlayerStats(stmt, stats);
+            stmt.executeUpdate();
+        }
+    }
+
+    @Override
+    public void applyDeltas(Map<UUID, StatDelta> deltas) throws SQLException {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // Deltas touching the same columns share one batched statement
+        Map<String, List<Map.Entry<UUID, StatDelta>>> updatesBySql = new LinkedHashMap<>();
+        for (Map.Entry<UUID, StatDelta> entry : deltas.entrySet()) {
+            String sql = entry.getValue().toUpdateSql(greatestFunction());
+            if (sql != null) {
+                updatesBySql.computeIfAbsent(sql, k -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try {
+                // Make sure every row exists before incrementing it
+                try (PreparedStatement stmt = conn.prepareStatement(insertIfAbsentSql())) {
+                    for (Map.Entry<UUID, StatDelta> entry : deltas.entrySet()) {
+                        stmt.setString(1, entry.getKey().toString());
+                        stmt.setString(2, entry.getValue().getPlayerName());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+
+                for (Map.Entry<String, List<Map.Entry<UUID, StatDelta>>> group : updatesBySql.entrySet()) {
+                    try (PreparedStatement stmt = conn.prepareStatement(group.getKey())) {
+                        for (Map.Entry<UUID, StatDelta> entry : group.getValue()) {
+                            entry.getValue().bind(stmt, entry.getKey());
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    }
+                }
+
+                conn.commit();
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    @Override
+    public void updateLastSeen(UUID playerId) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_LAST_SEEN)) {
+            stmt.setString(1, playerId.toString());
+            stmt.executeUpdate();
+        }
+    }
+
+    @Override
+    public List<PlayerStats> getTopPlayers(String column, int limit) throws SQLException {
+        List<PlayerStats> topPlayers = new ArrayList<>();
+        String query = String.format(SELECT_TOP_PLAYERS, column);
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    topPlayers.add(mapResultSetToPlayerStats(rs));
+                }
+            }
+        }
+        return topPlayers;
+    }
+
+    @Override
+    public void createLeaderboardIndexes(Collection<String> columns) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            // Not every dialect has CREATE INDEX IF NOT EXISTS, so look the names up first
+            DatabaseMetaData meta = conn.getMetaData();
+            String table = meta.storesUpperCaseIdentifiers() ? "CRYSIS_PLAYERS" : "crysis_players";
+            Set<String> existing = new HashSet<>();
+            try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), null, table, false, false)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    if (name != null) {
+                        existing.add(name.toLowerCase());
+                    }
+                }
+            }
+
+            try (Statement stmt = conn.createStatement()) {
+                for (String column : columns) {
+                    String indexName = "idx_crysis_players_" + column;
+                    if (!existing.contains(indexName)) {
+                        stmt.execute(String.format(CREATE_LEADERBOARD_INDEX, indexName, column));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> getTopEntries(String column, int limit) throws SQLException {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        String query = String.format(SELECT_TOP_ENTRIES, column);
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(new LeaderboardEntry(
+                        UUID.fromString(rs.getString("player_id")),
+                        rs.getString("player_name"),
+                        rs.getDouble(column)));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Bind all PlayerStats columns to the upsert statement
+     */
+    protected void bindPlayerStats(PreparedStatement stmt, PlayerStats stats) throws SQLException {
+        stmt.setString(1, stats.getPlayerId().toString());
+        stmt.setString(2, stats.getPlayerName());
+        stmt.setInt(3, stats.getTotalKills());
+        stmt.setInt(4, stats.getTotalDeaths());
+        stmt.setInt(5, stats.getBowKills());
+        stmt.setInt(6, stats.getMeleeKills());
+        stmt.setString(7, stats.getCurrentRank().name());
+        stmt.setInt(8, stats.getGamesPlayed());
+        stmt.setInt(9, stats.getGamesWon());
+        stmt.setInt(10, stats.getLongestKillStreak());
+        stmt.setInt(11, stats.getTotalArrowsFired());
+        stmt.setInt(12, stats.getTotalArrowsHit());
+        stmt.setDouble(13, stats.getTotalDamageDealt());
+        stmt.setInt(14, stats.getPowerupsCollected());
+        stmt.setLong(15, stats.getTotalPlaytime());
+        stmt.setTimestamp(16, stats.getFirstJoin());
+        stmt.setTimestamp(17, stats.getLastSeen());
+        stmt.setBoolean(18, stats.isActive());
+    }
+
+    /**
+     * Map ResultSet to PlayerStats object
+     */
+    protected PlayerStats mapResultSetToPlayerStats(ResultSet rs) throws SQLException {
+        PlayerStats stats = new PlayerStats();
+
+        stats.setPlayerId(UUID.fromString(rs.getString("player_id")));
+        stats.setPlayerName(rs.getString("player_name"));
+        stats.setTotalKills(rs.getInt("total_kills"));
+        stats.setTotalDeaths(rs.getInt("total_deaths"));
+        stats.setBowKills(rs.getInt("bow_kills"));
+        stats.setMeleeKills(rs.getInt("melee_kills"));
+
+        // Parse rank from string
+        try {
+            String rankStr = rs.getString("current_rank");
+            stats.setCurrentRank(Rank.valueOf(rankStr));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // Default to NOVATO if rank is invalid
+            stats.setCurrentRank(Rank.NOVATO);
+        }
+
+        stats.setGamesPlayed(rs.getInt("games_played"));
+        stats.setGamesWon(rs.getInt("games_won"));
+        stats.setLongestKillStreak(rs.getInt("longest_kill_streak"));
+        stats.setTotalArrowsFired(rs.getInt("total_arrows_fired"));
+        stats.setTotalArrowsHit(rs.getInt("total_arrows_hit"));
+        stats.setTotalDamageDealt(rs.getDouble("total_damage_dealt"));
+        stats.setPowerupsCollected(rs.getInt("powerups_collected"));
+        stats.setTotalPlaytime(rs.getLong("total_playtime"));
+        stats.setFirstJoin(rs.getTimestamp("first_join"));
+        stats.setLastSeen(rs.getTimestamp("last_seen"));
+        stats.setActive(rs.getBoolean("is_active"));
+
+        return stats;
+    }
+}
@@ -0,0 +1,78 @@
+package com.crysisshot.database;
+
+import javax.sql.DataSource;
+
+/**
+ * MySQL/MariaDB implementation of StatsRepository
+ */
+public class MySqlStatsRepository extends JdbcStatsRepository {
+
+    private static final String CREATE_PLAYERS_TABLE = """
+        CREATE TABLE IF NOT EXISTS crysis_players (
+            player_id VARCHAR(36) NOT NULL PRIMARY KEY,
+            player_name VARCHAR(16) NOT NULL,
+            total_kills INT DEFAULT 0,
+            total_deaths INT DEFAULT 0,
+            bow_kills INT DEFAULT 0,
+            melee_kills INT DEFAULT 0,
+            current_rank VARCHAR(32) DEFAULT 'NOVATO',
+            games_played INT DEFAULT 0,
+            games_won INT DEFAULT 0,
+            longest_kill_streak INT DEFAULT 0,
+            total_arrows_fired INT DEFAULT 0,
+            total_arrows_hit INT DEFAULT 0,
+            total_damage_dealt DOUBLE DEFAULT 0.0,
+            powerups_collected INT DEFAULT 0,
+            total_playtime BIGINT DEFAULT 0,
+            first_join TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            last_seen TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            is_active BOOLEAN DEFAULT TRUE
+        )
+    """;
+
+    private static final String UPSERT_PLAYER = """
+        INSERT INTO crysis_players
+        (player_id, player_name, total_kills, total_deaths, bow_kills, melee_kills, current_rank,
+         games_played, games_won, longest_kill_streak, total_arrows_fired, total_arrows_hit,
+         total_damage_dealt, powerups_collected, total_playtime, first_join, last_seen, is_active)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            player_name = VALUES(player_name), total_kills = VALUES(total_kills),
+            total_deaths = VALUES(total_deaths), bow_kills = VALUES(bow_kills),
+            melee_kills = VALUES(melee_kills), current_rank = VALUES(current_rank),
+            games_played = VALUES(games_played), games_won = VALUES(games_won),
+            longest_kill_streak = VALUES(longest_kill_streak), total_arrows_fired = VALUES(total_arrows_fired),
+            total_arrows_hit = VALUES(total_arrows_hit), total_damage_dealt = VALUES(total_damage_dealt),
+            powerups_collected = VALUES(powerups_collected), total_playtime = VALUES(total_playtime),
+            last_seen = VALUES(last_seen), is_active = VALUES(is_active)
+    """;
+
+    private static final String INSERT_PLAYER_IF_ABSENT = """
+        INSERT IGNORE INTO crysis_players (player_id, player_name) VALUES (?, ?)
+    """;
+
+    public MySqlStatsRepository(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected String createTableSql() {
+        return CREATE_PLAYERS_TABLE;
+    }
+
+    @Override
+    protected String upsertSql() {
+        // VALUES() is deprecated in MySQL 8.0.20+ but is the form MariaDB understands
+        return UPSERT_PLAYER;
+    }
+
+    @Override
+    protected String insertIfAbsentSql() {
+        return INSERT_PLAYER_IF_ABSENT;
+    }
+
+    @Override
+    protected String greatestFunction() {
+        return "GREATEST";
+    }
+}
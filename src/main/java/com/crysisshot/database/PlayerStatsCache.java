@@ -0,0 +1,337 @@
+package com.crysisshot.database;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.utils.DebugCategory;
+import com.crysisshot.utils.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind cache for player statistics
+ * Stats are loaded once per player, updated in memory and flushed to the database in batches.
+ * Each flush writes only what changed since the last one, as a {@link StatDelta} per player.
+ * Online players always stay cached; offline players are evicted once their changes are written.
+ */
+public class PlayerStatsCache {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final CrysisShot plugin;
+    private final DatabaseManager databaseManager;
+
+    // Loaded stats and the changes made to them since the last flush
+    private final Map<UUID, PlayerStats> cache = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<PlayerStats>> pendingLoads = new ConcurrentHashMap<>();
+    private final Map<UUID, StatDelta> pending = new ConcurrentHashMap<>();
+    private final Set<UUID> online = ConcurrentHashMap.newKeySet();
+    private final int maxSize;
+
+    // Join-to-ready latency: time from join until the player's stats are in memory
+    private final AtomicLong joins = new AtomicLong();
+    private final AtomicLong warmJoins = new AtomicLong();
+    private final AtomicLong totalJoinNanos = new AtomicLong();
+    private final AtomicLong maxJoinNanos = new AtomicLong();
+
+    // Player rows written by flushes since startup
+    private final AtomicLong flushedRows = new AtomicLong();
+
+    // Notified with the live stats object whenever a player's stats are loaded or change
+    private final List<Consumer<PlayerStats>> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private volatile CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null); // last started flush
+    private BukkitTask flushTask;
+
+    public PlayerStatsCache(CrysisShot plugin, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+        this.maxSize = plugin.getConfigManager().getStatsCacheMaxSize();
+    }
+
+    /**
+     * Start the periodic flush task and preload players that are already online
+     */
+    public void start() {
+        long intervalTicks = plugin.getConfigManager().getStatsFlushInterval() * 20L;
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin,
+            () -> flush().thenRun(this::evictOffline), intervalTicks, intervalTicks);
+
+        // Players already online (e.g. after /reload) never fire a join event
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            handleJoin(player.getUniqueId(), player.getName());
+        }
+
+        Logger.info("Player stats cache started (flush interval: " + (intervalTicks / 20) + "s)");
+    }
+
+    /**
+     * Prefetch a joining player's stats so everything during their session reads memory
+     */
+    public CompletableFuture<PlayerStats> handleJoin(UUID playerId, String playerName) {
+        online.add(playerId);
+        long start = System.nanoTime();
+        boolean warm = cache.containsKey(playerId);
+
+        return load(playerId, playerName).whenComplete((stats, error) -> {
+            if (error != null) {
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            joins.incrementAndGet();
+            if (warm) {
+                warmJoins.incrementAndGet();
+            }
+            totalJoinNanos.addAndGet(elapsed);
+            maxJoinNanos.accumulateAndGet(elapsed, Math::max);
+        });
+    }
+
+    /**
+     * Write a leaving player's changes and then drop them from memory
+     */
+    public void handleQuit(UUID playerId) {
+        online.remove(playerId);
+        flush().thenRun(this::evictOffline);
+    }
+
+    /**
+     * Load a player's stats into the cache if they are not already present
+     */
+    public CompletableFuture<PlayerStats> load(UUID playerId, String playerName) {
+        PlayerStats cached = cache.get(playerId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<PlayerStats> future = pendingLoads.computeIfAbsent(playerId, id -> databaseManager.loadPlayerStats(id)
+            .thenApply(stats -> {
+                if (stats == null) {
+                    // First time we see this player - make sure the row gets created on next flush
+                    stats = new PlayerStats(id, playerName);
+                    queue(id, new StatDelta(playerName));
+                } else if (playerName != null && !playerName.equals(stats.getPlayerName())) {
+                    stats.setPlayerName(playerName);
+                    queue(id, new StatDelta(playerName).withNameChanged());
+                }
+
+                PlayerStats existing = cache.putIfAbsent(id, stats);
+                if (existing != null) {
+                    return existing;
+                }
+                notifyListeners(stats);
+
+                if (cache.size() > maxSize) {
+                    evictOffline();
+                }
+                return stats;
+            }));
+
+        future.whenComplete((stats, error) -> pendingLoads.remove(playerId, future));
+        return future;
+    }
+
+    /**
+     * Apply an in-place update to a player's stats and mark them for the next flush.
+     * If the player is not cached yet the update is applied as soon as the load completes.
+     */
+    public void modify(UUID playerId, String playerName, Consumer<PlayerStats> update) {
+        PlayerStats stats = cache.get(playerId);
+        if (stats != null) {
+            applyUpdate(stats, update);
+            return;
+        }
+
+        load(playerId, playerName).whenComplete((loaded, error) -> {
+            if (error != null) {
+                Logger.severe("Dropped stats update for " + playerName + ": stats could not be loaded");
+                return;
+            }
+            applyUpdate(loaded, update);
+        });
+    }
+
+    private void applyUpdate(PlayerStats stats, Consumer<PlayerStats> update) {
+        StatDelta delta;
+        synchronized (stats) {
+            PlayerStats before = new PlayerStats(stats);
+            update.accept(stats);
+            stats.updateLastSeen();
+            delta = StatDelta.between(before, stats);
+            notifyListeners(stats);
+        }
+        queue(stats.getPlayerId(), delta);
+    }
+
+    /**
+     * Register a listener for loaded or changed stats
+     * Listeners may run on any thread and must not block.
+     */
+    public void addListener(Consumer<PlayerStats> listener) {
+        listeners.add(listener);
+    }
+
+    private void notifyListeners(PlayerStats stats) {
+        synchronized (stats) {
+            for (Consumer<PlayerStats> listener : listeners) {
+                try {
+                    listener.accept(stats);
+                } catch (Exception e) {
+                    Logger.severe("Stats listener failed for " + stats.getPlayerName() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private void queue(UUID playerId, StatDelta delta) {
+        // merge() runs atomically per key, so folding into the queued delta is safe
+        pending.merge(playerId, delta, StatDelta::merge);
+    }
+
+    /**
+     * Get cached stats for a player, or null if they are not loaded
+     */
+    public PlayerStats getCached(UUID playerId) {
+        return cache.get(playerId);
+    }
+
+    /**
+     * Hand all queued changes to the database writer as one transaction
+     * Only one flush is in flight at a time; the returned future completes when it is written.
+     */
+    public CompletableFuture<Void> flush() {
+        if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<UUID, StatDelta> batch = new HashMap<>();
+        for (UUID playerId : pending.keySet()) {
+            StatDelta delta = pending.remove(playerId);
+            if (delta != null) {
+                batch.put(playerId, delta);
+            }
+        }
+
+        CompletableFuture<Void> write = databaseManager.applyStatDeltas(batch)
+            .exceptionally(error -> false)
+            .thenAccept(success -> {
+                if (success) {
+                    flushedRows.addAndGet(batch.size());
+                    Logger.debug(DebugCategory.DATABASE_OPERATIONS, "Flushed stats for {} players", batch.size());
+                } else {
+                    // Put them back in front of any newer changes so the next flush retries
+                    batch.forEach((playerId, failed) ->
+                        pending.merge(playerId, failed, (newer, older) -> older.merge(newer)));
+                }
+            })
+            .whenComplete((ignored, error) -> flushing.set(false));
+        inFlight = write;
+        return write;
+    }
+
+    /**
+     * Drop offline players that have no unwritten changes
+     * Skipped while a flush is in flight, since its batch is no longer in the pending map.
+     */
+    private void evictOffline() {
+        if (flushing.get()) {
+            return;
+        }
+
+        int before = cache.size();
+        cache.keySet().removeIf(playerId -> !online.contains(playerId) && !pending.containsKey(playerId));
+        int evicted = before - cache.size();
+        if (evicted > 0) {
+            Logger.debug(DebugCategory.DATABASE_OPERATIONS, "Evicted {} offline players from the stats cache", evicted);
+        }
+    }
+
+    /**
+     * Stop the flush task and write any remaining changes before the database closes
+     * Waits up to ten seconds for the in-flight flush and again for the final one.
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+
+        try {
+            // Wait for an in-flight flush so the final one sees every change
+            inFlight.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            flush().get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Logger.info("Player stats cache flushed (" + cache.size() + " cached players)");
+        } catch (TimeoutException e) {
+            Logger.warning("Player stats flush did not finish in time, " + pending.size() + " players not written");
+        } catch (ExecutionException e) {
+            Logger.severe("Final player stats flush failed: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getDirtyCount() {
+        return pending.size();
+    }
+
+    public int getOnlineCount() {
+        return online.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getJoinCount() {
+        return joins.get();
+    }
+
+    public long getWarmJoinCount() {
+        return warmJoins.get();
+    }
+
+    public long getFlushedRows() {
+        return flushedRows.get();
+    }
+
+    /**
+     * Average join-to-ready time in milliseconds
+     */
+    public double getAverageJoinMillis() {
+        long count = joins.get();
+        return count == 0 ? 0.0 : totalJoinNanos.get() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Slowest join-to-ready time in milliseconds
+     */
+    public double getMaxJoinMillis() {
+        return maxJoinNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Reset the join-to-ready latency counters
+     */
+    public void resetJoinMetrics() {
+        joins.set(0);
+        warmJoins.set(0);
+        totalJoinNanos.set(0);
+        maxJoinNanos.set(0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.crysisshot.database;
+
+import com.crysisshot.utils.Logger;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.List;
+
+/**
+ * SQLite implementation of StatsRepository
+ */
+public class SqliteStatsRepository extends JdbcStatsRepository {
+
+    private static final String CREATE_PLAYERS_TABLE = """
+        CREATE TABLE IF NOT EXISTS crysis_players (
+            player_id TEXT PRIMARY KEY,
+            player_name TEXT NOT NULL,
+            total_kills INTEGER DEFAULT 0,
+            total_deaths INTEGER DEFAULT 0,
+            bow_kills INTEGER DEFAULT 0,
+            melee_kills INTEGER DEFAULT 0,
+            current_rank TEXT DEFAULT 'NOVATO',
+            games_played INTEGER DEFAULT 0,
+            games_won INTEGER DEFAULT 0,
+            longest_kill_streak INTEGER DEFAULT 0,
+            total_arrows_fired INTEGER DEFAULT 0,
+            total_arrows_hit INTEGER DEFAULT 0,
+            total_damage_dealt REAL DEFAULT 0.0,
+            powerups_collected INTEGER DEFAULT 0,
+            total_playtime INTEGER DEFAULT 0,
+            first_join TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            last_seen TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            is_active BOOLEAN DEFAULT 1
+        )
+    """;
+
+    private static final String UPSERT_PLAYER = """
+        INSERT INTO crysis_players
+        (player_id, player_name, total_kills, total_deaths, bow_kills, melee_kills, current_rank,
+         games_played, games_won, longest_kill_streak, total_arrows_fired, total_arrows_hit,
+         total_damage_dealt, powerups_collected, total_playtime, first_join, last_seen, is_active)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT(player_id) DO UPDATE SET
+            player_name = excluded.player_name, total_kills = excluded.total_kills,
+            total_deaths = excluded.total_deaths, bow_kills = excluded.bow_kills,
+            melee_kills = excluded.melee_kills, current_rank = excluded.current_rank,
+            games_played = excluded.games_played, games_won = excluded.games_won,
+            longest_kill_streak = excluded.longest_kill_streak, total_arrows_fired = excluded.total_arrows_fired,
+            total_arrows_hit = excluded.total_arrows_hit, total_damage_dealt = excluded.total_damage_dealt,
+            powerups_collected = excluded.powerups_collected, total_playtime = excluded.total_playtime,
+            last_seen = excluded.last_seen, is_active = excluded.is_active
+    """;
+
+    private static final String INSERT_PLAYER_IF_ABSENT = """
+        INSERT OR IGNORE INTO crysis_players (player_id, player_name) VALUES (?, ?)
+    """;
+
+    public SqliteStatsRepository(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected String createTableSql() {
+        return CREATE_PLAYERS_TABLE;
+    }
+
+    @Override
+    protected String upsertSql() {
+        return UPSERT_PLAYER;
+    }
+
+    @Override
+    protected String insertIfAbsentSql() {
+        return INSERT_PLAYER_IF_ABSENT;
+    }
+
+    @Override
+    protected String greatestFunction() {
+        return "MAX";
+    }
+
+    /**
+     * Log the pragmas SQLite actually applied, which can differ from the requested ones
+     */
+    @Override
+    public void logSettings() throws SQLException {
+        StringBuilder pragmas = new StringBuilder();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String pragma : List.of("journal_mode", "synchronous", "busy_timeout", "cache_size", "mmap_size")) {
+                try (ResultSet rs = stmt.executeQuery("PRAGMA " + pragma)) {
+                    if (rs.next()) {
+                        if (pragmas.length() > 0) {
+                            pragmas.append(", ");
+                        }
+                        pragmas.append(pragma).append('=').append(rs.getString(1));
+                    }
+                }
+            }
+        }
+        Logger.info("SQLite pragmas: " + pragmas);
+    }
+}
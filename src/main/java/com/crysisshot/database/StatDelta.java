@@ -0,0 +1,195 @@
+package com.crysisshot.database;
+
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.ranking.Rank;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Pending changes to a player's statistics row
+ * Counters are stored as increments so they can be applied with "column = column + ?"
+ * without reading the row first; name, rank and last seen are stored as new values.
+ */
+public class StatDelta {
+
+    private final String playerName;
+    private boolean nameChanged;
+
+    private int kills;
+    private int deaths;
+    private int bowKills;
+    private int meleeKills;
+    private int gamesPlayed;
+    private int gamesWon;
+    private int arrowsFired;
+    private int arrowsHit;
+    private double damageDealt;
+    private int powerupsCollected;
+    private long playtime;
+
+    private int longestKillStreak;
+    private Rank rank;
+    private Timestamp lastSeen;
+
+    public StatDelta(String playerName) {
+        this.playerName = playerName;
+    }
+
+    /**
+     * Build the delta that turns {@code before} into {@code after}
+     */
+    public static StatDelta between(PlayerStats before, PlayerStats after) {
+        StatDelta delta = new StatDelta(after.getPlayerName());
+        delta.nameChanged = after.getPlayerName() != null && !after.getPlayerName().equals(before.getPlayerName());
+
+        delta.kills = after.getTotalKills() - before.getTotalKills();
+        delta.deaths = after.getTotalDeaths() - before.getTotalDeaths();
+        delta.bowKills = after.getBowKills() - before.getBowKills();
+        delta.meleeKills = after.getMeleeKills() - before.getMeleeKills();
+        delta.gamesPlayed = after.getGamesPlayed() - before.getGamesPlayed();
+        delta.gamesWon = after.getGamesWon() - before.getGamesWon();
+        delta.arrowsFired = after.getTotalArrowsFired() - before.getTotalArrowsFired();
+        delta.arrowsHit = after.getTotalArrowsHit() - before.getTotalArrowsHit();
+        delta.damageDealt = after.getTotalDamageDealt() - before.getTotalDamageDealt();
+        delta.powerupsCollected = after.getPowerupsCollected() - before.getPowerupsCollected();
+        delta.playtime = after.getTotalPlaytime() - before.getTotalPlaytime();
+
+        if (after.getLongestKillStreak() > before.getLongestKillStreak()) {
+            delta.longestKillStreak = after.getLongestKillStreak();
+        }
+        if (after.getCurrentRank() != before.getCurrentRank()) {
+            delta.rank = after.getCurrentRank();
+        }
+        if (after.getLastSeen() != null && !after.getLastSeen().equals(before.getLastSeen())) {
+            delta.lastSeen = after.getLastSeen();
+        }
+        return delta;
+    }
+
+    /**
+     * Fold a newer delta into this one
+     * Increments are added; new values from {@code newer} replace older ones.
+     */
+    public StatDelta merge(StatDelta newer) {
+        nameChanged |= newer.nameChanged;
+
+        kills += newer.kills;
+        deaths += newer.deaths;
+        bowKills += newer.bowKills;
+        meleeKills += newer.meleeKills;
+        gamesPlayed += newer.gamesPlayed;
+        gamesWon += newer.gamesWon;
+        arrowsFired += newer.arrowsFired;
+        arrowsHit += newer.arrowsHit;
+        damageDealt += newer.damageDealt;
+        powerupsCollected += newer.powerupsCollected;
+        playtime += newer.playtime;
+
+        longestKillStreak = Math.max(longestKillStreak, newer.longestKillStreak);
+        if (newer.rank != null) {
+            rank = newer.rank;
+        }
+        if (newer.lastSeen != null) {
+            lastSeen = newer.lastSeen;
+        }
+        return this;
+    }
+
+    /**
+     * Mark the player name as changed so it is written with the next update
+     */
+    public StatDelta withNameChanged() {
+        this.nameChanged = true;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return !nameChanged && kills == 0 && deaths == 0 && bowKills == 0 && meleeKills == 0
+            && gamesPlayed == 0 && gamesWon == 0 && arrowsFired == 0 && arrowsHit == 0
+            && damageDealt == 0.0 && powerupsCollected == 0 && playtime == 0
+            && longestKillStreak == 0 && rank == null && lastSeen == null;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Build an UPDATE touching only the changed columns, or null if nothing changed
+     * Parameters are bound by {@link #bind(PreparedStatement, UUID)} in the same order.
+     *
+     * @param greatestFunction the dialect's two-argument maximum (MAX in SQLite, GREATEST in MySQL)
+     */
+    public String toUpdateSql(String greatestFunction) {
+        StringBuilder set = new StringBuilder();
+        if (nameChanged) appendSet(set, "player_name = ?");
+        if (kills != 0) appendSet(set, "total_kills = total_kills + ?");
+        if (deaths != 0) appendSet(set, "total_deaths = total_deaths + ?");
+        if (bowKills != 0) appendSet(set, "bow_kills = bow_kills + ?");
+        if (meleeKills != 0) appendSet(set, "melee_kills = melee_kills + ?");
+        if (gamesPlayed != 0) appendSet(set, "games_played = games_played + ?");
+        if (gamesWon != 0) appendSet(set, "games_won = games_won + ?");
+        if (arrowsFired != 0) appendSet(set, "total_arrows_fired = total_arrows_fired + ?");
+        if (arrowsHit != 0) appendSet(set, "total_arrows_hit = total_arrows_hit + ?");
+        if (damageDealt != 0.0) appendSet(set, "total_damage_dealt = total_damage_dealt + ?");
+        if (powerupsCollected != 0) appendSet(set, "powerups_collected = powerups_collected + ?");
+        if (playtime != 0) appendSet(set, "total_playtime = total_playtime + ?");
+        if (longestKillStreak != 0) appendSet(set, "longest_kill_streak = " + greatestFunction + "(longest_kill_streak, ?)");
+        if (rank != null) appendSet(set, "current_rank = ?");
+        if (lastSeen != null) appendSet(set, "last_seen = ?");
+
+        if (set.length() == 0) {
+            return null;
+        }
+        return "UPDATE crysis_players SET " + set + " WHERE player_id = ?";
+    }
+
+    /**
+     * Bind the parameters of {@link #toUpdateSql(String)}
+     */
+    public void bind(PreparedStatement stmt, UUID playerId) throws SQLException {
+        int index = 1;
+        if (nameChanged) stmt.setString(index++, playerName);
+        if (kills != 0) stmt.setInt(index++, kills);
+        if (deaths != 0) stmt.setInt(index++, deaths);
+        if (bowKills != 0) stmt.setInt(index++, bowKills);
+        if (meleeKills != 0) stmt.setInt(index++, meleeKills);
+        if (gamesPlayed != 0) stmt.setInt(index++, gamesPlayed);
+        if (gamesWon != 0) stmt.setInt(index++, gamesWon);
+        if (arrowsFired != 0) stmt.setInt(index++, arrowsFired);
+        if (arrowsHit != 0) stmt.setInt(index++, arrowsHit);
+        if (damageDealt != 0.0) stmt.setDouble(index++, damageDealt);
+        if (powerupsCollected != 0) stmt.setInt(index++, powerupsCollected);
+        if (playtime != 0) stmt.setLong(index++, playtime);
+        if (longestKillStreak != 0) stmt.setInt(index++, longestKillStreak);
+        if (rank != null) stmt.setString(index++, rank.name());
+        if (lastSeen != null) stmt.setTimestamp(index++, lastSeen);
+        stmt.setString(index, playerId.toString());
+    }
+
+    private static void appendSet(StringBuilder set, String clause) {
+        if (set.length() > 0) {
+            set.append(", ");
+        }
+        set.append(clause);
+    }
+
+    // Getters
+    public int getKills() { return kills; }
+    public int getDeaths() { return deaths; }
+    public int getBowKills() { return bowKills; }
+    public int getMeleeKills() { return meleeKills; }
+    public int getGamesPlayed() { return gamesPlayed; }
+    public int getGamesWon() { return gamesWon; }
+    public int getArrowsFired() { return arrowsFired; }
+    public int getArrowsHit() { return arrowsHit; }
+    public double getDamageDealt() { return damageDealt; }
+    public int getPowerupsCollected() { return powerupsCollected; }
+    public long getPlaytime() { return playtime; }
+    public int getLongestKillStreak() { return longestKillStreak; }
+    public Rank getRank() { return rank; }
+    public Timestamp getLastSeen() { return lastSeen; }
+}
@@ -0,0 +1,63 @@
+package com.crysisshot.database;
+
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.ranking.LeaderboardEntry;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Storage backend for player statistics
+ * Methods are blocking; DatabaseManager runs them on its database executor.
+ */
+public interface StatsRepository {
+
+    /**
+     * Create the tables if they don't exist
+     */
+    void createTables() throws SQLException;
+
+    /**
+     * Load a player's stats, or null if the player has no row
+     */
+    PlayerStats load(UUID playerId) throws SQLException;
+
+    /**
+     * Insert or overwrite a player's full row, keeping the original first join
+     */
+    void save(PlayerStats stats) throws SQLException;
+
+    /**
+     * Apply several players' deltas in a single transaction, creating missing rows
+     */
+    void applyDeltas(Map<UUID, StatDelta> deltas) throws SQLException;
+
+    /**
+     * Set a player's last seen timestamp to now
+     */
+    void updateLastSeen(UUID playerId) throws SQLException;
+
+    /**
+     * Get the top active players ordered by an already validated column
+     */
+    List<PlayerStats> getTopPlayers(String column, int limit) throws SQLException;
+
+    /**
+     * Create an index per leaderboard column that covers the top-entries query
+     */
+    void createLeaderboardIndexes(Collection<String> columns) throws SQLException;
+
+    /**
+     * Get the id, name and value of the top active players for an already validated column
+     */
+    List<LeaderboardEntry> getTopEntries(String column, int limit) throws SQLException;
+
+    /**
+     * Log backend-specific settings at startup
+     */
+    default void logSettings() throws SQLException {
+    }
+}
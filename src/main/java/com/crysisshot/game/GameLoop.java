@@ -0,0 +1,234 @@
+package com.crysisshot.game;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.performance.PerfMonitor;
+import com.crysisshot.utils.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Plugin-wide tick driver for recurring game work
+ * One scheduler task runs every tick and walks flat per-phase job arrays instead of every
+ * session, arena and manager registering its own timer. New jobs in a phase are spread over
+ * their period in registration order, so twenty sessions ticking once a second run on twenty
+ * different ticks. Each phase gets a share of a per-tick time budget; due jobs beyond it wait
+ * for the next tick, and the phase resumes with them first. One-shot deadlines (power-up expiry,
+ * respawns, countdown steps) live on a timing wheel that is advanced at the start of each tick.
+ */
+public class GameLoop {
+
+    /**
+     * Order jobs run in within a tick, with each phase's share of the tick budget in percent
+     */
+    public enum Phase {
+        MATCH(60),         // Time limits, win checks and replay sampling
+        EFFECTS(20),       // Arena ambience
+        HOUSEKEEPING(20);  // Matchmaking, session cleanup and projectile sweeps
+
+        private final int budgetShare;
+
+        Phase(int budgetShare) {
+            this.budgetShare = budgetShare;
+        }
+    }
+
+    /**
+     * Probe timing the whole tick; the jobs it runs are also timed on their own probes
+     */
+    public static final String TICK_PROBE = "GameLoop.tick";
+
+    private static final Job[] NO_JOBS = new Job[0];
+    private static final int TIMER_WHEEL_SLOTS = 512;
+
+    private final CrysisShot plugin;
+    private final PerfMonitor perfMonitor;
+    private final long budgetNanos;
+    private final TimerWheel timers = new TimerWheel(TIMER_WHEEL_SLOTS);
+
+    // Main thread only; arrays are replaced on change so a tick can iterate while jobs cancel
+    private final Job[][] jobs = new Job[Phase.values().length][];
+    private final int[] cursors = new int[Phase.values().length];
+    private final int[] registered = new int[Phase.values().length];
+    private BukkitTask task;
+    private long currentTick;
+    private long deferredRuns;
+
+    public GameLoop(CrysisShot plugin) {
+        this(plugin, plugin.getPerfMonitor(), plugin.getConfigManager().getGameLoopBudgetMillis() * 1_000_000L);
+    }
+
+    GameLoop(CrysisShot plugin, PerfMonitor perfMonitor, long budgetNanos) {
+        this.plugin = plugin;
+        this.perfMonitor = perfMonitor;
+        this.budgetNanos = budgetNanos;
+        for (Phase phase : Phase.values()) {
+            jobs[phase.ordinal()] = NO_JOBS;
+        }
+    }
+
+    /**
+     * Start driving jobs from the server tick
+     */
+    public void start() {
+        task = Bukkit.getScheduler().runTaskTimer(plugin, perfMonitor.timed(TICK_PROBE, this::tick), 1L, 1L);
+        Logger.info("Game loop started (" + budgetNanos / 1_000_000 + " ms budget per tick)");
+    }
+
+    /**
+     * Stop the loop and drop every job
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (Phase phase : Phase.values()) {
+            for (Job job : jobs[phase.ordinal()]) {
+                job.cancelled = true;
+            }
+            jobs[phase.ordinal()] = NO_JOBS;
+        }
+    }
+
+    /**
+     * Run work every period ticks in a phase, first within the next period
+     * The work is timed under its name for /cs admin perf. Main thread only.
+     */
+    public Job schedule(Phase phase, String name, int period, Runnable work) {
+        int ticks = Math.max(1, period);
+        Runnable timed = perfMonitor != null ? perfMonitor.timed(name, work) : work;
+        Job job = new Job(this, phase, name, ticks, timed);
+        job.nextRun = currentTick + 1 + registered[phase.ordinal()]++ % ticks;
+
+        Job[] current = jobs[phase.ordinal()];
+        Job[] updated = new Job[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = job;
+        jobs[phase.ordinal()] = updated;
+        return job;
+    }
+
+    private void remove(Job job) {
+        Job[] current = jobs[job.phase.ordinal()];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == job) {
+                Job[] updated = new Job[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                jobs[job.phase.ordinal()] = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Run one tick of every phase
+     */
+    void tick() {
+        currentTick++;
+        timers.advance();
+        for (Phase phase : Phase.values()) {
+            runPhase(phase);
+        }
+    }
+
+    private void runPhase(Phase phase) {
+        Job[] phaseJobs = jobs[phase.ordinal()];
+        int count = phaseJobs.length;
+        if (count == 0) {
+            return;
+        }
+
+        long budget = budgetNanos * phase.budgetShare / 100;
+        long start = System.nanoTime();
+        int cursor = cursors[phase.ordinal()] % count;
+        boolean ranAny = false;
+
+        for (int i = 0; i < count; i++) {
+            int index = (cursor + i) % count;
+            Job job = phaseJobs[index];
+            if (job.cancelled || job.nextRun > currentTick) {
+                continue;
+            }
+            // Always make progress, then stop once the phase is over budget
+            if (ranAny && System.nanoTime() - start > budget) {
+                cursors[phase.ordinal()] = index;
+                deferredRuns++;
+                return;
+            }
+
+            job.nextRun = Math.max(job.nextRun + job.period, currentTick + 1);
+            ranAny = true;
+            try {
+                job.work.run();
+            } catch (RuntimeException e) {
+                Logger.severe("Game loop job " + job.name + " failed: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+        cursors[phase.ordinal()] = 0;
+    }
+
+    /**
+     * Ticks since the loop was created
+     */
+    public long getCurrentTick() { return currentTick; }
+
+    /**
+     * Times a phase ran out of budget and left due jobs for the next tick
+     */
+    public long getDeferredRuns() { return deferredRuns; }
+    public long getBudgetNanos() { return budgetNanos; }
+
+    /**
+     * Wheel for one-shot deadlines, advanced once per loop tick
+     */
+    public TimerWheel getTimers() { return timers; }
+
+    public int getJobCount() {
+        int count = 0;
+        for (Job[] phaseJobs : jobs) {
+            count += phaseJobs.length;
+        }
+        return count;
+    }
+
+    public int getJobCount(Phase phase) {
+        return jobs[phase.ordinal()].length;
+    }
+
+    /**
+     * Handle to a scheduled job
+     */
+    public static final class Job {
+        private final GameLoop loop;
+        private final Phase phase;
+        private final String name;
+        private final int period;
+        private final Runnable work;
+        private long nextRun;
+        private boolean cancelled;
+
+        private Job(GameLoop loop, Phase phase, String name, int period, Runnable work) {
+            this.loop = loop;
+            this.phase = phase;
+            this.name = name;
+            this.period = period;
+            this.work = work;
+        }
+
+        /**
+         * Stop running this job; safe to call from inside it
+         */
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                loop.remove(this);
+            }
+        }
+
+        public boolean isCancelled() { return cancelled; }
+        public String getName() { return name; }
+        public Phase getPhase() { return phase; }
+    }
+}
@@ -11,8 +11,6 @@ import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,7 +31,7 @@ public class GameManager {
     
     // Player management
     private final Map<UUID, GamePlayer> activePlayers = new ConcurrentHashMap<>();
-    private final Map<UUID, String> playerSessions = new ConcurrentHashMap<>();
+    private final Map<UUID, GameSession> playerSessions = new ConcurrentHashMap<>(); // hot-path binding for listeners
     
     // Player restoration data (for when they leave games)
     private final Map<UUID, PlayerRestoreData> restoreData = new ConcurrentHashMap<>();
@@ -42,16 +40,21 @@ public class GameManager {
     private final Queue<UUID> matchmakingQueue = new ConcurrentLinkedQueue<>();
     private final Map<UUID, Long> queueTimestamps = new ConcurrentHashMap<>();
     private final Set<UUID> playersInQueue = ConcurrentHashMap.newKeySet();
-    private BukkitTask matchmakingTask;
+    private GameLoop.Job matchmakingTask;
     
     // Cleanup task
-    private BukkitTask cleanupTask;
+    private GameLoop.Job cleanupTask;
+    
+    // Arrow attribution for kills
+    private final ProjectileTracker projectileTracker;
     
     public GameManager(CrysisShot plugin) {
         this.plugin = plugin;
         this.databaseManager = plugin.getDatabaseManager();
         this.messageManager = plugin.getMessageManager();
+        this.projectileTracker = new ProjectileTracker(plugin);
         
+        projectileTracker.start();
         startCleanupTask();
         startMatchmakingTask();
         Logger.info("GameManager initialized successfully");
@@ -95,6 +98,7 @@ public class GameManager {
         activePlayers.clear();
         playerSessions.clear();
         restoreData.clear();
+        projectileTracker.shutdown();
         
         Logger.info("GameManager shutdown complete");
     }
@@ -118,6 +122,7 @@ public class GameManager {
      */
     public void removeSession(String sessionId) {
         GameSession session = sessions.remove(sessionId);
+        projectileTracker.clearSession(sessionId);
         if (session != null) {
             Logger.info("Removed game session: " + sessionId);
         }
@@ -224,12 +229,8 @@ public class GameManager {
      * Start the matchmaking task that processes the queue
      */
     private void startMatchmakingTask() {
-        matchmakingTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                processMatchmakingQueue();
-            }
-        }.runTaskTimer(plugin, 20L, 20L); // Run every second
+        matchmakingTask = plugin.getGameLoop().schedule(GameLoop.Phase.HOUSEKEEPING,
+            "GameManager.matchmaking", 20, this::processMatchmakingQueue); // Run every second
     }
     
     /**
@@ -338,21 +339,14 @@ public class GameManager {
         
         // Store player state for restoration
         storePlayerState(player);
-          // Create GamePlayer instance
-        GamePlayer gamePlayer = new GamePlayer(player);
-        activePlayers.put(playerId, gamePlayer);
-        playerSessions.put(playerId, session.getSessionId());
         
-        // Add to session
-        boolean success = session.addPlayer(player);
-        
-        if (!success) {
-            // Cleanup if failed
-            activePlayers.remove(playerId);
-            playerSessions.remove(playerId);
+        // Add to session (GameSession creates the GamePlayer, so both share one instance)
+        if (!session.addPlayer(player)) {
             restorePlayerState(player);
             return false;
         }
+        activePlayers.put(playerId, session.getPlayer(playerId));
+        playerSessions.put(playerId, session);
         
         Logger.info("Player " + player.getName() + " added to session " + session.getSessionId());
         return true;
@@ -380,7 +374,7 @@ public class GameManager {
         // Try to add player to session (GameSession will create GamePlayer internally)
         if (session.addPlayer(player)) {
             activePlayers.put(player.getUniqueId(), session.getPlayers().get(player.getUniqueId()));
-            playerSessions.put(player.getUniqueId(), sessionId);
+            playerSessions.put(player.getUniqueId(), session);
             
             Logger.info("Player " + player.getName() + " joined session: " + sessionId);
             return true;
@@ -400,8 +394,8 @@ public class GameManager {
             return false;
         }
         
-        String sessionId = playerSessions.get(playerId);
-        GameSession session = sessions.get(sessionId);
+        GameSession session = playerSessions.get(playerId);
+        String sessionId = session != null ? session.getSessionId() : null;
         GamePlayer gamePlayer = activePlayers.get(playerId);
         
         if (session != null && gamePlayer != null) {
@@ -425,6 +419,28 @@ public class GameManager {
         return true;
     }
     
+    /**
+     * Release every player of a session whose match is over, restoring what they had before joining
+     * The session clears its own player list afterwards, so nobody is removed from it one at a time.
+     */
+    public void releaseSessionPlayers(GameSession session) {
+        for (GamePlayer gamePlayer : session.getPlayers().values()) {
+            UUID playerId = gamePlayer.getPlayerId();
+            if (playerSessions.get(playerId) != session) {
+                continue; // Already left or moved on
+            }
+            activePlayers.remove(playerId);
+            playerSessions.remove(playerId);
+            
+            Player player = gamePlayer.getBukkitPlayer();
+            if (player != null && player.isOnline()) {
+                restorePlayerState(player);
+            } else {
+                restoreData.remove(playerId);
+            }
+        }
+    }
+    
     /**
      * Check if a player is currently in a game
      */
@@ -443,9 +459,26 @@ public class GameManager {
      * Get the session ID for a player
      */
     public String getPlayerSession(Player player) {
+        GameSession session = playerSessions.get(player.getUniqueId());
+        return session != null ? session.getSessionId() : null;
+    }
+    
+    /**
+     * Get the session a player is in with a single lookup, or null
+     */
+    public GameSession getSessionOf(Player player) {
         return playerSessions.get(player.getUniqueId());
     }
     
+    /**
+     * Move a player to their new language group in any session they receive broadcasts from
+     */
+    public void refreshPlayerLanguage(Player player) {
+        for (GameSession session : sessions.values()) {
+            session.refreshLanguage(player);
+        }
+    }
+    
     /**
      * Store player's current state before joining a game
      */
@@ -513,12 +546,8 @@ public class GameManager {
      * Start the cleanup task for inactive sessions
      */
     private void startCleanupTask() {
-        cleanupTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                cleanupInactiveSessions();
-            }
-        }.runTaskTimer(plugin, 20 * 60, 20 * 60); // Run every minute
+        cleanupTask = plugin.getGameLoop().schedule(GameLoop.Phase.HOUSEKEEPING,
+            "GameManager.cleanup", 20 * 60, this::cleanupInactiveSessions); // Run every minute
     }
     
     /**
@@ -554,6 +583,13 @@ public class GameManager {
         return databaseManager;
     }
     
+    /**
+     * Get projectile tracker
+     */
+    public ProjectileTracker getProjectileTracker() {
+        return projectileTracker;
+    }
+    
     /**
      * Get message manager
      */
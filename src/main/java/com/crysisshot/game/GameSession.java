@@ -1,18 +1,26 @@
 package com.crysisshot.game;
 
 import com.crysisshot.CrysisShot;
+import com.crysisshot.arena.Arena;
+import com.crysisshot.arena.ArenaBounds;
 import com.crysisshot.config.ConfigManager;
+import com.crysisshot.journal.MatchJournal;
 import com.crysisshot.localization.MessageManager;
+import com.crysisshot.replay.ReplayRecorder;
 import com.crysisshot.models.GamePlayer;
 import com.crysisshot.models.GamePlayer.GamePlayerState;
+import com.crysisshot.utils.DebugCategory;
 import com.crysisshot.utils.Logger;
 import org.bukkit.Bukkit;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Location;
+import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents a single game session with state management
@@ -27,8 +35,9 @@ public class GameSession {
     private final String arenaName;
     
     // Game state
-    private GameState currentState;
+    private final AtomicReference<GameState> currentState = new AtomicReference<>(GameState.WAITING);
     private final Map<UUID, GamePlayer> players;
+    private final SessionAudience audience; // players, grouped by language
     private final List<Location> spawnPoints;
     private long gameStartTime;
     private long gameEndTime;
@@ -40,11 +49,19 @@ public class GameSession {
     
     // Game mechanics
     private GamePlayer winner;
+    private final SessionLeaderboard leaderboard = new SessionLeaderboard(); // standings, sorted as scores change
+    private final SessionScoreboard scoreboard; // sidebar fed from the standings
     private final Map<UUID, Integer> playerScores;
-    private BukkitTask gameTask;
-    private BukkitTask countdownTask;
+    private GameLoop.Job gameTask;
+    private GameLoop.Job scoreboardTask;
+    private TimerWheel.Timeout countdownTask;
+    private TimerWheel.Timeout timeLimitTask;
+    private final Map<UUID, Map<GamePlayer.PowerUpType, TimerWheel.Timeout>> powerupExpiries = new HashMap<>(); // main thread only
     private int countdownSeconds;
     private int totalKills; // Track total kills in the session
+    private MatchJournal journal = MatchJournal.DISABLED; // event journal of the running match
+    private ReplayRecorder replay = ReplayRecorder.DISABLED; // position recording of the running match
+    private ArenaBounds bounds = ArenaBounds.UNBOUNDED; // play area of the running match
     
     // Arena information
     private Location lobbyLocation;
@@ -72,13 +89,14 @@ public class GameSession {
         this.playerScores = new ConcurrentHashMap<>();
         this.spawnPoints = new ArrayList<>();
         this.powerupSpawnLocations = new ArrayList<>();
+        this.audience = new SessionAudience(messageManager);
+        this.scoreboard = new SessionScoreboard(this, messageManager);
         this.totalKills = 0;
         
         // Load configuration
         loadGameConfiguration();
         
-        // Set initial state and creation time
-        this.currentState = GameState.WAITING;
+        // Set creation time
         this.createdTime = System.currentTimeMillis();
         
         Logger.info("Created new game session: " + sessionId + " for arena: " + arenaName);
@@ -99,7 +117,7 @@ public class GameSession {
      * Add a player to the game session
      */
     public boolean addPlayer(Player bukkitPlayer) {
-        if (currentState != GameState.WAITING) {
+        if (currentState.get() != GameState.WAITING) {
             return false; // Can only join during waiting state
         }
         
@@ -116,6 +134,8 @@ public class GameSession {
         GamePlayer gamePlayer = new GamePlayer(bukkitPlayer);
         players.put(playerId, gamePlayer);
         playerScores.put(playerId, 0);
+        leaderboard.update(playerId, gamePlayer.getPlayerName(), 0);
+        audience.add(bukkitPlayer);
         
         // Notify all players
         broadcastMessage("game.player-joined", 
@@ -140,11 +160,15 @@ public class GameSession {
             return false;
         }
         
-        // Restore player's original state
+        // Restore player's original state and drop pending power-up expiries
+        clearPowerups(gamePlayer);
         gamePlayer.restoreOriginalState();
         
         // Remove from scores
         playerScores.remove(playerId);
+        audience.remove(playerId);
+        leaderboard.remove(playerId);
+        scoreboard.remove(gamePlayer.getBukkitPlayer());
         
         // Notify remaining players
         broadcastMessage("game.player-left",
@@ -155,7 +179,7 @@ public class GameSession {
         Logger.info("Player " + gamePlayer.getPlayerName() + " left game session " + sessionId);
         
         // Check if game should end due to insufficient players
-        if (currentState == GameState.ACTIVE && players.size() < 2) {
+        if (currentState.get() == GameState.ACTIVE && players.size() < 2) {
             endGame("Insufficient players");
         }
         
@@ -166,7 +190,7 @@ public class GameSession {
      * Check if conditions are met to start the game
      */
     private void checkStartConditions() {
-        if (currentState == GameState.WAITING && players.size() >= minPlayers) {
+        if (currentState.get() == GameState.WAITING && players.size() >= minPlayers) {
             startCountdown();
         }
     }
@@ -175,36 +199,43 @@ public class GameSession {
      * Start the pre-game countdown
      */
     private void startCountdown() {
-        if (currentState != GameState.WAITING) {
+        if (!transition(GameState.WAITING, GameState.STARTING)) {
             return;
         }
         
-        setState(GameState.STARTING);
-        
-        // Start countdown task
-        countdownTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (countdownSeconds > 0) {
-                broadcastMessage("game.countdown", "seconds", String.valueOf(countdownSeconds));
-                countdownSeconds--;
-            } else {
-                countdownTask.cancel();
-                startGame();
-            }
-        }, 0L, 20L); // Run every second (20 ticks)
+        // Start countdown on the next tick
+        countdownTask = plugin.getGameLoop().getTimers().schedule(1, this::countdownStep);
         
         Logger.info("Started countdown for game session " + sessionId);
     }
     
+    /**
+     * Announce one second of the countdown and queue the next, or start the game at zero
+     */
+    private void countdownStep() {
+        if (countdownSeconds > 0) {
+            broadcastMessage("game.countdown", "seconds", String.valueOf(countdownSeconds));
+            countdownSeconds--;
+            countdownTask = plugin.getGameLoop().getTimers().schedule(20, this::countdownStep); // One second
+        } else {
+            countdownTask = null;
+            startGame();
+        }
+    }
+    
     /**
      * Start the actual game
      */
     private void startGame() {
-        if (currentState != GameState.STARTING) {
+        if (!transition(GameState.STARTING, GameState.ACTIVE)) {
             return;
         }
         
-        setState(GameState.ACTIVE);
         gameStartTime = System.currentTimeMillis();
+        Arena arena = plugin.getArenaManager().getArena(arenaName);
+        bounds = ArenaBounds.of(arena);
+        loadSpawnPoints(arena);
+        journal = plugin.getJournalManager().open(sessionId, arenaName);
         
         // Set all players to playing state
         for (GamePlayer gamePlayer : players.values()) {
@@ -212,15 +243,20 @@ public class GameSession {
             gamePlayer.resetSessionStats();
             
             // Teleport to random spawn point
-            if (!spawnPoints.isEmpty()) {
-                Location spawnPoint = spawnPoints.get(new Random().nextInt(spawnPoints.size()));
+            Location spawnPoint = getRandomSpawnPoint();
+            if (spawnPoint != null) {
                 gamePlayer.getBukkitPlayer().teleport(spawnPoint);
             }
             
             // Give starting equipment (will be handled by inventory management)
             setupPlayerInventory(gamePlayer);
+            journal.recordRespawn(gamePlayer.getBukkitPlayer());
+            scoreboard.add(gamePlayer.getBukkitPlayer());
         }
         
+        // Record positions from the spawn points on
+        replay = plugin.getReplayManager().open(this);
+        
         // Start game management task
         startGameTask();
         
@@ -252,58 +288,78 @@ public class GameSession {
     }
     
     /**
-     * Start the main game management task
+     * Start the main game management task and the time limit
+     * Score wins are detected as scores change, so the task only flushes the journal.
      */
     private void startGameTask() {
-        gameTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            // Update power-up effects for all players
-            for (GamePlayer gamePlayer : players.values()) {
-                gamePlayer.updatePowerupEffects();
-            }
-            
-            // Check win conditions
-            checkWinConditions();
-            
-            // Check time limit
-            if (maxDuration > 0 && System.currentTimeMillis() - gameStartTime >= maxDuration) {
+        gameTask = plugin.getGameLoop().schedule(GameLoop.Phase.MATCH, "GameSession.gameTask", 20, () -> {
+            // Hand the last second of events to the journal writer
+            journal.flush();
+        }); // Run every second
+        
+        scoreboard.update();
+        scoreboardTask = plugin.getGameLoop().schedule(GameLoop.Phase.MATCH, "GameSession.scoreboard",
+            configManager.getScoreboardUpdateInterval(), scoreboard::update);
+        
+        if (maxDuration > 0) {
+            timeLimitTask = plugin.getGameLoop().getTimers().schedule(maxDuration / 50, () -> {
+                timeLimitTask = null;
                 endGame("Time limit reached");
-            }
-            
-        }, 0L, 20L); // Run every second
+            });
+        }
     }
     
     /**
-     * Check if any player has won the game
+     * Move a player to their new place in the standings after their score changed, and end
+     * the game once the leader reaches the target score
      */
-    private void checkWinConditions() {
-        for (GamePlayer gamePlayer : players.values()) {
-            if (gamePlayer.getCurrentScore() >= targetScore) {
-                winner = gamePlayer;
-                endGame("Score limit reached");
-                return;
-            }
+    public void onScoreChanged(GamePlayer gamePlayer) {
+        if (currentState.get() != GameState.ACTIVE || !players.containsKey(gamePlayer.getPlayerId())) {
+            return;
+        }
+        playerScores.put(gamePlayer.getPlayerId(), gamePlayer.getCurrentScore());
+        leaderboard.update(gamePlayer.getPlayerId(), gamePlayer.getPlayerName(), gamePlayer.getCurrentScore());
+        
+        GamePlayer leader = getLeader();
+        if (leader != null && leader.getCurrentScore() >= targetScore) {
+            winner = leader;
+            endGame("Score limit reached");
         }
     }
     
     /**
      * End the game
+     * Only the caller that moves the session from ACTIVE to ENDING runs the end sequence.
      */
     public void endGame(String reason) {
-        if (currentState != GameState.ACTIVE) {
+        if (!transition(GameState.ACTIVE, GameState.ENDING)) {
             return;
         }
         
-        setState(GameState.ENDING);
         gameEndTime = System.currentTimeMillis();
         
-        // Cancel game task
+        // Cancel game task and time limit
         if (gameTask != null) {
             gameTask.cancel();
         }
+        if (scoreboardTask != null) {
+            scoreboardTask.cancel();
+        }
+        scoreboard.update(); // Final standings stay up until the reset
+        if (timeLimitTask != null) {
+            timeLimitTask.cancel();
+            timeLimitTask = null;
+        }
+        
+        // Arrows still in flight no longer count for anything
+        plugin.getGameManager().getProjectileTracker().clearSession(sessionId);
+        journal.close();
+        replay.close();
         
         // Determine winner if not already set
         if (winner == null) {
-            winner = getPlayerWithHighestScore();
+            GamePlayer leader = getLeader();
+            winner = leader != null ? leader : getPlayerWithHighestScore();
         }
         
         // Broadcast game end
@@ -315,7 +371,9 @@ public class GameSession {
             broadcastMessage("game.ended", "reason", reason);
         }
         
-        // Show final statistics
+        // Show the final standings and each player's own statistics
+        broadcastFinalLeaderboard();
+        playEndSounds();
         showFinalStatistics();
         
         // Schedule cleanup
@@ -333,6 +391,42 @@ public class GameSession {
             .orElse(null);
     }
     
+    /**
+     * Broadcast the top five of the final standings
+     */
+    private void broadcastFinalLeaderboard() {
+        List<SessionLeaderboard.Entry> top = leaderboard.top(5);
+        if (top.isEmpty()) {
+            return;
+        }
+        
+        broadcastMessage("game.leaderboard.header");
+        for (int i = 0; i < top.size(); i++) {
+            SessionLeaderboard.Entry entry = top.get(i);
+            GamePlayer gamePlayer = players.get(entry.getPlayerId());
+            broadcastMessage("game.leaderboard.entry",
+                "position", String.valueOf(i + 1),
+                "player", entry.getPlayerName(),
+                "score", String.valueOf(entry.getScore()),
+                "kills", String.valueOf(gamePlayer != null ? gamePlayer.getSessionKills() : 0),
+                "deaths", String.valueOf(gamePlayer != null ? gamePlayer.getSessionDeaths() : 0));
+        }
+    }
+    
+    /**
+     * Play the victory sound to the winner and the defeat sound to everyone else
+     */
+    private void playEndSounds() {
+        for (GamePlayer gamePlayer : players.values()) {
+            Player bukkitPlayer = gamePlayer.getBukkitPlayer();
+            if (bukkitPlayer == null || !bukkitPlayer.isOnline()) {
+                continue;
+            }
+            Sound sound = gamePlayer == winner ? Sound.UI_TOAST_CHALLENGE_COMPLETE : Sound.ENTITY_VILLAGER_NO;
+            bukkitPlayer.playSound(bukkitPlayer.getLocation(), sound, 1.0f, 1.0f);
+        }
+    }
+    
     /**
      * Show final game statistics to all players
      */
@@ -362,15 +456,28 @@ public class GameSession {
         
         // Restore all players' original states
         for (GamePlayer gamePlayer : players.values()) {
+            messageManager.sendMessage(gamePlayer.getBukkitPlayer(), "game.end.thankyou");
+            clearPowerups(gamePlayer);
             gamePlayer.restoreOriginalState();
         }
+        plugin.getGameManager().releaseSessionPlayers(this);
         
         // Clear collections
         players.clear();
         playerScores.clear();
+        audience.clear();
         
         // Reset game state
+        if (countdownTask != null) {
+            countdownTask.cancel();
+            countdownTask = null;
+        }
         winner = null;
+        scoreboard.clear();
+        leaderboard.clear();
+        journal = MatchJournal.DISABLED;
+        replay = ReplayRecorder.DISABLED;
+        bounds = ArenaBounds.UNBOUNDED;
         gameStartTime = 0;
         gameEndTime = 0;
         countdownSeconds = 10; // Default countdown duration
@@ -385,7 +492,7 @@ public class GameSession {
      * Handle player kill event
      */
     public void handlePlayerKill(GamePlayer killer, GamePlayer victim, boolean wasArrowKill) {
-        if (currentState != GameState.ACTIVE) {
+        if (currentState.get() != GameState.ACTIVE) {
             return;
         }
         
@@ -393,9 +500,6 @@ public class GameSession {
         killer.recordKill(victim, wasArrowKill);
         victim.recordDeath(killer);
         
-        // Update scores map
-        playerScores.put(killer.getPlayerId(), killer.getCurrentScore());
-        
         // Increment total kills
         totalKills++;
         
@@ -412,41 +516,95 @@ public class GameSession {
                 "streak", String.valueOf(killer.getKillStreak()));
         }
         
-        Logger.info("Kill recorded: " + killer.getPlayerName() + " -> " + victim.getPlayerName() + 
-                   " (Arrow: " + wasArrowKill + ")");
+        Logger.event("Kill recorded: {} -> {} (Arrow: {})", killer.getPlayerName(), victim.getPlayerName(), wasArrowKill);
+        
+        // Update the leaders last, this may end the game
+        onScoreChanged(killer);
     }
-      /**
-     * Broadcast a message to all players in the game
+    
+    /**
+     * Apply a power-up to a player and record it in the match journal
+     * Timed effects expire on the first tick at or after durationMs.
      */
-    public void broadcastMessage(String messageKey, String... placeholders) {
-        for (GamePlayer gamePlayer : players.values()) {
-            Player bukkitPlayer = gamePlayer.getBukkitPlayer();
-            if (bukkitPlayer != null && bukkitPlayer.isOnline()) {
-                messageManager.sendMessage(bukkitPlayer, messageKey, placeholders);
+    public void applyPowerup(GamePlayer gamePlayer, GamePlayer.PowerUpType powerup, long durationMs) {
+        if (gamePlayer.applyPowerup(powerup)) {
+            // Picking the same power-up up again replaces the pending expiry rather than stacking one
+            int durationTicks = (int) Math.max(1, (durationMs + 49) / 50);
+            TimerWheel.Timeout expiry = plugin.getGameLoop().getTimers().schedule(durationTicks,
+                () -> expirePowerup(gamePlayer, powerup));
+            TimerWheel.Timeout previous = powerupExpiries
+                .computeIfAbsent(gamePlayer.getPlayerId(), id -> new EnumMap<>(GamePlayer.PowerUpType.class))
+                .put(powerup, expiry);
+            if (previous != null) {
+                previous.cancel();
+            }
+        }
+        journal.recordPowerup(gamePlayer.getBukkitPlayer(), powerup);
+    }
+    
+    private void expirePowerup(GamePlayer gamePlayer, GamePlayer.PowerUpType powerup) {
+        Map<GamePlayer.PowerUpType, TimerWheel.Timeout> expiries = powerupExpiries.get(gamePlayer.getPlayerId());
+        if (expiries != null) {
+            expiries.remove(powerup);
+            if (expiries.isEmpty()) {
+                powerupExpiries.remove(gamePlayer.getPlayerId());
             }
         }
+        gamePlayer.expirePowerup(powerup);
     }
     
     /**
-     * Broadcast a raw message to all players in the game
+     * Drop a player's power-up effects along with their pending expiries
      */
-    public void broadcastMessage(String message) {
-        for (GamePlayer gamePlayer : players.values()) {
-            Player bukkitPlayer = gamePlayer.getBukkitPlayer();
-            if (bukkitPlayer != null && bukkitPlayer.isOnline()) {
-                bukkitPlayer.sendMessage(message);
+    private void clearPowerups(GamePlayer gamePlayer) {
+        Map<GamePlayer.PowerUpType, TimerWheel.Timeout> expiries = powerupExpiries.remove(gamePlayer.getPlayerId());
+        if (expiries != null) {
+            for (TimerWheel.Timeout expiry : expiries.values()) {
+                expiry.cancel();
             }
         }
+        gamePlayer.clearAllPowerups();
+    }
+      /**
+     * Broadcast a message to all players, rendered once per language
+     */
+    public void broadcastMessage(String messageKey, String... placeholders) {
+        audience.sendLocalized(messageKey, placeholders);
+    }
+    
+    /**
+     * Broadcast a pre-rendered (&-coded) message to all players
+     */
+    public void broadcastMessage(String message) {
+        audience.sendMessage(LegacyComponentSerializer.legacyAmpersand().deserialize(message));
+    }
+    
+    /**
+     * Move a member to the language group they now use
+     */
+    public void refreshLanguage(Player player) {
+        audience.refreshLanguage(player);
+        scoreboard.refreshLanguage(player);
+    }
+    
+    /**
+     * Move from one state to another only if the session is still in the expected state
+     */
+    private boolean transition(GameState expected, GameState next) {
+        if (!currentState.compareAndSet(expected, next)) {
+            return false;
+        }
+        Logger.debug(DebugCategory.GAME_EVENTS, "Game session {} state changed: {} -> {}", sessionId, expected, next);
+        return true;
     }
     
     /**
      * Set the game state and handle state transitions
      */
     public void setState(GameState newState) {
-        GameState oldState = this.currentState;
-        this.currentState = newState;
+        GameState oldState = currentState.getAndSet(newState);
         
-        Logger.debug("Game session " + sessionId + " state changed: " + oldState + " -> " + newState);
+        Logger.debug(DebugCategory.GAME_EVENTS, "Game session {} state changed: {} -> {}", sessionId, oldState, newState);
     }
     
     /**
@@ -462,9 +620,9 @@ public class GameSession {
             victim.addDeath();
         }
         
-        Logger.debug(String.format("Updated statistics for kill: " +
+        Logger.debug(DebugCategory.GAME_EVENTS, "Updated statistics for kill: {} -> {}",
             killer != null ? killer.getPlayerName() : "unknown",
-            victim != null ? victim.getPlayerName() : "unknown"));
+            victim != null ? victim.getPlayerName() : "unknown");
     }
     
     /**
@@ -476,24 +634,47 @@ public class GameSession {
     
     // Getters and state checkers
     public String getSessionId() { return sessionId; }
-    public GameState getCurrentState() { return currentState; }
+    public GameState getCurrentState() { return currentState.get(); }
     public Map<UUID, GamePlayer> getPlayers() { return new HashMap<>(players); }
     public int getPlayerCount() { return players.size(); }
     public int getMaxPlayers() { return maxPlayers; }
     public int getMinPlayers() { return minPlayers; }
     public GamePlayer getWinner() { return winner; }
+    public SessionLeaderboard getLeaderboard() { return leaderboard; }
+    public SessionScoreboard getScoreboard() { return scoreboard; }
+    
+    /**
+     * Get the highest scorer, or null while nobody has scored
+     */
+    public GamePlayer getLeader() {
+        return getScoredPlayer(leaderboard.getLeader());
+    }
+    
+    /**
+     * Get the second highest scorer, or null while fewer than two have scored
+     */
+    public GamePlayer getRunnerUp() {
+        return getScoredPlayer(leaderboard.getRunnerUp());
+    }
+    
+    private GamePlayer getScoredPlayer(SessionLeaderboard.Entry entry) {
+        return entry != null && entry.getScore() > 0 ? players.get(entry.getPlayerId()) : null;
+    }
+    
     public long getGameStartTime() { return gameStartTime; }
     public long getGameEndTime() { return gameEndTime; }
     public String getArenaName() { return arenaName; }
+    public MatchJournal getJournal() { return journal; }
+    public ArenaBounds getBounds() { return bounds; }
     
-    public boolean isWaiting() { return currentState == GameState.WAITING; }
-    public boolean isStarting() { return currentState == GameState.STARTING; }
-    public boolean isActive() { return currentState == GameState.ACTIVE; }
-    public boolean isEnding() { return currentState == GameState.ENDING; }
-    public boolean isResetting() { return currentState == GameState.RESETTING; }
+    public boolean isWaiting() { return currentState.get() == GameState.WAITING; }
+    public boolean isStarting() { return currentState.get() == GameState.STARTING; }
+    public boolean isActive() { return currentState.get() == GameState.ACTIVE; }
+    public boolean isEnding() { return currentState.get() == GameState.ENDING; }
+    public boolean isResetting() { return currentState.get() == GameState.RESETTING; }
     
     public boolean canJoin() { 
-        return currentState == GameState.WAITING && players.size() < maxPlayers; 
+        return currentState.get() == GameState.WAITING && players.size() < maxPlayers; 
     }
     
     public boolean hasPlayer(UUID playerId) {
@@ -507,7 +688,7 @@ public class GameSession {
     /**
      * Additional getter methods for GameManager integration
      */
-    public GameState getState() { return currentState; }
+    public GameState getState() { return currentState.get(); }
     public long getCreatedTime() { return createdTime; }
     
     /**
@@ -522,6 +703,16 @@ public class GameSession {
         return endTime - gameStartTime;
     }
     
+    /**
+     * Get the time left before the time limit in milliseconds, or -1 without a limit
+     */
+    public long getTimeLeftMillis() {
+        if (maxDuration <= 0) {
+            return -1;
+        }
+        return Math.max(0, maxDuration - getGameDuration());
+    }
+    
     /**
      * Add spawn point for the arena
      */
@@ -529,6 +720,40 @@ public class GameSession {
         spawnPoints.add(location.clone());
     }
     
+    /**
+     * Take the arena's spawn points for this match, dropping any outside its bounds
+     * A spawn outside the bounds would leave the player stuck at the boundary from the first move.
+     */
+    private void loadSpawnPoints(Arena arena) {
+        if (spawnPoints.isEmpty() && arena != null && arena.getSpawnPoints() != null) {
+            for (Location spawn : arena.getSpawnPoints()) {
+                spawnPoints.add(spawn.clone());
+            }
+        }
+        spawnPoints.removeIf(spawn -> {
+            if (!bounds.appliesTo(spawn.getWorld())
+                    || bounds.contains(spawn.getBlockX(), spawn.getBlockY(), spawn.getBlockZ())) {
+                return false;
+            }
+            Logger.warning("Ignoring spawn point outside the bounds of arena " + arenaName + ": "
+                + spawn.getBlockX() + "," + spawn.getBlockY() + "," + spawn.getBlockZ());
+            return true;
+        });
+        if (spawnPoints.isEmpty()) {
+            Logger.warning("Arena " + arenaName + " has no usable spawn points; players stay where they are");
+        }
+    }
+    
+    /**
+     * Get a random spawn point, or null if none are set
+     */
+    public Location getRandomSpawnPoint() {
+        if (spawnPoints.isEmpty()) {
+            return null;
+        }
+        return spawnPoints.get(ThreadLocalRandom.current().nextInt(spawnPoints.size()));
+    }
+    
     /**
      * Set the lobby location
      */
@@ -546,7 +771,7 @@ public class GameSession {
      * Check if the session can accept more players
      */
     public boolean canAcceptPlayers() {
-        return currentState == GameState.WAITING && players.size() < maxPlayers;
+        return currentState.get() == GameState.WAITING && players.size() < maxPlayers;
     }
     
     /**
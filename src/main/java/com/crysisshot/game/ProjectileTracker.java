@@ -0,0 +1,130 @@
+package com.crysisshot.game;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.utils.DebugCategory;
+import com.crysisshot.utils.Logger;
+import org.bukkit.Bukkit;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks arrows fired inside game sessions for kill attribution
+ * Entries are dropped when the arrow lands, when its session ends, or once they
+ * are older than the configured TTL, so arrows that despawn or fly out of loaded
+ * chunks without a hit event can never pile up.
+ */
+public class ProjectileTracker {
+
+    private static final int SWEEP_INTERVAL_TICKS = 20;
+
+    private final CrysisShot plugin;
+    private final int ttlTicks;
+    private final Map<UUID, TrackedProjectile> projectiles = new ConcurrentHashMap<>();
+    private GameLoop.Job sweepTask;
+
+    public ProjectileTracker(CrysisShot plugin) {
+        this.plugin = plugin;
+        this.ttlTicks = plugin.getConfigManager().getProjectileTtlTicks();
+    }
+
+    /**
+     * Start the periodic age sweep
+     */
+    public void start() {
+        sweepTask = plugin.getGameLoop().schedule(GameLoop.Phase.HOUSEKEEPING,
+            "ProjectileTracker.sweep", SWEEP_INTERVAL_TICKS, this::sweep);
+    }
+
+    /**
+     * Stop the sweep and forget every tracked projectile
+     */
+    public void shutdown() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+        }
+        projectiles.clear();
+    }
+
+    /**
+     * Record a projectile fired by a player in a session
+     */
+    public void track(UUID projectileId, UUID shooterId, String sessionId) {
+        projectiles.put(projectileId, new TrackedProjectile(shooterId, sessionId, Bukkit.getCurrentTick()));
+    }
+
+    /**
+     * Remove and return a projectile's attribution, or null if untracked or expired
+     */
+    public TrackedProjectile remove(UUID projectileId) {
+        TrackedProjectile projectile = projectiles.remove(projectileId);
+        if (projectile == null || isExpired(projectile, Bukkit.getCurrentTick())) {
+            return null;
+        }
+        return projectile;
+    }
+
+    /**
+     * Forget every projectile fired in a session
+     */
+    public void clearSession(String sessionId) {
+        projectiles.values().removeIf(projectile -> projectile.getSessionId().equals(sessionId));
+    }
+
+    /**
+     * Drop projectiles older than the TTL
+     */
+    public void sweep() {
+        int now = Bukkit.getCurrentTick();
+        int before = projectiles.size();
+        projectiles.values().removeIf(projectile -> isExpired(projectile, now));
+
+        int removed = before - projectiles.size();
+        if (removed > 0) {
+            Logger.debug(DebugCategory.GAME_EVENTS, "Expired {} tracked projectiles", removed);
+        }
+    }
+
+    /**
+     * Get the number of projectiles currently tracked
+     */
+    public int size() {
+        return projectiles.size();
+    }
+
+    public int getTtlTicks() {
+        return ttlTicks;
+    }
+
+    private boolean isExpired(TrackedProjectile projectile, int now) {
+        return now - projectile.getSpawnTick() > ttlTicks;
+    }
+
+    /**
+     * Who fired a projectile, in which session and when
+     */
+    public static class TrackedProjectile {
+        private final UUID shooterId;
+        private final String sessionId;
+        private final int spawnTick;
+
+        TrackedProjectile(UUID shooterId, String sessionId, int spawnTick) {
+            this.shooterId = shooterId;
+            this.sessionId = sessionId;
+            this.spawnTick = spawnTick;
+        }
+
+        public UUID getShooterId() {
+            return shooterId;
+        }
+
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        public int getSpawnTick() {
+            return spawnTick;
+        }
+    }
+}
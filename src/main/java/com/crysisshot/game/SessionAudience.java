@@ -0,0 +1,107 @@
+package com.crysisshot.game;
+
+import com.crysisshot.localization.MessageManager;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Everyone who should see a session's broadcasts, grouped by language
+ * A localized broadcast is rendered once per language present in the session and
+ * handed to that language's group, instead of once per player.
+ */
+public class SessionAudience implements ForwardingAudience {
+
+    private final MessageManager messageManager;
+    private final Map<String, LanguageGroup> groups = new ConcurrentHashMap<>();
+    private final Map<UUID, String> memberLanguages = new ConcurrentHashMap<>();
+
+    public SessionAudience(MessageManager messageManager) {
+        this.messageManager = messageManager;
+    }
+
+    /**
+     * Add a player under their current language
+     */
+    public void add(Player player) {
+        String language = messageManager.getPlayerLanguage(player);
+        String previous = memberLanguages.put(player.getUniqueId(), language);
+        if (previous != null && !previous.equals(language)) {
+            removeFromGroup(previous, player.getUniqueId());
+        }
+        groups.compute(language, (lang, group) -> {
+            LanguageGroup target = group != null ? group : new LanguageGroup(lang);
+            target.members.put(player.getUniqueId(), player);
+            return target;
+        });
+    }
+
+    /**
+     * Remove a member
+     */
+    public void remove(UUID playerId) {
+        String language = memberLanguages.remove(playerId);
+        if (language != null) {
+            removeFromGroup(language, playerId);
+        }
+    }
+
+    /**
+     * Move a member to their newly chosen language group
+     */
+    public void refreshLanguage(Player player) {
+        if (memberLanguages.containsKey(player.getUniqueId())) {
+            add(player);
+        }
+    }
+
+    /**
+     * Remove every member
+     */
+    public void clear() {
+        groups.clear();
+        memberLanguages.clear();
+    }
+
+    /**
+     * Render a message once per language and send it to each group
+     */
+    public void sendLocalized(String key, String... placeholders) {
+        for (LanguageGroup group : groups.values()) {
+            group.sendMessage(messageManager.getComponent(key, group.language, placeholders));
+        }
+    }
+
+    @Override
+    public Iterable<? extends Audience> audiences() {
+        return groups.values();
+    }
+
+    private void removeFromGroup(String language, UUID playerId) {
+        groups.computeIfPresent(language, (lang, group) -> {
+            group.members.remove(playerId);
+            return group.members.isEmpty() ? null : group;
+        });
+    }
+
+    /**
+     * Members sharing one language
+     */
+    private static class LanguageGroup implements ForwardingAudience {
+        private final String language;
+        private final Map<UUID, Player> members = new ConcurrentHashMap<>();
+
+        LanguageGroup(String language) {
+            this.language = language;
+        }
+
+        @Override
+        public Iterable<? extends Audience> audiences() {
+            return members.values();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.crysisshot.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * In-match standings of one session, kept sorted as scores change
+ * A score change re-inserts one entry in O(log n) instead of re-sorting every player.
+ * Equal scores rank by who reached the score first. Main thread only.
+ */
+public class SessionLeaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator
+        .comparingInt((Entry entry) -> -entry.score)
+        .thenComparingLong(entry -> entry.sequence);
+
+    private final TreeSet<Entry> ranked = new TreeSet<>(ORDER);
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private long sequence;
+    private long version;
+
+    /**
+     * Add a player or move them to their new score
+     */
+    public void update(UUID playerId, String playerName, int score) {
+        Entry current = entries.get(playerId);
+        if (current != null) {
+            if (current.score == score && current.playerName.equals(playerName)) {
+                return;
+            }
+            ranked.remove(current);
+        }
+        Entry entry = new Entry(playerId, playerName, score, sequence++);
+        entries.put(playerId, entry);
+        ranked.add(entry);
+        version++;
+    }
+
+    /**
+     * Drop a player from the standings
+     */
+    public void remove(UUID playerId) {
+        Entry entry = entries.remove(playerId);
+        if (entry != null) {
+            ranked.remove(entry);
+            version++;
+        }
+    }
+
+    public void clear() {
+        if (!entries.isEmpty()) {
+            entries.clear();
+            ranked.clear();
+            version++;
+        }
+    }
+
+    /**
+     * Get the best entries in rank order
+     */
+    public List<Entry> top(int limit) {
+        if (limit <= 0 || ranked.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Entry> top = new ArrayList<>(Math.min(limit, ranked.size()));
+        Iterator<Entry> iterator = ranked.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /**
+     * Get the first-placed entry, or null when nobody is ranked
+     */
+    public Entry getLeader() {
+        return ranked.isEmpty() ? null : ranked.first();
+    }
+
+    /**
+     * Get the second-placed entry, or null when fewer than two are ranked
+     */
+    public Entry getRunnerUp() {
+        Entry leader = getLeader();
+        return leader == null ? null : ranked.higher(leader);
+    }
+
+    public Entry get(UUID playerId) {
+        return entries.get(playerId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Counter bumped on every change, so readers can skip re-rendering unchanged standings
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * One player's standing
+     */
+    public static final class Entry {
+        private final UUID playerId;
+        private final String playerName;
+        private final int score;
+        private final long sequence;
+
+        private Entry(UUID playerId, String playerName, int score, long sequence) {
+            this.playerId = playerId;
+            this.playerName = playerName;
+            this.score = score;
+            this.sequence = sequence;
+        }
+
+        public UUID getPlayerId() { return playerId; }
+        public String getPlayerName() { return playerName; }
+        public int getScore() { return score; }
+    }
+}
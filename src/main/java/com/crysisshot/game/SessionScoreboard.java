@@ -0,0 +1,221 @@
+package com.crysisshot.game;
+
+import com.crysisshot.localization.MessageManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+import org.bukkit.scoreboard.Team;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Sidebar scoreboard of a running match, one board per language in the session
+ * Each line is a team prefix on a fixed invisible entry, so changing a line is a single
+ * team update. Refreshes run at the configured interval and only send lines whose text
+ * changed since the last one. Main thread only.
+ */
+public class SessionScoreboard {
+
+    private static final int TOP_ENTRIES = 8;
+    private static final int HEADER_LINES = 4; // players, time left, leader, spacer
+    private static final int LINES = HEADER_LINES + TOP_ENTRIES;
+
+    private final GameSession session;
+    private final MessageManager messageManager;
+    private final Map<String, Board> boards = new HashMap<>();
+    private final Map<UUID, Board> viewers = new HashMap<>();
+    private long renderedVersion = -1;
+    private long renderedSeconds = -1;
+    private int renderedPlayers = -1;
+    private boolean boardAdded;
+    private long linesSent;
+
+    public SessionScoreboard(GameSession session, MessageManager messageManager) {
+        this.session = session;
+        this.messageManager = messageManager;
+    }
+
+    /**
+     * Show the sidebar to a player, on the board of their language
+     */
+    public void add(Player player) {
+        ScoreboardManager manager = Bukkit.getScoreboardManager();
+        if (manager == null) {
+            return; // No worlds loaded yet
+        }
+        remove(player);
+
+        String language = messageManager.getPlayerLanguage(player);
+        Board board = boards.get(language);
+        if (board == null) {
+            board = new Board(language, manager.getNewScoreboard());
+            boards.put(language, board);
+            boardAdded = true;
+        }
+        board.viewers++;
+        viewers.put(player.getUniqueId(), board);
+        player.setScoreboard(board.scoreboard);
+    }
+
+    /**
+     * Hand a player back the main scoreboard
+     */
+    public void remove(Player player) {
+        Board board = viewers.remove(player.getUniqueId());
+        if (board == null) {
+            return;
+        }
+        if (--board.viewers == 0) {
+            boards.remove(board.language);
+        }
+        ScoreboardManager manager = Bukkit.getScoreboardManager();
+        if (manager != null && player.isOnline()) {
+            player.setScoreboard(manager.getMainScoreboard());
+        }
+    }
+
+    /**
+     * Move a player to the board of the language they now use
+     */
+    public void refreshLanguage(Player player) {
+        if (viewers.containsKey(player.getUniqueId())) {
+            add(player);
+            update();
+        }
+    }
+
+    /**
+     * Hide the sidebar from everyone
+     */
+    public void clear() {
+        for (UUID playerId : viewers.keySet().toArray(new UUID[0])) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                remove(player);
+            }
+        }
+        viewers.clear();
+        boards.clear();
+        renderedVersion = -1;
+        renderedSeconds = -1;
+        renderedPlayers = -1;
+    }
+
+    /**
+     * Re-render every board if the standings, player count or clock moved since the last refresh
+     */
+    public void update() {
+        SessionLeaderboard leaderboard = session.getLeaderboard();
+        long version = leaderboard.getVersion();
+        long timeLeft = session.getTimeLeftMillis();
+        long seconds = timeLeft < 0 ? -1 : (timeLeft + 999) / 1000;
+        int players = session.getPlayerCount();
+        if (!boardAdded && version == renderedVersion && seconds == renderedSeconds && players == renderedPlayers) {
+            return;
+        }
+        boardAdded = false;
+        renderedVersion = version;
+        renderedSeconds = seconds;
+        renderedPlayers = players;
+
+        SessionLeaderboard.Entry leader = leaderboard.getLeader();
+        List<SessionLeaderboard.Entry> top = leaderboard.top(TOP_ENTRIES);
+        String time = seconds >= 0 ? String.format("%d:%02d", seconds / 60, seconds % 60) : null;
+        for (Board board : boards.values()) {
+            board.render(render(board.language, players, time, leader, top));
+        }
+    }
+
+    private Component[] render(String language, int players, String time,
+                               SessionLeaderboard.Entry leader, List<SessionLeaderboard.Entry> top) {
+        Component[] lines = new Component[LINES];
+        lines[0] = messageManager.getComponent("scoreboard.players", language,
+            "current", String.valueOf(players),
+            "max", String.valueOf(session.getMaxPlayers()));
+        if (time != null) {
+            lines[1] = messageManager.getComponent("scoreboard.time-left", language, "time", time);
+        }
+        if (leader != null && leader.getScore() > 0) {
+            lines[2] = messageManager.getComponent("scoreboard.leader", language,
+                "player", leader.getPlayerName(),
+                "score", String.valueOf(leader.getScore()));
+        }
+        lines[3] = Component.empty();
+        for (int i = 0; i < top.size(); i++) {
+            SessionLeaderboard.Entry entry = top.get(i);
+            lines[HEADER_LINES + i] = messageManager.getComponent("scoreboard.entry", language,
+                "position", String.valueOf(i + 1),
+                "player", entry.getPlayerName(),
+                "score", String.valueOf(entry.getScore()));
+        }
+        return lines;
+    }
+
+    /**
+     * Lines sent to clients since the session was created
+     */
+    public long getLinesSent() {
+        return linesSent;
+    }
+
+    public int getViewerCount() {
+        return viewers.size();
+    }
+
+    /**
+     * Scoreboard shown to one language group, with the lines last sent to it
+     */
+    private final class Board {
+        private final String language;
+        private final Scoreboard scoreboard;
+        private final Objective objective;
+        private final Team[] teams = new Team[LINES];
+        private final String[] entries = new String[LINES];
+        private final Component[] sent = new Component[LINES];
+        private int viewers;
+
+        Board(String language, Scoreboard scoreboard) {
+            this.language = language;
+            this.scoreboard = scoreboard;
+            this.objective = scoreboard.registerNewObjective("crysisshot", Criteria.DUMMY,
+                messageManager.getComponent("scoreboard.title", language));
+            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+            for (int i = 0; i < LINES; i++) {
+                entries[i] = "§" + Integer.toHexString(i) + "§r"; // Unique and invisible
+                teams[i] = scoreboard.registerNewTeam("line" + i);
+                teams[i].addEntry(entries[i]);
+            }
+        }
+
+        /**
+         * Send only the lines that differ from what this board last showed
+         */
+        void render(Component[] lines) {
+            for (int i = 0; i < LINES; i++) {
+                Component line = lines[i];
+                if (Objects.equals(line, sent[i])) {
+                    continue;
+                }
+                if (line == null) {
+                    scoreboard.resetScores(entries[i]);
+                } else {
+                    teams[i].prefix(line);
+                    if (sent[i] == null) {
+                        objective.getScore(entries[i]).setScore(LINES - i); // Higher scores sit higher
+                    }
+                }
+                sent[i] = line;
+                linesSent++;
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.crysisshot.game;
+
+import com.crysisshot.utils.Logger;
+
+/**
+ * Hashed timing wheel for one-shot deadlines counted in server ticks
+ * Each timeout sits in the slot of its deadline tick modulo the wheel size, in an intrusive
+ * doubly linked list, so scheduling and cancelling are O(1) and an advance only visits the
+ * current slot. Deadlines further out than one turn stay in their slot until their turn
+ * comes round. Advanced once per tick by the GameLoop; main thread only.
+ */
+public class TimerWheel {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+    private static final int DUE = 3; // Unlinked for the current tick but not run yet
+
+    private final Timeout[] slots;
+    private final int mask;
+    private long currentTick;
+    private int pending;
+    private long expiredCount;
+
+    /**
+     * Create a wheel with at least the given number of slots (rounded up to a power of two)
+     */
+    public TimerWheel(int slotCount) {
+        int size = Integer.highestOneBit(Math.max(2, slotCount) - 1) << 1;
+        this.slots = new Timeout[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Run a task once, delayTicks from now (at least one tick)
+     */
+    public Timeout schedule(long delayTicks, Runnable task) {
+        Timeout timeout = new Timeout(this, currentTick + Math.max(1, delayTicks), task);
+        link(timeout);
+        pending++;
+        return timeout;
+    }
+
+    /**
+     * Move to the next tick and run every timeout due on it
+     */
+    public void advance() {
+        currentTick++;
+        int slot = (int) (currentTick & mask);
+
+        // Unlink everything due first, so tasks are free to schedule and cancel timeouts
+        Timeout due = null;
+        Timeout timeout = slots[slot];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadline <= currentTick) {
+                unlink(timeout);
+                timeout.state = DUE;
+                timeout.next = due;
+                due = timeout;
+                pending--;
+            }
+            timeout = next;
+        }
+
+        // Run in scheduling order (the list was built in reverse)
+        due = reverse(due);
+        while (due != null) {
+            Timeout next = due.next;
+            due.next = null;
+            if (due.state == DUE) { // An earlier task this tick may have cancelled it
+                due.state = EXPIRED;
+                expiredCount++;
+                try {
+                    due.task.run();
+                } catch (RuntimeException e) {
+                    Logger.severe("Timer task failed: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+            due = next;
+        }
+    }
+
+    private static Timeout reverse(Timeout head) {
+        Timeout reversed = null;
+        while (head != null) {
+            Timeout next = head.next;
+            head.next = reversed;
+            reversed = head;
+            head = next;
+        }
+        return reversed;
+    }
+
+    // Appends to the tail of the slot so same-tick timeouts keep their order
+    private void link(Timeout timeout) {
+        int slot = (int) (timeout.deadline & mask);
+        Timeout head = slots[slot];
+        if (head == null) {
+            slots[slot] = timeout;
+            timeout.tail = timeout;
+            return;
+        }
+        Timeout tail = head.tail;
+        tail.next = timeout;
+        timeout.previous = tail;
+        head.tail = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        int slot = (int) (timeout.deadline & mask);
+        Timeout previous = timeout.previous;
+        Timeout next = timeout.next;
+        if (previous == null) {
+            slots[slot] = next;
+            if (next != null) {
+                next.previous = null;
+                next.tail = timeout.tail;
+            }
+        } else {
+            previous.next = next;
+            if (next != null) {
+                next.previous = previous;
+            } else {
+                slots[slot].tail = previous;
+            }
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.tail = null;
+    }
+
+    /**
+     * Ticks the wheel has advanced
+     */
+    public long getCurrentTick() { return currentTick; }
+
+    /**
+     * Timeouts scheduled and neither expired nor cancelled
+     */
+    public int getPendingCount() { return pending; }
+
+    /**
+     * Timeouts that have run since the wheel was created
+     */
+    public long getExpiredCount() { return expiredCount; }
+
+    /**
+     * Handle to a scheduled task
+     */
+    public static final class Timeout {
+        private final TimerWheel wheel;
+        private final long deadline;
+        private final Runnable task;
+        private int state = PENDING;
+        private Timeout previous;
+        private Timeout next;
+        private Timeout tail; // only kept up to date on a slot's head
+
+        private Timeout(TimerWheel wheel, long deadline, Runnable task) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Stop the task from running; no effect once it has run
+         */
+        public void cancel() {
+            if (state == PENDING) {
+                state = CANCELLED;
+                wheel.unlink(this);
+                wheel.pending--;
+            } else if (state == DUE) {
+                state = CANCELLED;
+            }
+        }
+
+        public boolean isPending() { return state == PENDING || state == DUE; }
+        public boolean isCancelled() { return state == CANCELLED; }
+        public boolean isExpired() { return state == EXPIRED; }
+
+        /**
+         * Ticks left until the task runs, 0 once it is no longer pending
+         */
+        public long getRemainingTicks() {
+            return isPending() ? Math.max(0, deadline - wheel.currentTick) : 0;
+        }
+    }
+}
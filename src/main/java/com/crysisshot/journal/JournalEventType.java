@@ -0,0 +1,40 @@
+package com.crysisshot.journal;
+
+/**
+ * Kinds of record stored in a match journal, with their on-disk codes
+ * Codes are part of the file format; add new types at the end and never reuse a code.
+ */
+public enum JournalEventType {
+    PLAYER(0),   // Binds a player index to a UUID; written the first time a player appears
+    SHOT(1),     // Arrow fired: position is the shooter, vector is the arrow velocity
+    HIT(2),      // Arrow landed: target is the victim, or none for a block hit at the vector position
+    KILL(3),     // Kill scored: detail is the kill type, vector is the victim position
+    DEATH(4),    // Player died: target is the killer (if any), vector is the killer position
+    RESPAWN(5),  // Player back in play at the position
+    POWERUP(6);  // Power-up applied: detail is the power-up type
+
+    private static final JournalEventType[] BY_CODE = new JournalEventType[values().length];
+
+    static {
+        for (JournalEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    JournalEventType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Look up a type by its on-disk code, or null if unknown
+     */
+    public static JournalEventType fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.crysisshot.journal;
+
+/**
+ * Layout of a match journal file
+ * A header (magic, version, record size, start time, session id, arena name) is followed by
+ * fixed 32-byte big-endian records:
+ * <pre>
+ *  0 int   tick since the match started
+ *  4 byte  event type code
+ *  5 byte  actor player index
+ *  6 byte  target player index (255 = none)
+ *  7 byte  detail (kill type, power-up type)
+ *  8 float x, y, z  actor position
+ * 20 float x, y, z  event vector (see JournalEventType)
+ * </pre>
+ * PLAYER records store the UUID as two longs at offset 8 instead of the floats.
+ */
+final class JournalFormat {
+
+    static final int MAGIC = 0x43534A31; // "CSJ1"
+    static final short VERSION = 1;
+    static final int RECORD_SIZE = 32;
+    static final int NO_PLAYER = 255;
+    static final int MAX_PLAYERS = NO_PLAYER;
+    static final String FILE_SUFFIX = ".csj";
+
+    private JournalFormat() {
+    }
+}
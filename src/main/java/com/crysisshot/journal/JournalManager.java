@@ -0,0 +1,279 @@
+package com.crysisshot.journal;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.utils.Logger;
+import org.bukkit.Bukkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opens per-match journals and owns the thread that writes them
+ * Record buffers are direct ByteBuffers recycled through a pool, so steady-state journaling
+ * allocates nothing. If the disk falls behind by more than a fixed number of buffers, new
+ * buffers are dropped and counted rather than queued without limit.
+ */
+public class JournalManager {
+
+    private static final int MAX_PENDING_BUFFERS = 64;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean enabled;
+    private final File directory;
+    private final int bufferBytes;
+    private final int maxFiles;
+    private final ThreadPoolExecutor writer;
+
+    private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingBuffers = new AtomicInteger();
+    private final AtomicInteger openJournals = new AtomicInteger();
+    private final LongAdder writtenRecords = new LongAdder();
+    private final LongAdder droppedRecords = new LongAdder();
+    private final AtomicLong droppedBuffers = new AtomicLong();
+
+    public JournalManager(CrysisShot plugin) {
+        this(plugin.getConfigManager().isJournalEnabled(), new File(plugin.getDataFolder(), "journals"),
+            plugin.getConfigManager().getJournalBufferRecords(), plugin.getConfigManager().getJournalMaxFiles());
+        Logger.info("Match journal " + (enabled ? "enabled" : "disabled"));
+    }
+
+    JournalManager(boolean enabled, File directory, int bufferRecords, int maxFiles) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.bufferBytes = Math.max(16, bufferRecords) * JournalFormat.RECORD_SIZE;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "CrysisShot-Journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start a journal for a match that is starting now
+     */
+    public MatchJournal open(String sessionId, String arenaName) {
+        return enabled ? open(sessionId, arenaName, Bukkit.getCurrentTick()) : MatchJournal.DISABLED;
+    }
+
+    MatchJournal open(String sessionId, String arenaName, int startTick) {
+        long startTime = System.currentTimeMillis();
+        String name = sessionId.replaceAll("[^A-Za-z0-9_-]", "_") + "-" + FILE_TIME.format(LocalDateTime.now());
+        MatchJournal journal = new MatchJournal(this, new File(directory, name + JournalFormat.FILE_SUFFIX).toPath(), startTick);
+
+        ByteBuffer header = header(startTime, sessionId, arenaName);
+        openJournals.incrementAndGet();
+        execute(() -> openFile(journal, header));
+        return journal;
+    }
+
+    private static ByteBuffer header(long startTime, String sessionId, String arenaName) {
+        byte[] session = sessionId.getBytes(StandardCharsets.UTF_8);
+        byte[] arena = arenaName.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(4 + 2 + 2 + 8 + 2 + session.length + 2 + arena.length);
+        header.putInt(JournalFormat.MAGIC)
+            .putShort(JournalFormat.VERSION)
+            .putShort((short) JournalFormat.RECORD_SIZE)
+            .putLong(startTime)
+            .putShort((short) session.length).put(session)
+            .putShort((short) arena.length).put(arena)
+            .flip();
+        return header;
+    }
+
+    /**
+     * Get an empty record buffer, reusing one the writer has finished with
+     */
+    ByteBuffer takeBuffer() {
+        ByteBuffer buffer = pool.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferBytes);
+    }
+
+    /**
+     * Queue a filled buffer for writing; it goes back to the pool afterwards
+     */
+    void write(MatchJournal journal, ByteBuffer buffer) {
+        buffer.flip();
+        if (pendingBuffers.incrementAndGet() > MAX_PENDING_BUFFERS) {
+            pendingBuffers.decrementAndGet();
+            drop(buffer);
+            return;
+        }
+
+        if (!execute(() -> {
+            try {
+                writeBuffer(journal, buffer);
+            } finally {
+                pendingBuffers.decrementAndGet();
+            }
+        })) {
+            pendingBuffers.decrementAndGet();
+            drop(buffer);
+        }
+    }
+
+    /**
+     * Close the journal file after everything queued before it is written
+     */
+    void close(MatchJournal journal) {
+        if (!execute(() -> closeFile(journal))) {
+            openJournals.decrementAndGet();
+        }
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            writer.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false; // Shutting down
+        }
+    }
+
+    private void drop(ByteBuffer buffer) {
+        droppedRecords.add(buffer.remaining() / JournalFormat.RECORD_SIZE);
+        recycle(buffer);
+        // Log the first drop and then every 100th to avoid flooding the console
+        long count = droppedBuffers.incrementAndGet();
+        if (count == 1 || count % 100 == 0) {
+            Logger.warning("Match journal writer is behind, " + droppedRecords.sum() + " records dropped so far");
+        }
+    }
+
+    private void recycle(ByteBuffer buffer) {
+        buffer.clear();
+        pool.offer(buffer);
+    }
+
+    // ---- Journal writer thread ----
+
+    private void openFile(MatchJournal journal, ByteBuffer header) {
+        try {
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Could not create journal directory " + directory);
+            }
+            journal.channel = FileChannel.open(journal.getFile(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            while (header.hasRemaining()) {
+                journal.channel.write(header);
+            }
+            pruneOldFiles();
+        } catch (IOException e) {
+            fail(journal, e);
+        }
+    }
+
+    private void writeBuffer(MatchJournal journal, ByteBuffer buffer) {
+        try {
+            if (journal.channel == null) {
+                // The file could not be opened or an earlier write failed
+                droppedRecords.add(buffer.remaining() / JournalFormat.RECORD_SIZE);
+                return;
+            }
+            int records = buffer.remaining() / JournalFormat.RECORD_SIZE;
+            while (buffer.hasRemaining()) {
+                journal.channel.write(buffer);
+            }
+            writtenRecords.add(records);
+        } catch (IOException e) {
+            droppedRecords.add(buffer.remaining() / JournalFormat.RECORD_SIZE);
+            fail(journal, e);
+        } finally {
+            recycle(buffer);
+        }
+    }
+
+    private void closeFile(MatchJournal journal) {
+        openJournals.decrementAndGet();
+        closeChannel(journal);
+    }
+
+    private void closeChannel(MatchJournal journal) {
+        FileChannel channel = journal.channel;
+        journal.channel = null;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Logger.warning("Could not close match journal " + journal.getFile() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop writing a journal after an I/O error; its remaining records are dropped
+     */
+    private void fail(MatchJournal journal, IOException e) {
+        Logger.warning("Could not write match journal " + journal.getFile() + ": " + e.getMessage());
+        closeChannel(journal);
+    }
+
+    /**
+     * Delete the oldest journals beyond statistics.journal-max-files
+     */
+    private void pruneOldFiles() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(JournalFormat.FILE_SUFFIX));
+        if (files == null || files.length <= maxFiles) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - maxFiles; i++) {
+            if (!files[i].delete()) {
+                Logger.warning("Could not delete old match journal " + files[i].getName());
+            }
+        }
+    }
+
+    /**
+     * Write everything queued, close the writer thread and wait up to five seconds
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                Logger.warning("Match journal writer did not finish in time, " + writer.getQueue().size() + " writes dropped");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getOpenJournals() {
+        return openJournals.get();
+    }
+
+    public int getPendingBuffers() {
+        return pendingBuffers.get();
+    }
+
+    public long getWrittenRecords() {
+        return writtenRecords.sum();
+    }
+
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+}
@@ -0,0 +1,141 @@
+package com.crysisshot.journal;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Streams the records of a match journal file one at a time
+ * Only a 64 KB read buffer is held in memory regardless of the journal size. A record cut
+ * short by a crash ends the stream instead of failing it.
+ */
+public class JournalReader implements Iterable<JournalRecord>, Closeable {
+
+    private final DataInputStream input;
+    private final int recordSize;
+    private final long startTime;
+    private final String sessionId;
+    private final String arenaName;
+    private final ByteBuffer record;
+    private boolean iterated;
+
+    public JournalReader(Path file) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        try {
+            if (input.readInt() != JournalFormat.MAGIC) {
+                throw new IOException("Not a match journal: " + file);
+            }
+            short version = input.readShort();
+            if (version > JournalFormat.VERSION) {
+                throw new IOException("Unsupported journal version " + version + ": " + file);
+            }
+            this.recordSize = input.readShort();
+            if (recordSize < JournalFormat.RECORD_SIZE) {
+                throw new IOException("Invalid record size " + recordSize + ": " + file);
+            }
+            this.startTime = input.readLong();
+            this.sessionId = readString();
+            this.arenaName = readString();
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+        this.record = ByteBuffer.allocate(recordSize);
+    }
+
+    private String readString() throws IOException {
+        byte[] bytes = new byte[input.readUnsignedShort()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read the next record, or return null at the end of the journal
+     */
+    public JournalRecord next() throws IOException {
+        try {
+            input.readFully(record.array());
+        } catch (EOFException e) {
+            return null;
+        }
+
+        record.clear();
+        int tick = record.getInt();
+        int code = record.get() & 0xFF;
+        int actor = record.get() & 0xFF;
+        int target = record.get() & 0xFF;
+        int detail = record.get() & 0xFF;
+
+        JournalEventType type = JournalEventType.fromCode(code);
+        if (type == null) {
+            throw new IOException("Unknown journal event code " + code);
+        }
+        if (type == JournalEventType.PLAYER) {
+            UUID playerId = new UUID(record.getLong(), record.getLong());
+            return new JournalRecord(tick, type, actor, target, detail, 0, 0, 0, 0, 0, 0, playerId);
+        }
+        return new JournalRecord(tick, type, actor, target, detail,
+            record.getFloat(), record.getFloat(), record.getFloat(),
+            record.getFloat(), record.getFloat(), record.getFloat(), null);
+    }
+
+    /**
+     * Iterate the remaining records; can only be done once per reader
+     */
+    @Override
+    public Iterator<JournalRecord> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("A journal reader can only be iterated once");
+        }
+        iterated = true;
+
+        return new Iterator<>() {
+            private JournalRecord nextRecord = read();
+
+            private JournalRecord read() {
+                try {
+                    return JournalReader.this.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextRecord != null;
+            }
+
+            @Override
+            public JournalRecord next() {
+                if (nextRecord == null) {
+                    throw new NoSuchElementException();
+                }
+                JournalRecord current = nextRecord;
+                nextRecord = read();
+                return current;
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * Wall-clock time the match started, in epoch milliseconds
+     */
+    public long getStartTime() { return startTime; }
+    public String getSessionId() { return sessionId; }
+    public String getArenaName() { return arenaName; }
+}
@@ -0,0 +1,78 @@
+package com.crysisshot.journal;
+
+import java.util.UUID;
+
+/**
+ * One decoded match journal record
+ */
+public class JournalRecord {
+
+    public static final int NO_PLAYER = JournalFormat.NO_PLAYER;
+
+    private final int tick;
+    private final JournalEventType type;
+    private final int actor;
+    private final int target;
+    private final int detail;
+    private final float x, y, z;
+    private final float vectorX, vectorY, vectorZ;
+    private final UUID playerId;
+
+    JournalRecord(int tick, JournalEventType type, int actor, int target, int detail,
+                  float x, float y, float z, float vectorX, float vectorY, float vectorZ, UUID playerId) {
+        this.tick = tick;
+        this.type = type;
+        this.actor = actor;
+        this.target = target;
+        this.detail = detail;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.vectorX = vectorX;
+        this.vectorY = vectorY;
+        this.vectorZ = vectorZ;
+        this.playerId = playerId;
+    }
+
+    /**
+     * Server ticks since the match started
+     */
+    public int getTick() { return tick; }
+    public JournalEventType getType() { return type; }
+
+    /**
+     * Player index of the player the event is about
+     */
+    public int getActor() { return actor; }
+
+    /**
+     * Player index of the other player involved, or NO_PLAYER
+     */
+    public int getTarget() { return target; }
+    public boolean hasTarget() { return target != NO_PLAYER; }
+
+    /**
+     * Kill type or power-up type ordinal, depending on the event
+     */
+    public int getDetail() { return detail; }
+    public float getX() { return x; }
+    public float getY() { return y; }
+    public float getZ() { return z; }
+    public float getVectorX() { return vectorX; }
+    public float getVectorY() { return vectorY; }
+    public float getVectorZ() { return vectorZ; }
+
+    /**
+     * UUID bound to the actor index (PLAYER records only, null otherwise)
+     */
+    public UUID getPlayerId() { return playerId; }
+
+    @Override
+    public String toString() {
+        if (type == JournalEventType.PLAYER) {
+            return tick + " PLAYER #" + actor + " = " + playerId;
+        }
+        return String.format("%d %s #%d%s detail=%d at (%.2f, %.2f, %.2f) vec (%.2f, %.2f, %.2f)",
+            tick, type, actor, hasTarget() ? " -> #" + target : "", detail, x, y, z, vectorX, vectorY, vectorZ);
+    }
+}
@@ -0,0 +1,231 @@
+package com.crysisshot.journal;
+
+import com.crysisshot.models.GamePlayer;
+import com.crysisshot.scoring.ScoringManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only event journal for one match
+ * Record methods are called on the main thread and only encode 32 bytes into a preallocated
+ * buffer; full buffers, and the partial buffer on every flush(), are handed to the journal
+ * writer thread. Players are numbered in order of first appearance so records stay fixed-size.
+ */
+public class MatchJournal {
+
+    /**
+     * Journal used when journaling is off; every call returns immediately
+     */
+    public static final MatchJournal DISABLED = new MatchJournal(null, null, 0);
+
+    private final JournalManager manager;
+    private final Path file;
+    private final int startTick;
+
+    // Main thread only
+    private final Map<UUID, Integer> playerIndices = new HashMap<>();
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private ByteBuffer buffer;
+    private boolean closed;
+
+    // Journal writer thread only
+    FileChannel channel;
+
+    MatchJournal(JournalManager manager, Path file, int startTick) {
+        this.manager = manager;
+        this.file = file;
+        this.startTick = startTick;
+        this.closed = manager == null;
+    }
+
+    public boolean isEnabled() {
+        return !closed;
+    }
+
+    /**
+     * Record an arrow leaving the bow
+     */
+    public void recordShot(Player shooter, Vector velocity) {
+        if (closed) {
+            return;
+        }
+        int actor = indexOf(shooter);
+        shooter.getLocation(scratch);
+        append(tick(), JournalEventType.SHOT, actor, JournalFormat.NO_PLAYER, 0,
+            scratch.getX(), scratch.getY(), scratch.getZ(), velocity.getX(), velocity.getY(), velocity.getZ());
+    }
+
+    /**
+     * Record an arrow landing on a player, or on a block when victim is null
+     */
+    public void recordHit(Player shooter, Player victim, Location impact) {
+        if (closed) {
+            return;
+        }
+        int actor = indexOf(shooter);
+        int target = victim != null ? indexOf(victim) : JournalFormat.NO_PLAYER;
+        shooter.getLocation(scratch);
+        append(tick(), JournalEventType.HIT, actor, target, 0,
+            scratch.getX(), scratch.getY(), scratch.getZ(), impact.getX(), impact.getY(), impact.getZ());
+    }
+
+    /**
+     * Record a kill and the matching death
+     */
+    public void recordKill(Player killer, Player victim, ScoringManager.KillType killType) {
+        if (closed) {
+            return;
+        }
+        int tick = tick();
+        int killerIndex = indexOf(killer);
+        int victimIndex = indexOf(victim);
+        killer.getLocation(scratch);
+        double killerX = scratch.getX(), killerY = scratch.getY(), killerZ = scratch.getZ();
+        victim.getLocation(scratch);
+        double victimX = scratch.getX(), victimY = scratch.getY(), victimZ = scratch.getZ();
+
+        append(tick, JournalEventType.KILL, killerIndex, victimIndex, killType.ordinal(),
+            killerX, killerY, killerZ, victimX, victimY, victimZ);
+        append(tick, JournalEventType.DEATH, victimIndex, killerIndex, killType.ordinal(),
+            victimX, victimY, victimZ, killerX, killerY, killerZ);
+    }
+
+    /**
+     * Record a death nobody scored, such as falling into the void or burning
+     */
+    public void recordDeath(Player victim) {
+        if (closed) {
+            return;
+        }
+        int actor = indexOf(victim);
+        victim.getLocation(scratch);
+        append(tick(), JournalEventType.DEATH, actor, JournalFormat.NO_PLAYER, ScoringManager.KillType.ENVIRONMENTAL.ordinal(),
+            scratch.getX(), scratch.getY(), scratch.getZ(), 0, 0, 0);
+    }
+
+    /**
+     * Record a player coming back into play
+     */
+    public void recordRespawn(Player player) {
+        if (closed) {
+            return;
+        }
+        int actor = indexOf(player);
+        player.getLocation(scratch);
+        append(tick(), JournalEventType.RESPAWN, actor, JournalFormat.NO_PLAYER, 0,
+            scratch.getX(), scratch.getY(), scratch.getZ(), 0, 0, 0);
+    }
+
+    /**
+     * Record a power-up being applied to a player
+     */
+    public void recordPowerup(Player player, GamePlayer.PowerUpType powerup) {
+        if (closed) {
+            return;
+        }
+        int actor = indexOf(player);
+        player.getLocation(scratch);
+        append(tick(), JournalEventType.POWERUP, actor, JournalFormat.NO_PLAYER, powerup.ordinal(),
+            scratch.getX(), scratch.getY(), scratch.getZ(), 0, 0, 0);
+    }
+
+    /**
+     * Hand everything recorded so far to the writer thread
+     */
+    public void flush() {
+        if (closed || buffer == null || buffer.position() == 0) {
+            return;
+        }
+        manager.write(this, buffer);
+        buffer = null;
+    }
+
+    /**
+     * Flush and close the file; later record calls are ignored
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        manager.close(this);
+    }
+
+    private int tick() {
+        return Bukkit.getCurrentTick() - startTick;
+    }
+
+    /**
+     * Index of a player in this journal, assigned (and bound to the UUID) on first sight
+     */
+    private int indexOf(Player player) {
+        UUID playerId = player.getUniqueId();
+        Integer index = playerIndices.get(playerId);
+        if (index != null) {
+            return index;
+        }
+
+        if (playerIndices.size() >= JournalFormat.MAX_PLAYERS) {
+            return JournalFormat.NO_PLAYER;
+        }
+        int assigned = playerIndices.size();
+        playerIndices.put(playerId, assigned);
+        appendPlayer(tick(), assigned, playerId);
+        return assigned;
+    }
+
+    void appendPlayer(int tick, int index, UUID playerId) {
+        ByteBuffer out = reserve();
+        out.putInt(tick)
+            .put((byte) JournalEventType.PLAYER.getCode())
+            .put((byte) index)
+            .put((byte) JournalFormat.NO_PLAYER)
+            .put((byte) 0)
+            .putLong(playerId.getMostSignificantBits())
+            .putLong(playerId.getLeastSignificantBits())
+            .putLong(0L);
+    }
+
+    void append(int tick, JournalEventType type, int actor, int target, int detail,
+                double x, double y, double z, double vectorX, double vectorY, double vectorZ) {
+        ByteBuffer out = reserve();
+        out.putInt(tick)
+            .put((byte) type.getCode())
+            .put((byte) actor)
+            .put((byte) target)
+            .put((byte) detail)
+            .putFloat((float) x)
+            .putFloat((float) y)
+            .putFloat((float) z)
+            .putFloat((float) vectorX)
+            .putFloat((float) vectorY)
+            .putFloat((float) vectorZ);
+    }
+
+    private ByteBuffer reserve() {
+        if (buffer != null && buffer.remaining() < JournalFormat.RECORD_SIZE) {
+            flush();
+        }
+        if (buffer == null) {
+            buffer = manager.takeBuffer();
+        }
+        return buffer;
+    }
+
+    /**
+     * Path of the journal file
+     */
+    public Path getFile() {
+        return file;
+    }
+}
@@ -3,9 +3,11 @@ package com.crysisshot.listeners;
 import com.crysisshot.CrysisShot;
 import com.crysisshot.game.GameManager;
 import com.crysisshot.game.GameSession;
+import com.crysisshot.game.ProjectileTracker;
 import com.crysisshot.localization.MessageManager;
 import com.crysisshot.models.GamePlayer;
 import com.crysisshot.scoring.ScoringManager;
+import com.crysisshot.utils.DebugCategory;
 import com.crysisshot.utils.Logger;
 import org.bukkit.Material;
 import org.bukkit.entity.Arrow;
@@ -18,10 +20,6 @@ import org.bukkit.event.entity.EntityShootBowEvent;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Handles all combat-related events for CrysisShot
  * Implements instant-kill mechanics, arrow management, and melee combat
@@ -33,14 +31,15 @@ public class CombatListener implements Listener {
     private final MessageManager messageManager;
     private final ScoringManager scoringManager;
     
-    // Track arrows fired by players for proper attribution
-    private final Map<UUID, UUID> arrowOwners = new HashMap<>();
+    // Tracks arrows fired by players for proper attribution
+    private final ProjectileTracker projectileTracker;
     
     public CombatListener(CrysisShot plugin) {
         this.plugin = plugin;
         this.gameManager = plugin.getGameManager();
         this.messageManager = plugin.getMessageManager();
         this.scoringManager = new ScoringManager(plugin);
+        this.projectileTracker = gameManager.getProjectileTracker();
     }
     
     /**
@@ -75,9 +74,14 @@ public class CombatListener implements Listener {
         gamePlayer.consumeArrow();
         
         // Track arrow ownership for kill attribution
-        if (event.getProjectile() instanceof Arrow) {
+        String sessionId = gameManager.getPlayerSession(shooter);
+        if (event.getProjectile() instanceof Arrow && sessionId != null) {
             Arrow arrow = (Arrow) event.getProjectile();
-            arrowOwners.put(arrow.getUniqueId(), shooter.getUniqueId());
+            projectileTracker.track(arrow.getUniqueId(), shooter.getUniqueId(), sessionId);
+        }
+        GameSession session = sessionId != null ? gameManager.getSession(sessionId) : null;
+        if (session != null) {
+            session.getJournal().recordShot(shooter, event.getProjectile().getVelocity());
         }
         
         // Update arrows display
@@ -87,8 +91,8 @@ public class CombatListener implements Listener {
         // Track statistics
         gamePlayer.incrementArrowsFired();
         
-        Logger.debug("Player " + shooter.getName() + " shot arrow (" + 
-                    gamePlayer.getArrows() + " remaining)");
+        Logger.debug(DebugCategory.PLAYER_ACTIONS, "Player {} shot arrow ({} remaining)",
+            shooter.getName(), gamePlayer.getArrows());
     }
     
     /**
@@ -101,18 +105,19 @@ public class CombatListener implements Listener {
         }
         
         Arrow arrow = (Arrow) event.getEntity();
-        UUID arrowId = arrow.getUniqueId();
-        UUID shooterId = arrowOwners.remove(arrowId);
+        ProjectileTracker.TrackedProjectile projectile = projectileTracker.remove(arrow.getUniqueId());
         
-        if (shooterId == null) {
-            return; // Not a tracked arrow
+        if (projectile == null) {
+            return; // Not a tracked arrow, or fired in a session that has since ended
         }
         
-        Player shooter = plugin.getServer().getPlayer(shooterId);
+        Player shooter = plugin.getServer().getPlayer(projectile.getShooterId());
         if (shooter == null) {
             return;
         }
         
+        GameSession session = gameManager.getSession(projectile.getSessionId());
+        
         // Check if arrow hit a player
         if (event.getHitEntity() instanceof Player) {
             Player victim = (Player) event.getHitEntity();
@@ -122,15 +127,22 @@ public class CombatListener implements Listener {
                 return;
             }
             
-            // Only handle players in the same game
+            // Only handle players in the game the arrow was fired in
             if (!gameManager.isPlayerInGame(victim) || 
-                !isInSameSession(shooter, victim)) {
+                !isInSameSession(shooter, victim) ||
+                !projectile.getSessionId().equals(gameManager.getPlayerSession(victim))) {
                 return;
             }
             
             // Cancel the normal damage and apply instant kill
             event.setCancelled(true);
+            if (session != null) {
+                session.getJournal().recordHit(shooter, victim, arrow.getLocation());
+            }
             handleBowKill(shooter, victim, arrow);
+        } else if (session != null) {
+            // Missed: landed in a block or another entity
+            session.getJournal().recordHit(shooter, null, arrow.getLocation());
         }
     }
     
@@ -192,7 +204,7 @@ public class CombatListener implements Listener {
         // Remove the arrow from the world
         arrow.remove();
         
-        Logger.info("Bow kill: " + shooter.getName() + " -> " + victim.getName());
+        Logger.event("Bow kill: {} -> {}", shooter.getName(), victim.getName());
     }
     
     /**
@@ -213,7 +225,7 @@ public class CombatListener implements Listener {
         // Execute the kill
         executeKill(attacker, victim, "sword", attackerGame, victimGame);
         
-        Logger.info("Melee kill: " + attacker.getName() + " -> " + victim.getName());
+        Logger.event("Melee kill: {} -> {}", attacker.getName(), victim.getName());
     }
       /**
      * Execute a kill with proper statistics and respawn handling
@@ -247,6 +259,9 @@ public class CombatListener implements Listener {
                 break;
         }
         
+        // Journal first: the kill may end the game, which closes the journal
+        session.getJournal().recordKill(killer, victim, killType);
+        
         // Process the kill through the scoring manager
         // This handles all statistics, scoring, messaging, and win condition checking
         scoringManager.processKill(session, killerGame, victimGame, killType);
@@ -268,9 +283,9 @@ public class CombatListener implements Listener {
         
         // Schedule respawn
         int respawnDelay = plugin.getConfigManager().getRespawnDelay();
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        plugin.getGameLoop().getTimers().schedule(respawnDelay * 20L, () -> { // Seconds to ticks
             respawnPlayer(victim, victimGame);
-        }, respawnDelay * 20L); // Convert seconds to ticks
+        });
         
         // Notify about respawn countdown
         messageManager.sendMessage(victim, "game.respawn-countdown", 
@@ -300,8 +315,9 @@ public class CombatListener implements Listener {
         
         // Give basic equipment
         giveBasicEquipment(player, gamePlayer);
+        session.getJournal().recordRespawn(player);
         
-        Logger.debug("Player " + player.getName() + " respawned");
+        Logger.debug(DebugCategory.PLAYER_ACTIONS, "Player {} respawned", player.getName());
     }
     
     /**
@@ -1,10 +1,12 @@
 package com.crysisshot.listeners;
 
+import com.crysisshot.arena.ArenaBounds;
 import com.crysisshot.game.GameManager;
 import com.crysisshot.game.GameSession;
 import com.crysisshot.localization.MessageManager;
 import com.crysisshot.models.GamePlayer;
 import com.crysisshot.utils.Logger;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -24,7 +26,10 @@ import org.bukkit.event.player.PlayerMoveEvent;
  * Manages general game mechanics and restrictions
  */
 public class GameListener implements Listener {
-      private final GameManager gameManager;
+    
+    private static final long BOUNDARY_WARNING_COOLDOWN_MS = 2000;
+    
+    private final GameManager gameManager;
     private final MessageManager messageManager;
     
     public GameListener(GameManager gameManager, MessageManager messageManager) {
@@ -186,30 +191,58 @@ public class GameListener implements Listener {
     }
     
     /**
-     * Handle player movement (boundary checking)
+     * Keep players inside their arena's bounds
+     * Runs before MONITOR so the move can be redirected with setTo instead of a teleport. Moves
+     * within the same block are ignored before any lookup, and the bounds are precomputed per match.
+     * A player already outside (knocked back, or spawned out) may still move back towards the box.
      */
-    @EventHandler(priority = EventPriority.MONITOR)
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        int blockX = to.getBlockX();
+        int blockY = to.getBlockY();
+        int blockZ = to.getBlockZ();
+        if (blockX == from.getBlockX() && blockY == from.getBlockY() && blockZ == from.getBlockZ()) {
+            return; // Looking around or moving within a block
+        }
+        
         Player player = event.getPlayer();
+        GameSession session = gameManager.getSessionOf(player);
+        if (session == null || !session.isActive()) {
+            return;
+        }
         
-        if (!gameManager.isPlayerInGame(player)) {
+        ArenaBounds bounds = session.getBounds();
+        if (bounds.contains(blockX, blockY, blockZ) || !bounds.appliesTo(to.getWorld())) {
             return;
         }
         
-        // Check if player is moving out of arena bounds
-        String sessionId = gameManager.getPlayerSession(player);
-        if (sessionId != null) {
-            GameSession session = gameManager.getSession(sessionId);
-            if (session != null && session.isActive()) {
-                // TODO: Implement arena boundary checking in later steps
-                // For now, just prevent going too high or low
-                if (event.getTo().getY() > 300) {
-                    player.teleport(event.getFrom());
-                    messageManager.sendMessage(player, "error.arena-boundary");
-                } else if (event.getTo().getY() < -50) {
-                    handleVoidDeath(player);
-                }
-            }
+        if (bounds.isBelow(blockY)) {
+            // Fell out of the arena - count it as a void death and put them back on a spawn
+            handleVoidDeath(player);
+            Location spawn = session.getRandomSpawnPoint();
+            event.setTo(spawn != null ? spawn : from);
+            return;
+        }
+        
+        // Already outside: only stop moves that lead further away
+        if (bounds.distanceSquared(blockX, blockY, blockZ)
+                <= bounds.distanceSquared(from.getBlockX(), from.getBlockY(), from.getBlockZ())) {
+            return;
+        }
+        
+        // Stop at the edge, keeping the new view direction
+        Location back = from.clone();
+        back.setYaw(to.getYaw());
+        back.setPitch(to.getPitch());
+        event.setTo(back);
+        
+        GamePlayer gamePlayer = session.getPlayer(player.getUniqueId());
+        long now = System.currentTimeMillis();
+        if (gamePlayer != null && now - gamePlayer.getLastBoundaryWarning() >= BOUNDARY_WARNING_COOLDOWN_MS) {
+            gamePlayer.setLastBoundaryWarning(now);
+            messageManager.sendMessage(player, "error.arena-boundary");
         }
     }
     
@@ -235,6 +268,7 @@ public class GameListener implements Listener {
         // Record death
         gamePlayer.addDeath();
         gamePlayer.resetKillStreak();
+        session.getJournal().recordDeath(player);
         
         // Teleport to spawn and give equipment
         // This will be handled by respawn logic
@@ -255,6 +289,10 @@ public class GameListener implements Listener {
         // Record death
         gamePlayer.addDeath();
         gamePlayer.resetKillStreak();
+        GameSession session = gameManager.getSessionOf(player);
+        if (session != null) {
+            session.getJournal().recordDeath(player);
+        }
         
         // Immediate respawn for void deaths
         player.setHealth(20.0);
@@ -1,8 +1,10 @@
 package com.crysisshot.listeners;
 
+import com.crysisshot.database.PlayerStatsCache;
 import com.crysisshot.game.GameManager;
 import com.crysisshot.localization.MessageManager;
 import com.crysisshot.models.GamePlayer;
+import com.crysisshot.utils.DebugCategory;
 import com.crysisshot.utils.Logger;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -21,10 +23,12 @@ import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 public class PlayerListener implements Listener {
       private final GameManager gameManager;
     private final MessageManager messageManager;
+    private final PlayerStatsCache statsCache;
     
-    public PlayerListener(GameManager gameManager, MessageManager messageManager) {
+    public PlayerListener(GameManager gameManager, MessageManager messageManager, PlayerStatsCache statsCache) {
         this.gameManager = gameManager;
         this.messageManager = messageManager;
+        this.statsCache = statsCache;
     }
     
     /**
@@ -33,10 +37,10 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        Logger.debug("Player " + player.getName() + " joined the server");
+        Logger.debug(DebugCategory.PLAYER_ACTIONS, "Player {} joined the server", player.getName());
         
-        // Initialize player data if needed
-        // This is handled by DatabaseManager when player statistics are queried
+        // Prefetch stats so kills, /cs stats and rank lookups during the session only touch memory
+        statsCache.handleJoin(player.getUniqueId(), player.getName());
     }
     
     /**
@@ -45,6 +49,9 @@ public class PlayerListener implements Listener {
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerQuit(PlayerQuitEvent event) {
         handlePlayerDisconnect(event.getPlayer(), "quit");
+        
+        // After leaving the game so any final stat changes are included in the flush
+        statsCache.handleQuit(event.getPlayer().getUniqueId());
     }
     
     /**
@@ -126,7 +133,7 @@ public class PlayerListener implements Listener {
      * Common handler for player disconnection
      */
     private void handlePlayerDisconnect(Player player, String reason) {
-        Logger.debug("Player " + player.getName() + " disconnected (" + reason + ")");
+        Logger.debug(DebugCategory.PLAYER_ACTIONS, "Player {} disconnected ({})", player.getName(), reason);
         
         // Remove player from any active game
         if (gameManager.isPlayerInGame(player)) {
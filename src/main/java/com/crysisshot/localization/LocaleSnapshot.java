@@ -0,0 +1,69 @@
+package com.crysisshot.localization;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of loaded languages and their compiled messages
+ * MessageManager swaps whole snapshots on reload, so a reader on any thread always
+ * sees one complete generation of locale files and never needs a lock.
+ */
+final class LocaleSnapshot {
+
+    private final String defaultLanguage;
+    private final Map<String, FileConfiguration> locales;
+    private final Map<String, Map<String, MessageTemplate>> templates;
+
+    LocaleSnapshot(String defaultLanguage, Map<String, FileConfiguration> locales,
+                   Map<String, Map<String, MessageTemplate>> templates) {
+        this.defaultLanguage = defaultLanguage;
+        this.locales = Collections.unmodifiableMap(new HashMap<>(locales));
+
+        Map<String, Map<String, MessageTemplate>> copy = new HashMap<>();
+        for (Map.Entry<String, Map<String, MessageTemplate>> entry : templates.entrySet()) {
+            copy.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+        }
+        this.templates = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Snapshot with no languages, used until the first load finishes
+     */
+    static LocaleSnapshot empty(String defaultLanguage) {
+        return new LocaleSnapshot(defaultLanguage, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    String getDefaultLanguage() {
+        return defaultLanguage;
+    }
+
+    Map<String, FileConfiguration> getLocales() {
+        return locales;
+    }
+
+    boolean hasLanguage(String language) {
+        return templates.containsKey(language);
+    }
+
+    int getLanguageCount() {
+        return templates.size();
+    }
+
+    /**
+     * Find a template, falling back to the default language; null if neither has the key
+     */
+    MessageTemplate getTemplate(String key, String language) {
+        Map<String, MessageTemplate> languageTemplates = templates.get(language);
+        MessageTemplate template = languageTemplates != null ? languageTemplates.get(key) : null;
+        if (template == null && !defaultLanguage.equals(language)) {
+            Map<String, MessageTemplate> defaultTemplates = templates.get(defaultLanguage);
+            if (defaultTemplates != null) {
+                template = defaultTemplates.get(key);
+            }
+        }
+        return template;
+    }
+}
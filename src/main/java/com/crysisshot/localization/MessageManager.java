@@ -6,6 +6,8 @@ import com.crysisshot.utils.Logger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
@@ -15,56 +17,106 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Manages localized messages for the plugin
+ * Messages are read from an immutable LocaleSnapshot that reloads replace atomically,
+ * so rendering is safe from any thread while a reload parses files in the background.
  */
 public class MessageManager {
     
     private final CrysisShot plugin;
     private final ConfigManager configManager;
-    private final Map<String, FileConfiguration> locales = new HashMap<>();
-    private final Map<UUID, String> playerLanguages = new HashMap<>();
+    // Every language and its compiled messages; replaced as a whole on reload
+    private final AtomicReference<LocaleSnapshot> snapshot;
+    private final Map<UUID, String> playerLanguages = new ConcurrentHashMap<>();
     
-    private String defaultLanguage;
     private final MiniMessage miniMessage = MiniMessage.miniMessage();
     
     public MessageManager(CrysisShot plugin, ConfigManager configManager) {
         this.plugin = plugin;
         this.configManager = configManager;
-        this.defaultLanguage = configManager.getDefaultLanguage();
+        this.snapshot = new AtomicReference<>(LocaleSnapshot.empty(configManager.getDefaultLanguage()));
     }
     
     /**
-     * Load all message files
+     * Load all message files on the calling thread
      */
     public void loadMessages() {
-        try {
-            // Create locales folder
-            File localesFolder = new File(plugin.getDataFolder(), "locales");
-            if (!localesFolder.exists()) {
-                localesFolder.mkdirs();
+        publish(buildSnapshot(configManager.getDefaultLanguage(), configManager.getSupportedLanguages()));
+    }
+    
+    /**
+     * Reload all message files on a Bukkit async worker
+     * The current messages stay in use until the new set is fully parsed. The new set is
+     * published on the main thread, and the returned future completes there too.
+     */
+    public CompletableFuture<Void> reload() {
+        // Read the config here; only file parsing moves off the main thread
+        String defaultLanguage = configManager.getDefaultLanguage();
+        List<String> languages = configManager.getSupportedLanguages();
+        CompletableFuture<Void> reloaded = new CompletableFuture<>();
+        
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                LocaleSnapshot loaded = buildSnapshot(defaultLanguage, languages);
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    publish(loaded);
+                    reloaded.complete(null);
+                });
+            } catch (RuntimeException e) {
+                Logger.severe("Failed to reload message files, keeping current messages: " + e.getMessage());
+                Bukkit.getScheduler().runTask(plugin, () -> reloaded.completeExceptionally(e));
             }
-            
-            // Load supported languages
-            for (String language : configManager.getSupportedLanguages()) {
-                loadLanguage(language);
+        });
+        return reloaded;
+    }
+    
+    /**
+     * Make a snapshot current and forget language choices it no longer supports
+     */
+    private void publish(LocaleSnapshot loaded) {
+        snapshot.set(loaded);
+        playerLanguages.values().removeIf(language -> !loaded.hasLanguage(language));
+        Logger.info("Loaded " + loaded.getLanguageCount() + " language files!");
+    }
+    
+    /**
+     * Parse and compile every supported language into a new snapshot
+     */
+    private LocaleSnapshot buildSnapshot(String defaultLanguage, List<String> languages) {
+        Map<String, FileConfiguration> locales = new HashMap<>();
+        Map<String, Map<String, MessageTemplate>> templates = new HashMap<>();
+        
+        // Create locales folder
+        File localesFolder = new File(plugin.getDataFolder(), "locales");
+        if (!localesFolder.exists()) {
+            localesFolder.mkdirs();
+        }
+        
+        for (String language : languages) {
+            try {
+                FileConfiguration locale = loadLanguage(language);
+                locales.put(language, locale);
+                templates.put(language, compileTemplates(locale));
+            } catch (Exception e) {
+                Logger.severe("Failed to load language " + language + ": " + e.getMessage());
             }
-            
-            Logger.info("Loaded " + locales.size() + " language files!");
-            
-        } catch (Exception e) {
-            Logger.severe("Failed to load message files: " + e.getMessage());
-            e.printStackTrace();
         }
+        
+        return new LocaleSnapshot(defaultLanguage, locales, templates);
     }
     
     /**
      * Load a specific language file
      */
-    private void loadLanguage(String language) throws IOException {
+    private FileConfiguration loadLanguage(String language) throws IOException {
         File languageFile = new File(plugin.getDataFolder(), "locales/" + language + ".yml");
         
         // Create default language file if it doesn't exist
@@ -73,9 +125,26 @@ public class MessageManager {
         }
         
         FileConfiguration locale = YamlConfiguration.loadConfiguration(languageFile);
-        locales.put(language, locale);
-        
         Logger.debug("Loaded language: " + language);
+        return locale;
+    }
+    
+    /**
+     * Compile every string under "messages" into a template keyed by its path
+     */
+    private Map<String, MessageTemplate> compileTemplates(FileConfiguration locale) {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        ConfigurationSection messages = locale.getConfigurationSection("messages");
+        if (messages == null) {
+            return compiled;
+        }
+        
+        for (String key : messages.getKeys(true)) {
+            if (messages.isString(key)) {
+                compiled.put(key, MessageTemplate.compile(messages.getString(key), miniMessage));
+            }
+        }
+        return compiled;
     }
     
     /**
@@ -125,73 +194,54 @@ public class MessageManager {
      * Get a message in a specific language
      */
     public String getMessage(String key, String language, String... placeholders) {
-        FileConfiguration locale = locales.getOrDefault(language, locales.get(defaultLanguage));
-        
-        if (locale == null) {
-            Logger.warning("No locale found for language: " + language);
-            return "Missing message: " + key;
-        }
-        
-        String message = locale.getString("messages." + key);
-        if (message == null) {
-            // Try default language as fallback
-            if (!language.equals(defaultLanguage)) {
-                FileConfiguration defaultLocale = locales.get(defaultLanguage);
-                if (defaultLocale != null) {
-                    message = defaultLocale.getString("messages." + key);
-                }
-            }
-            
-            if (message == null) {
-                Logger.warning("Missing message key: " + key);
-                return "Missing message: " + key;
-            }
-        }
-        
-        // Replace placeholders
-        message = replacePlaceholders(message, placeholders);
-        
-        // Convert color codes
-        return LegacyComponentSerializer.legacyAmpersand().serialize(
-            miniMessage.deserialize(message)
-        );
+        MessageTemplate template = getTemplate(key, language);
+        return template != null ? template.render(placeholders) : "Missing message: " + key;
     }
     
     /**
      * Send a message to a player
      */
     public void sendMessage(Player player, String key, String... placeholders) {
-        String message = getMessage(key, player, placeholders);
-        player.sendMessage(message);
+        player.sendMessage(getComponent(key, player, placeholders));
     }
     
     /**
      * Send a message to a player as a Component
      */
     public void sendComponent(Player player, String key, String... placeholders) {
-        String message = getMessage(key, player, placeholders);
-        Component component = miniMessage.deserialize(message);
-        player.sendMessage(component);
+        player.sendMessage(getComponent(key, player, placeholders));
     }
     
     /**
      * Get a Component message for a player
      */
     public Component getComponent(String key, Player player, String... placeholders) {
-        String message = getMessage(key, player, placeholders);
-        return miniMessage.deserialize(message);
+        return getComponent(key, getPlayerLanguage(player), placeholders);
     }
     
     /**
-     * Replace placeholders in a message
+     * Get a Component message in a specific language
      */
-    private String replacePlaceholders(String message, String... placeholders) {
-        for (int i = 0; i < placeholders.length; i += 2) {
-            if (i + 1 < placeholders.length) {
-                message = message.replace("{" + placeholders[i] + "}", placeholders[i + 1]);
-            }
+    public Component getComponent(String key, String language, String... placeholders) {
+        MessageTemplate template = getTemplate(key, language);
+        return template != null ? template.renderComponent(placeholders) : Component.text("Missing message: " + key);
+    }
+    
+    /**
+     * Find the compiled template for a key, falling back to the default language
+     */
+    private MessageTemplate getTemplate(String key, String language) {
+        LocaleSnapshot current = snapshot.get();
+        if (current.getLanguageCount() == 0) {
+            Logger.warning("No locale found for language: " + language);
+            return null;
         }
-        return message;
+        
+        MessageTemplate template = current.getTemplate(key, language);
+        if (template == null) {
+            Logger.warning("Missing message key: " + key);
+        }
+        return template;
     }
     
     /**
@@ -199,7 +249,7 @@ public class MessageManager {
      */
     public String getPlayerLanguage(Player player) {
         if (player == null) {
-            return defaultLanguage;
+            return getDefaultLanguage();
         }
         
         String language = playerLanguages.get(player.getUniqueId());
@@ -210,8 +260,8 @@ public class MessageManager {
                 language = detectPlayerLanguage(player);
             }
             
-            if (language == null || !locales.containsKey(language)) {
-                language = defaultLanguage;
+            if (language == null || !snapshot.get().hasLanguage(language)) {
+                language = getDefaultLanguage();
             }
             
             playerLanguages.put(player.getUniqueId(), language);
@@ -224,7 +274,7 @@ public class MessageManager {
      * Set the preferred language for a player
      */
     public void setPlayerLanguage(Player player, String language) {
-        if (locales.containsKey(language)) {
+        if (snapshot.get().hasLanguage(language)) {
             playerLanguages.put(player.getUniqueId(), language);
             sendMessage(player, "commands.language-changed", "language", language);
         } else {
@@ -241,7 +291,7 @@ public class MessageManager {
                 String languageCode = clientLocale.substring(0, 2).toLowerCase();
                 
                 // Check if we have this language
-                if (locales.containsKey(languageCode)) {
+                if (snapshot.get().hasLanguage(languageCode)) {
                     return languageCode;
                 }
             }
@@ -263,23 +313,13 @@ public class MessageManager {
      * Get all available languages
      */
     public Map<String, FileConfiguration> getLocales() {
-        return new HashMap<>(locales);
+        return new HashMap<>(snapshot.get().getLocales());
     }
     
     /**
      * Get default language
      */
     public String getDefaultLanguage() {
-        return defaultLanguage;
-    }
-    
-    /**
-     * Reload all message files
-     */
-    public void reload() {
-        locales.clear();
-        playerLanguages.clear();
-        defaultLanguage = configManager.getDefaultLanguage();
-        loadMessages();
+        return snapshot.get().getDefaultLanguage();
     }
 }
@@ -0,0 +1,108 @@
+package com.crysisshot.localization;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A locale message compiled once at load time
+ * The MiniMessage source is parsed a single time into a Component skeleton and its
+ * legacy text is split around {placeholder} slots, so rendering only fills in values.
+ * Placeholders without a supplied value are left as literal {name} text.
+ */
+public final class MessageTemplate {
+
+    private static final Pattern SLOT = Pattern.compile("\\{([A-Za-z0-9_.\\-]+)}");
+
+    private final Component component;
+    private final String legacy;
+    // literals.length == slots.length + 1; legacy text = literals[0] slots[0] literals[1] ...
+    private final String[] literals;
+    private final String[] slots;
+
+    private MessageTemplate(Component component, String legacy, String[] literals, String[] slots) {
+        this.component = component;
+        this.legacy = legacy;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * Parse a MiniMessage string into a template
+     */
+    public static MessageTemplate compile(String source, MiniMessage miniMessage) {
+        Component component = miniMessage.deserialize(source);
+        String legacy = LegacyComponentSerializer.legacyAmpersand().serialize(component);
+
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        Matcher matcher = SLOT.matcher(legacy);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(legacy.substring(last, matcher.start()));
+            slots.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(legacy.substring(last));
+
+        return new MessageTemplate(component, legacy,
+            literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * Render as a legacy (&amp;-coded) string
+     */
+    public String render(String... placeholders) {
+        if (slots.length == 0) {
+            return legacy;
+        }
+
+        StringBuilder builder = new StringBuilder(legacy.length() + 16 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]).append(valueOf(slots[i], placeholders));
+        }
+        return builder.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Render as a Component, reusing the parsed skeleton
+     */
+    public Component renderComponent(String... placeholders) {
+        if (slots.length == 0 || placeholders.length == 0) {
+            return component;
+        }
+
+        return component.replaceText(TextReplacementConfig.builder()
+            .match(SLOT)
+            .replacement((match, builder) -> builder.content(valueOf(match.group(1), placeholders)))
+            .build());
+    }
+
+    /**
+     * Whether this template has any placeholder slots
+     */
+    public boolean hasSlots() {
+        return slots.length > 0;
+    }
+
+    /**
+     * Look up a placeholder value from key/value pairs; keys may be given with or without braces
+     */
+    private static String valueOf(String slot, String[] placeholders) {
+        for (int i = 0; i + 1 < placeholders.length; i += 2) {
+            String key = placeholders[i];
+            if (key.equals(slot)
+                || (key.length() == slot.length() + 2 && key.startsWith("{") && key.endsWith("}")
+                    && key.regionMatches(1, slot, 0, slot.length()))) {
+                return placeholders[i + 1];
+            }
+        }
+        return "{" + slot + "}";
+    }
+}
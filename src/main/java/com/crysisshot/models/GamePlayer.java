@@ -37,9 +37,6 @@ public class GamePlayer {
     private boolean hasSpeedBoost;
     private boolean hasInvisibility;
     private boolean hasScoreMultiplier;
-    private long speedBoostEndTime;
-    private long invisibilityEndTime;
-    private long scoreMultiplierEndTime;
     private double currentMultiplier = 1.0;
     
     // Inventory management
@@ -55,6 +52,7 @@ public class GamePlayer {
     private boolean isRespawning;
     private long respawnTime;
     private Location respawnLocation;
+    private long lastBoundaryWarning; // last arena boundary message, to avoid spamming it
       /**
      * Player states within a game
      */
@@ -192,51 +190,51 @@ public class GamePlayer {
     
     /**
      * Apply a power-up effect to this player
+     * Returns true for timed effects; the session schedules their expiry and calls expirePowerup.
+     * Pickups go through GameSession.applyPowerup so they are also journaled.
      */
-    public void applyPowerup(PowerUpType powerup, long durationMs) {
+    public boolean applyPowerup(PowerUpType powerup) {
         sessionPowerupsCollected++;
-        long currentTime = System.currentTimeMillis();
         
         switch (powerup) {
             case SPEED_BOOST:
                 hasSpeedBoost = true;
-                speedBoostEndTime = currentTime + durationMs;
-                break;
+                return true;
             case INVISIBILITY:
                 hasInvisibility = true;
-                invisibilityEndTime = currentTime + durationMs;
-                break;
+                return true;
             case EXTRA_ARROW:
                 arrows++; // Immediate effect
-                break;
+                return false;
             case SHIELD:
                 hasShield = true; // Permanent until used
-                break;
+                return false;
             case SCORE_MULTIPLIER:
                 hasScoreMultiplier = true;
-                scoreMultiplierEndTime = currentTime + durationMs;
                 currentMultiplier = 2.0; // 2x score multiplier
-                break;
+                return true;
+            default:
+                return false;
         }
     }
     
     /**
-     * Check and remove expired power-up effects
+     * Remove a timed power-up effect once its duration is over
      */
-    public void updatePowerupEffects() {
-        long currentTime = System.currentTimeMillis();
-        
-        if (hasSpeedBoost && currentTime >= speedBoostEndTime) {
-            hasSpeedBoost = false;
-        }
-        
-        if (hasInvisibility && currentTime >= invisibilityEndTime) {
-            hasInvisibility = false;
-        }
-        
-        if (hasScoreMultiplier && currentTime >= scoreMultiplierEndTime) {
-            hasScoreMultiplier = false;
-            currentMultiplier = 1.0;
+    public void expirePowerup(PowerUpType powerup) {
+        switch (powerup) {
+            case SPEED_BOOST:
+                hasSpeedBoost = false;
+                break;
+            case INVISIBILITY:
+                hasInvisibility = false;
+                break;
+            case SCORE_MULTIPLIER:
+                hasScoreMultiplier = false;
+                currentMultiplier = 1.0;
+                break;
+            default:
+                break;
         }
     }
     
@@ -249,9 +247,6 @@ public class GamePlayer {
         hasScoreMultiplier = false;
         hasShield = false;
         currentMultiplier = 1.0;
-        speedBoostEndTime = 0;
-        invisibilityEndTime = 0;
-        scoreMultiplierEndTime = 0;
     }
     
     /**
@@ -278,7 +273,6 @@ public class GamePlayer {
      * Check if player has any active power-ups
      */
     public boolean hasActivePowerups() {
-        updatePowerupEffects(); // Update first
         return hasSpeedBoost || hasInvisibility || hasScoreMultiplier || hasShield;
     }
     
@@ -335,6 +329,8 @@ public class GamePlayer {
     public void setRespawnTime(long respawnTime) { this.respawnTime = respawnTime; }
     public Location getRespawnLocation() { return respawnLocation; }
     public void setRespawnLocation(Location respawnLocation) { this.respawnLocation = respawnLocation; }
+    public long getLastBoundaryWarning() { return lastBoundaryWarning; }
+    public void setLastBoundaryWarning(long lastBoundaryWarning) { this.lastBoundaryWarning = lastBoundaryWarning; }
     
     // ===========================================
     // COMBAT AND STATISTICS METHODS
@@ -53,7 +53,29 @@ public class PlayerStats {
         this.meleeKills = 0;
         this.currentRank = Rank.NOVATO;
     }
-    
+
+    // Copy constructor (used to snapshot cached stats before writing them)
+    public PlayerStats(PlayerStats other) {
+        this.playerId = other.playerId;
+        this.playerName = other.playerName;
+        this.totalKills = other.totalKills;
+        this.totalDeaths = other.totalDeaths;
+        this.gamesPlayed = other.gamesPlayed;
+        this.gamesWon = other.gamesWon;
+        this.longestKillStreak = other.longestKillStreak;
+        this.totalArrowsFired = other.totalArrowsFired;
+        this.totalArrowsHit = other.totalArrowsHit;
+        this.totalDamageDealt = other.totalDamageDealt;
+        this.powerupsCollected = other.powerupsCollected;
+        this.totalPlaytime = other.totalPlaytime;
+        this.firstJoin = other.firstJoin;
+        this.lastSeen = other.lastSeen;
+        this.isActive = other.isActive;
+        this.bowKills = other.bowKills;
+        this.meleeKills = other.meleeKills;
+        this.currentRank = other.currentRank;
+    }
+
     // Getters
     public UUID getPlayerId() { return playerId; }
     public String getPlayerName() { return playerName; }
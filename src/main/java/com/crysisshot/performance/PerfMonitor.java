@@ -0,0 +1,163 @@
+package com.crysisshot.performance;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.utils.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tick-cost instrumentation for event handlers and scheduled tasks
+ * Every call is timed with two nanoTime reads into a per-probe histogram, so
+ * /cs admin perf can show which handler or task is using the server's tick.
+ */
+public class PerfMonitor {
+
+    private final CrysisShot plugin;
+    private final boolean enabled;
+    private final Map<String, Probe> probes = new ConcurrentHashMap<>();
+    private volatile long windowStartNanos = System.nanoTime();
+    private volatile int windowStartTick = Bukkit.getCurrentTick();
+
+    public PerfMonitor(CrysisShot plugin) {
+        this.plugin = plugin;
+        this.enabled = plugin.getConfigManager().isProfilingEnabled();
+        Logger.info("Performance monitor " + (enabled ? "enabled" : "disabled"));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get or create the probe with the given name
+     */
+    public Probe probe(String name) {
+        return probes.computeIfAbsent(name, Probe::new);
+    }
+
+    /**
+     * Register a listener with every @EventHandler timed under ListenerClass.method
+     */
+    public void registerEvents(Listener listener) {
+        if (!enabled) {
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+            return;
+        }
+
+        for (Method method : listener.getClass().getDeclaredMethods()) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic()
+                || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+                || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+
+            Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            EventExecutor delegate = EventExecutor.create(method, eventClass);
+            Probe probe = probe(listener.getClass().getSimpleName() + "." + method.getName());
+
+            // Handler lists are shared with subclasses, so only time events this method accepts
+            Bukkit.getPluginManager().registerEvent(eventClass, listener, handler.priority(), (target, event) -> {
+                if (!eventClass.isInstance(event)) {
+                    return;
+                }
+                long start = System.nanoTime();
+                try {
+                    delegate.execute(target, event);
+                } finally {
+                    probe.record(start);
+                }
+            }, plugin, handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * Wrap a scheduled task so each run is timed under the given name
+     */
+    public Runnable timed(String name, Runnable task) {
+        if (!enabled) {
+            return task;
+        }
+
+        Probe probe = probe(name);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                probe.record(start);
+            }
+        };
+    }
+
+    /**
+     * Probes that recorded anything since the last reset, most total time first
+     */
+    public List<Probe> getProbes() {
+        List<Probe> active = new ArrayList<>();
+        for (Probe probe : probes.values()) {
+            if (probe.getHistogram().getCount() > 0) {
+                active.add(probe);
+            }
+        }
+        active.sort(Comparator.comparingLong((Probe probe) -> probe.getHistogram().getTotalNanos()).reversed());
+        return active;
+    }
+
+    /**
+     * Clear every histogram and start a new measurement window
+     */
+    public void reset() {
+        for (Probe probe : probes.values()) {
+            probe.getHistogram().reset();
+        }
+        windowStartNanos = System.nanoTime();
+        windowStartTick = Bukkit.getCurrentTick();
+    }
+
+    public double getWindowSeconds() {
+        return (System.nanoTime() - windowStartNanos) / 1_000_000_000.0;
+    }
+
+    public int getWindowTicks() {
+        return Math.max(1, Bukkit.getCurrentTick() - windowStartTick);
+    }
+
+    /**
+     * A named histogram of call durations
+     */
+    public static class Probe {
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        Probe(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Record a call that started at the given System.nanoTime()
+         */
+        public void record(long startNanos) {
+            histogram.record(System.nanoTime() - startNanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+}
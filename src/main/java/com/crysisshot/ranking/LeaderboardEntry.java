@@ -0,0 +1,30 @@
+package com.crysisshot.ranking;
+
+import java.util.UUID;
+
+/**
+ * One player's position-independent row on a leaderboard
+ */
+public class LeaderboardEntry {
+
+    private final UUID playerId;
+    private final String playerName;
+    private final double value;
+
+    public LeaderboardEntry(UUID playerId, String playerName, double value) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.value = value;
+    }
+
+    public UUID getPlayerId() { return playerId; }
+    public String getPlayerName() { return playerName; }
+    public double getValue() { return value; }
+
+    /**
+     * Value formatted for display, without decimals for whole numbers
+     */
+    public String getFormattedValue() {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,135 @@
+package com.crysisshot.ranking;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.database.DatabaseManager;
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.utils.DebugCategory;
+import com.crysisshot.utils.Logger;
+
+import java.util.*;
+
+/**
+ * In-memory leaderboards for every LeaderboardMetric
+ * Each board holds the top N players, seeded once from the database and then kept
+ * current from stat updates, so reading a page never touches the database.
+ */
+public class LeaderboardManager {
+
+    private final CrysisShot plugin;
+    private final DatabaseManager databaseManager;
+    private final int capacity;
+    private final Map<LeaderboardMetric, Board> boards = new EnumMap<>(LeaderboardMetric.class);
+
+    public LeaderboardManager(CrysisShot plugin, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+        this.capacity = plugin.getConfigManager().getLeaderboardSize();
+
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            boards.put(metric, new Board(capacity));
+        }
+    }
+
+    /**
+     * Seed every board from the database in the background
+     */
+    public void initialize() {
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            Board board = boards.get(metric);
+            databaseManager.getTopEntries(metric, capacity)
+                .thenAccept(entries -> {
+                    for (LeaderboardEntry entry : entries) {
+                        board.offer(entry.getPlayerId(), entry.getPlayerName(), entry.getValue());
+                    }
+                    Logger.debug(DebugCategory.DATABASE_OPERATIONS, "Loaded {} entries for leaderboard {}",
+                        entries.size(), metric.getKey());
+                })
+                .exceptionally(error -> {
+                    Logger.warning("Could not load leaderboard " + metric.getKey() + ", it will fill as players play");
+                    return null;
+                });
+        }
+    }
+
+    /**
+     * Feed a player's current stats into every board
+     */
+    public void update(PlayerStats stats) {
+        for (Map.Entry<LeaderboardMetric, Board> entry : boards.entrySet()) {
+            entry.getValue().offer(stats.getPlayerId(), stats.getPlayerName(), entry.getKey().getValue(stats));
+        }
+    }
+
+    /**
+     * Get one page of a leaderboard (pages start at 1)
+     */
+    public List<LeaderboardEntry> getPage(LeaderboardMetric metric, int page, int pageSize) {
+        List<LeaderboardEntry> snapshot = boards.get(metric).snapshot();
+        int from = (page - 1) * pageSize;
+        if (from < 0 || from >= snapshot.size()) {
+            return Collections.emptyList();
+        }
+        return snapshot.subList(from, Math.min(from + pageSize, snapshot.size()));
+    }
+
+    /**
+     * Get the number of pages a leaderboard currently spans
+     */
+    public int getPageCount(LeaderboardMetric metric, int pageSize) {
+        int size = boards.get(metric).snapshot().size();
+        return Math.max(1, (size + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Top N players for one metric
+     * Metrics never decrease, so a player that drops off the end can only come
+     * back through a later update and the board stays exact at a fixed size.
+     */
+    private static class Board {
+        private static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparingDouble(LeaderboardEntry::getValue).reversed()
+            .thenComparing(LeaderboardEntry::getPlayerId);
+
+        private final int capacity;
+        private final TreeSet<LeaderboardEntry> sorted = new TreeSet<>(ORDER);
+        private final Map<UUID, LeaderboardEntry> byPlayer = new HashMap<>();
+
+        // Immutable copy handed to readers; rebuilt only when a page is read after a change
+        private List<LeaderboardEntry> snapshot = Collections.emptyList();
+        private boolean changed;
+
+        Board(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void offer(UUID playerId, String playerName, double value) {
+            LeaderboardEntry existing = byPlayer.get(playerId);
+            if (existing != null) {
+                if (value <= existing.getValue() && Objects.equals(playerName, existing.getPlayerName())) {
+                    return;
+                }
+                sorted.remove(existing);
+                value = Math.max(value, existing.getValue());
+            } else if (value <= 0 || (sorted.size() >= capacity && value <= sorted.last().getValue())) {
+                return;
+            }
+
+            LeaderboardEntry entry = new LeaderboardEntry(playerId, playerName, value);
+            sorted.add(entry);
+            byPlayer.put(playerId, entry);
+
+            if (sorted.size() > capacity) {
+                byPlayer.remove(sorted.pollLast().getPlayerId());
+            }
+            changed = true;
+        }
+
+        synchronized List<LeaderboardEntry> snapshot() {
+            if (changed) {
+                snapshot = List.copyOf(sorted);
+                changed = false;
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.crysisshot.ranking;
+
+import com.crysisshot.models.PlayerStats;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Statistics that players can be ranked by on the leaderboard
+ * All of them only ever grow, which lets the in-memory top lists stay exact
+ * while holding a fixed number of entries.
+ */
+public enum LeaderboardMetric {
+    KILLS("kills", "total_kills", PlayerStats::getTotalKills),
+    BOW_KILLS("bowkills", "bow_kills", PlayerStats::getBowKills),
+    DEATHS("deaths", "total_deaths", PlayerStats::getTotalDeaths),
+    GAMES("games", "games_played", PlayerStats::getGamesPlayed),
+    WINS("wins", "games_won", PlayerStats::getGamesWon),
+    STREAK("streak", "longest_kill_streak", PlayerStats::getLongestKillStreak),
+    ARROWS_FIRED("arrows", "total_arrows_fired", PlayerStats::getTotalArrowsFired),
+    ARROWS_HIT("hits", "total_arrows_hit", PlayerStats::getTotalArrowsHit),
+    DAMAGE("damage", "total_damage_dealt", PlayerStats::getTotalDamageDealt),
+    POWERUPS("powerups", "powerups_collected", PlayerStats::getPowerupsCollected),
+    PLAYTIME("playtime", "total_playtime", PlayerStats::getTotalPlaytime);
+
+    private final String key;
+    private final String column;
+    private final ToDoubleFunction<PlayerStats> extractor;
+
+    LeaderboardMetric(String key, String column, ToDoubleFunction<PlayerStats> extractor) {
+        this.key = key;
+        this.column = column;
+        this.extractor = extractor;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public double getValue(PlayerStats stats) {
+        return extractor.applyAsDouble(stats);
+    }
+
+    /**
+     * Find a metric by its command key or column name, or null if there is none
+     */
+    public static LeaderboardMetric fromKey(String key) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.key.equalsIgnoreCase(key) || metric.column.equalsIgnoreCase(key)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.crysisshot.ranking;
+
+import com.crysisshot.database.DatabaseManager;
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.utils.Logger;
+
+import java.util.*;
+
+/**
+ * Global bow-kill ranking for every known player
+ * Counts of players per bow-kill value are kept in a Fenwick tree, so a player's
+ * position and percentile are answered in O(log n) without scanning the table.
+ * The ranking is seeded once from the database and then fed from stat updates.
+ */
+public class RankingManager {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // Largest value with its own tree slot; anything higher shares it and ranks as tied
+    private static final int MAX_TRACKED_VALUE = 1 << 20;
+
+    private final Map<UUID, Integer> bowKills = new HashMap<>();
+    private final Map<UUID, String> names = new HashMap<>();
+    // Players per value, used to walk to the nearest players above and below
+    private final TreeMap<Integer, Set<UUID>> buckets = new TreeMap<>();
+    private FenwickTree counts = new FenwickTree(INITIAL_CAPACITY);
+
+    /**
+     * Load every active player's bow kills in the background
+     */
+    public void initialize(DatabaseManager databaseManager) {
+        databaseManager.getTopEntries(LeaderboardMetric.BOW_KILLS, Integer.MAX_VALUE)
+            .thenAccept(entries -> {
+                for (LeaderboardEntry entry : entries) {
+                    seed(entry.getPlayerId(), entry.getPlayerName(), (int) entry.getValue());
+                }
+                Logger.info("Loaded global ranking for " + getTotalPlayers() + " players");
+            })
+            .exceptionally(error -> {
+                Logger.warning("Could not load global ranking, it will fill as players play");
+                return null;
+            });
+    }
+
+    /**
+     * Feed a player's current stats into the ranking
+     */
+    public void update(PlayerStats stats) {
+        update(stats.getPlayerId(), stats.getPlayerName(), stats.getBowKills());
+    }
+
+    /**
+     * Set a player's bow kills
+     */
+    public synchronized void update(UUID playerId, String playerName, int value) {
+        value = Math.max(0, value);
+        if (playerName != null) {
+            names.put(playerId, playerName);
+        }
+
+        Integer previous = bowKills.put(playerId, value);
+        if (previous != null) {
+            if (previous == value) {
+                return;
+            }
+            removeFromBucket(playerId, previous);
+            counts.add(slot(previous), -1);
+        }
+
+        ensureCapacity(slot(value));
+        counts.add(slot(value), 1);
+        buckets.computeIfAbsent(value, v -> new LinkedHashSet<>()).add(playerId);
+    }
+
+    /**
+     * Seeded values never replace newer (higher) ones that arrived first
+     */
+    private synchronized void seed(UUID playerId, String playerName, int value) {
+        Integer current = bowKills.get(playerId);
+        if (current == null || value > current) {
+            update(playerId, playerName, value);
+        }
+    }
+
+    /**
+     * Get a player's global position (1 = best; tied players share a position), or -1 if unranked
+     */
+    public synchronized int getPosition(UUID playerId) {
+        Integer value = bowKills.get(playerId);
+        if (value == null) {
+            return -1;
+        }
+        return countAbove(value) + 1;
+    }
+
+    /**
+     * Get the share of players ranked at or above this player, e.g. 5.0 for the top 5%
+     * Returns -1 if the player is unranked.
+     */
+    public synchronized double getTopPercent(UUID playerId) {
+        int position = getPosition(playerId);
+        if (position < 0) {
+            return -1;
+        }
+        return position * 100.0 / bowKills.size();
+    }
+
+    /**
+     * Get a player's bow kills as known to the ranking, or -1 if unranked
+     */
+    public synchronized int getBowKills(UUID playerId) {
+        return bowKills.getOrDefault(playerId, -1);
+    }
+
+    /**
+     * Get up to {@code limit} players directly ahead of this one, nearest first
+     */
+    public synchronized List<LeaderboardEntry> getPlayersAbove(UUID playerId, int limit) {
+        Integer value = bowKills.get(playerId);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return collect(buckets.tailMap(value, false).entrySet(), playerId, limit);
+    }
+
+    /**
+     * Get up to {@code limit} players directly behind this one, nearest first
+     */
+    public synchronized List<LeaderboardEntry> getPlayersBelow(UUID playerId, int limit) {
+        Integer value = bowKills.get(playerId);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return collect(buckets.headMap(value, false).descendingMap().entrySet(), playerId, limit);
+    }
+
+    public synchronized int getTotalPlayers() {
+        return bowKills.size();
+    }
+
+    private List<LeaderboardEntry> collect(Set<Map.Entry<Integer, Set<UUID>>> buckets, UUID exclude, int limit) {
+        List<LeaderboardEntry> result = new ArrayList<>(limit);
+        for (Map.Entry<Integer, Set<UUID>> bucket : buckets) {
+            for (UUID id : bucket.getValue()) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                if (!id.equals(exclude)) {
+                    result.add(new LeaderboardEntry(id, names.get(id), bucket.getKey()));
+                }
+            }
+        }
+        return result;
+    }
+
+    private int countAbove(int value) {
+        int slot = slot(value);
+        return bowKills.size() - (slot >= counts.size() ? bowKills.size() : counts.prefixSum(slot));
+    }
+
+    private static int slot(int value) {
+        return Math.min(value, MAX_TRACKED_VALUE);
+    }
+
+    private void removeFromBucket(UUID playerId, int value) {
+        Set<UUID> bucket = buckets.get(value);
+        if (bucket != null) {
+            bucket.remove(playerId);
+            if (bucket.isEmpty()) {
+                buckets.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Grow the tree to cover {@code slot}, rebuilding it from the buckets
+     * Slots never exceed MAX_TRACKED_VALUE, so doubling cannot overflow.
+     */
+    private void ensureCapacity(int slot) {
+        if (slot < counts.size()) {
+            return;
+        }
+        int size = Math.min(MAX_TRACKED_VALUE + 1, Math.max(slot + 1, counts.size() * 2));
+        FenwickTree grown = new FenwickTree(size);
+        for (Map.Entry<Integer, Set<UUID>> bucket : buckets.entrySet()) {
+            grown.add(slot(bucket.getKey()), bucket.getValue().size());
+        }
+        counts = grown;
+    }
+
+    /**
+     * Binary indexed tree of player counts per value
+     */
+    private static class FenwickTree {
+        private final int[] tree;
+
+        FenwickTree(int size) {
+            this.tree = new int[size + 1];
+        }
+
+        int size() {
+            return tree.length - 1;
+        }
+
+        void add(int value, int delta) {
+            for (int i = value + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /**
+         * Number of players with a value of at most {@code value}
+         */
+        int prefixSum(int value) {
+            int sum = 0;
+            for (int i = value + 1; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.crysisshot.replay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte array with the varint encodings used by replay frames
+ * Buffers are recycled between chunks, so after the first few chunks no more memory is allocated.
+ */
+final class ReplayBuffer {
+
+    private byte[] data;
+    private int size;
+
+    ReplayBuffer(int initialCapacity) {
+        this.data = new byte[Math.max(64, initialCapacity)];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        data[size++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+
+    /**
+     * Signed varint; small negative deltas stay small
+     */
+    void writeZigZag(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            data[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, data, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+
+    byte[] array() {
+        return data;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Discard everything written after the given size
+     */
+    void truncate(int newSize) {
+        size = Math.min(size, Math.max(0, newSize));
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.crysisshot.replay;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Offline replay viewer for reviewing a match without a server
+ * Prints a summary of the replay, or every sampled player state as CSV for a spreadsheet
+ * or plotting script.
+ *
+ * Usage: java -cp CrysisShot.jar com.crysisshot.replay.ReplayDump [--csv] replays/match_1-20250101-120000.csr
+ */
+public final class ReplayDump {
+
+    private ReplayDump() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean csv = false;
+        Path file = null;
+        for (String arg : args) {
+            if ("--csv".equals(arg)) {
+                csv = true;
+            } else {
+                file = Paths.get(arg);
+            }
+        }
+        if (file == null) {
+            System.err.println("Usage: ReplayDump [--csv] <replay file>");
+            System.exit(2);
+            return;
+        }
+
+        try (ReplayReader reader = new ReplayReader(file)) {
+            if (csv) {
+                printCsv(reader, System.out);
+            } else {
+                printSummary(reader, System.out);
+            }
+        }
+    }
+
+    private static void printCsv(ReplayReader reader, PrintStream out) throws IOException {
+        out.println("tick,seconds,index,uuid,name,x,y,z,yaw,pitch,item");
+        ReplayFrame frame;
+        while ((frame = reader.next()) != null) {
+            for (ReplayFrame.PlayerState player : frame.getPlayers()) {
+                out.printf(Locale.ROOT, "%d,%.2f,%d,%s,%s,%.3f,%.3f,%.3f,%.1f,%.1f,%s%n",
+                    frame.getTick(), frame.getTick() / 20.0, player.getIndex(), player.getPlayerId(), player.getName(),
+                    player.getX(), player.getY(), player.getZ(), player.getYaw(), player.getPitch(), player.getItem());
+            }
+        }
+    }
+
+    private static void printSummary(ReplayReader reader, PrintStream out) throws IOException {
+        out.println("Session: " + reader.getSessionId() + " (arena " + reader.getArenaName()
+            + ", world " + reader.getWorldName() + ")");
+        out.println("Started: " + Instant.ofEpochMilli(reader.getStartTime()));
+        out.println("Sample interval: " + reader.getSampleInterval() + " ticks");
+
+        Map<Integer, String> players = new LinkedHashMap<>();
+        int frames = 0;
+        int lastTick = 0;
+        ReplayFrame frame;
+        while ((frame = reader.next()) != null) {
+            frames++;
+            lastTick = frame.getTick();
+            for (ReplayFrame.PlayerState player : frame.getPlayers()) {
+                players.putIfAbsent(player.getIndex(), player.getName() + " (" + player.getPlayerId() + ")");
+            }
+        }
+
+        out.printf(Locale.ROOT, "Frames: %d over %.1f s%n", frames, lastTick / 20.0);
+        out.println("Players:");
+        for (Map.Entry<Integer, String> player : players.entrySet()) {
+            out.println("  #" + player.getKey() + " " + player.getValue());
+        }
+    }
+}
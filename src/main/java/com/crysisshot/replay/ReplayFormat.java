@@ -0,0 +1,57 @@
+package com.crysisshot.replay;
+
+/**
+ * Layout of a replay file
+ * A header (magic, version, sample interval, start time, session id, arena, world) is followed
+ * by chunks of [int raw length][int compressed length][deflated frames]. Each chunk starts
+ * with a keyframe, so it can be decoded without the ones before it.
+ * <p>
+ * A frame is a varint tick delta (from the previous frame in the chunk, or from the match
+ * start for the first), then entries of varint (player index + 1) and a flags byte,
+ * terminated by a 0. Entry fields follow in flag order:
+ * <pre>
+ * NEW       long, long UUID and a string name
+ * POSITION  zigzag varint x, y, z deltas in 1/32 block
+ * ROTATION  byte yaw, byte pitch in 1/256 turns
+ * ITEM      string material name of the held item, empty for none
+ * REMOVED   no fields, the player left the match
+ * </pre>
+ * Players whose state did not change since the previous frame are left out.
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x43535231; // "CSR1"
+    static final short VERSION = 1;
+    static final String FILE_SUFFIX = ".csr";
+
+    static final int FLAG_NEW = 1;
+    static final int FLAG_POSITION = 1 << 1;
+    static final int FLAG_ROTATION = 1 << 2;
+    static final int FLAG_ITEM = 1 << 3;
+    static final int FLAG_REMOVED = 1 << 4;
+
+    static final double POSITION_SCALE = 32.0;
+    static final float ANGLE_SCALE = 256f / 360f;
+
+    // Upper bound for a chunk's length fields, so a corrupt file cannot force a huge allocation
+    static final int MAX_CHUNK_BYTES = 16 * 1024 * 1024;
+
+    private ReplayFormat() {
+    }
+
+    static int toFixed(double coordinate) {
+        return (int) Math.round(coordinate * POSITION_SCALE);
+    }
+
+    static double fromFixed(int fixed) {
+        return fixed / POSITION_SCALE;
+    }
+
+    static int toAngle(float degrees) {
+        return Math.round(degrees * ANGLE_SCALE) & 0xFF;
+    }
+
+    static float fromAngle(byte angle) {
+        return angle / ANGLE_SCALE;
+    }
+}
@@ -0,0 +1,67 @@
+package com.crysisshot.replay;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * State of every player in a replay at one sampled tick
+ */
+public class ReplayFrame {
+
+    private final int tick;
+    private final List<PlayerState> players;
+
+    ReplayFrame(int tick, List<PlayerState> players) {
+        this.tick = tick;
+        this.players = players;
+    }
+
+    /**
+     * Server ticks since the match started
+     */
+    public int getTick() { return tick; }
+
+    /**
+     * Every player still in the match at this tick, in player index order
+     */
+    public List<PlayerState> getPlayers() { return players; }
+
+    /**
+     * Position, rotation and held item of one player
+     */
+    public static class PlayerState {
+        private final int index;
+        private final UUID playerId;
+        private final String name;
+        private final double x, y, z;
+        private final float yaw, pitch;
+        private final String item;
+
+        PlayerState(int index, UUID playerId, String name, double x, double y, double z,
+                    float yaw, float pitch, String item) {
+            this.index = index;
+            this.playerId = playerId;
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.yaw = yaw;
+            this.pitch = pitch;
+            this.item = item;
+        }
+
+        public int getIndex() { return index; }
+        public UUID getPlayerId() { return playerId; }
+        public String getName() { return name; }
+        public double getX() { return x; }
+        public double getY() { return y; }
+        public double getZ() { return z; }
+        public float getYaw() { return yaw; }
+        public float getPitch() { return pitch; }
+
+        /**
+         * Material name of the held item, empty for an empty hand
+         */
+        public String getItem() { return item; }
+    }
+}
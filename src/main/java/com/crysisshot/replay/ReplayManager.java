@@ -0,0 +1,417 @@
+package com.crysisshot.replay;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.game.GameLoop;
+import com.crysisshot.game.GameSession;
+import com.crysisshot.models.GamePlayer;
+import com.crysisshot.utils.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * Records replays of running matches and plays them back to staff
+ * One repeating task samples every recording match; compression and file writes run on a
+ * single "CrysisShot-Replay" thread. Chunk buffers are pooled, and if the writer falls more
+ * than a fixed number of chunks behind, new chunks are dropped and counted, so memory stays
+ * bounded however many matches are recorded.
+ */
+public class ReplayManager {
+
+    private static final int MAX_PENDING_CHUNKS = 32;
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final CrysisShot plugin;
+    private final boolean enabled;
+    private final File directory;
+    private final int sampleInterval;
+    private final int chunkBytes;
+    private final int chunkTicks;
+    private final int maxFiles;
+    private final ThreadPoolExecutor writer;
+
+    // Main thread only
+    private final List<ReplayRecorder> recorders = new ArrayList<>();
+    private final Map<UUID, ReplayViewer> viewers = new ConcurrentHashMap<>();
+    private GameLoop.Job sampleTask;
+
+    private final Queue<ReplayBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingChunks = new AtomicInteger();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final AtomicLong droppedChunks = new AtomicLong();
+
+    // Replay writer thread only
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private byte[] compressed = new byte[64 * 1024];
+
+    public ReplayManager(CrysisShot plugin) {
+        this(plugin, plugin.getConfigManager().isReplayEnabled(), new File(plugin.getDataFolder(), "replays"),
+            plugin.getConfigManager().getReplaySampleInterval(), plugin.getConfigManager().getReplayChunkBytes(),
+            plugin.getConfigManager().getReplayChunkSeconds() * 20, plugin.getConfigManager().getReplayMaxFiles());
+        Logger.info("Match replays " + (enabled ? "enabled (every " + sampleInterval + " ticks)" : "disabled"));
+    }
+
+    ReplayManager(CrysisShot plugin, boolean enabled, File directory, int sampleInterval,
+                  int chunkBytes, int chunkTicks, int maxFiles) {
+        this.plugin = plugin;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.sampleInterval = Math.max(1, sampleInterval);
+        this.chunkBytes = Math.max(1024, chunkBytes);
+        this.chunkTicks = Math.max(20, chunkTicks);
+        this.maxFiles = Math.max(1, maxFiles);
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "CrysisShot-Replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start the sampling task
+     */
+    public void start() {
+        if (!enabled || sampleTask != null) {
+            return;
+        }
+        sampleTask = plugin.getGameLoop().schedule(GameLoop.Phase.MATCH, "ReplayManager.sample", sampleInterval, this::sampleAll);
+    }
+
+    private void sampleAll() {
+        if (recorders.isEmpty()) {
+            return;
+        }
+        int tick = Bukkit.getCurrentTick();
+        for (int i = 0; i < recorders.size(); i++) {
+            recorders.get(i).sample(tick);
+        }
+    }
+
+    /**
+     * Start recording a match that is starting now
+     */
+    public ReplayRecorder open(GameSession session) {
+        if (!enabled) {
+            return ReplayRecorder.DISABLED;
+        }
+
+        ReplayRecorder recorder = open(session, session.getSessionId(), session.getArenaName(),
+            worldOf(session), Bukkit.getCurrentTick());
+        recorders.add(recorder);
+        return recorder;
+    }
+
+    ReplayRecorder open(GameSession session, String sessionId, String arenaName, String worldName, int startTick) {
+        String name = sessionId.replaceAll("[^A-Za-z0-9_-]", "_") + "-" + FILE_TIME.format(LocalDateTime.now());
+        ReplayRecorder recorder = new ReplayRecorder(this, new File(directory, name + ReplayFormat.FILE_SUFFIX).toPath(),
+            session, startTick, chunkBytes, chunkTicks);
+
+        ByteBuffer header = header(System.currentTimeMillis(), sessionId, arenaName, worldName);
+        execute(() -> openFile(recorder, header));
+        return recorder;
+    }
+
+    private static String worldOf(GameSession session) {
+        for (GamePlayer gamePlayer : session.getPlayersCollection()) {
+            Player player = gamePlayer.getBukkitPlayer();
+            World world = player != null ? player.getWorld() : null;
+            if (world != null) {
+                return world.getName();
+            }
+        }
+        return "";
+    }
+
+    private ByteBuffer header(long startTime, String sessionId, String arenaName, String worldName) {
+        byte[] session = sessionId.getBytes(StandardCharsets.UTF_8);
+        byte[] arena = arenaName.getBytes(StandardCharsets.UTF_8);
+        byte[] world = worldName.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(4 + 2 + 2 + 8 + 6 + session.length + arena.length + world.length);
+        header.putInt(ReplayFormat.MAGIC)
+            .putShort(ReplayFormat.VERSION)
+            .putShort((short) sampleInterval)
+            .putLong(startTime)
+            .putShort((short) session.length).put(session)
+            .putShort((short) arena.length).put(arena)
+            .putShort((short) world.length).put(world)
+            .flip();
+        return header;
+    }
+
+    /**
+     * Get an empty chunk buffer, reusing one the writer has finished with
+     */
+    ReplayBuffer takeBuffer() {
+        ReplayBuffer buffer = pool.poll();
+        return buffer != null ? buffer : new ReplayBuffer(chunkBytes + chunkBytes / 4);
+    }
+
+    void recycle(ReplayBuffer buffer) {
+        buffer.clear();
+        pool.offer(buffer);
+    }
+
+    /**
+     * Queue a finished chunk for compression and writing
+     */
+    void write(ReplayRecorder recorder, ReplayBuffer chunk) {
+        if (pendingChunks.incrementAndGet() > MAX_PENDING_CHUNKS) {
+            pendingChunks.decrementAndGet();
+            drop(chunk);
+            return;
+        }
+
+        if (!execute(() -> {
+            try {
+                writeChunk(recorder, chunk);
+            } finally {
+                pendingChunks.decrementAndGet();
+            }
+        })) {
+            pendingChunks.decrementAndGet();
+            drop(chunk);
+        }
+    }
+
+    /**
+     * Stop sampling a recorder and close its file after its last chunk is written
+     */
+    void close(ReplayRecorder recorder) {
+        recorders.remove(recorder);
+        execute(() -> closeChannel(recorder));
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            writer.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false; // Shutting down
+        }
+    }
+
+    private void drop(ReplayBuffer chunk) {
+        recycle(chunk);
+        // Log the first drop and then every 100th to avoid flooding the console
+        long count = droppedChunks.incrementAndGet();
+        if (count == 1 || count % 100 == 0) {
+            Logger.warning("Replay writer is behind, " + count + " replay chunks dropped so far");
+        }
+    }
+
+    // ---- Replay writer thread ----
+
+    private void openFile(ReplayRecorder recorder, ByteBuffer header) {
+        try {
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Could not create replay directory " + directory);
+            }
+            recorder.channel = FileChannel.open(recorder.getFile(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            while (header.hasRemaining()) {
+                recorder.channel.write(header);
+            }
+            pruneOldFiles();
+        } catch (IOException e) {
+            fail(recorder, e);
+        }
+    }
+
+    private void writeChunk(ReplayRecorder recorder, ReplayBuffer chunk) {
+        try {
+            if (recorder.channel == null) {
+                return; // The file could not be opened or an earlier write failed
+            }
+
+            deflater.reset();
+            deflater.setInput(chunk.array(), 0, chunk.size());
+            deflater.finish();
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+
+            ByteBuffer lengths = ByteBuffer.allocate(8).putInt(chunk.size()).putInt(length).flip();
+            ByteBuffer body = ByteBuffer.wrap(compressed, 0, length);
+            while (lengths.hasRemaining() || body.hasRemaining()) {
+                recorder.channel.write(new ByteBuffer[] {lengths, body});
+            }
+            rawBytes.add(chunk.size());
+            writtenBytes.add(8 + length);
+        } catch (IOException e) {
+            fail(recorder, e);
+        } finally {
+            recycle(chunk);
+        }
+    }
+
+    private void closeChannel(ReplayRecorder recorder) {
+        FileChannel channel = recorder.channel;
+        recorder.channel = null;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Logger.warning("Could not close replay " + recorder.getFile() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop writing a replay after an I/O error; its remaining chunks are dropped
+     */
+    private void fail(ReplayRecorder recorder, IOException e) {
+        Logger.warning("Could not write replay " + recorder.getFile() + ": " + e.getMessage());
+        closeChannel(recorder);
+    }
+
+    /**
+     * Delete the oldest replays beyond replay.max-files
+     */
+    private void pruneOldFiles() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(ReplayFormat.FILE_SUFFIX));
+        if (files == null || files.length <= maxFiles) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - maxFiles; i++) {
+            if (!files[i].delete()) {
+                Logger.warning("Could not delete old replay " + files[i].getName());
+            }
+        }
+    }
+
+    // ---- Playback ----
+
+    /**
+     * Replay names (file names without the extension), newest first
+     */
+    public List<String> listReplays() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(ReplayFormat.FILE_SUFFIX));
+        List<String> names = new ArrayList<>();
+        if (files == null) {
+            return names;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+        for (File file : files) {
+            names.add(file.getName().substring(0, file.getName().length() - ReplayFormat.FILE_SUFFIX.length()));
+        }
+        return names;
+    }
+
+    /**
+     * Play a replay to one player, replacing any replay they are already watching
+     */
+    public boolean play(Player viewer, String replayName) {
+        File file = new File(directory, replayName + ReplayFormat.FILE_SUFFIX);
+        if (replayName.contains("/") || replayName.contains("\\") || !file.isFile()) {
+            return false;
+        }
+
+        stopViewing(viewer.getUniqueId());
+        ReplayViewer replayViewer = new ReplayViewer(plugin, this, viewer, file.toPath());
+        viewers.put(viewer.getUniqueId(), replayViewer);
+        replayViewer.start();
+        return true;
+    }
+
+    /**
+     * Stop the replay a player is watching; returns false if there was none
+     */
+    public boolean stopViewing(UUID viewerId) {
+        ReplayViewer replayViewer = viewers.remove(viewerId);
+        if (replayViewer == null) {
+            return false;
+        }
+        replayViewer.stop();
+        return true;
+    }
+
+    void viewerFinished(UUID viewerId, ReplayViewer replayViewer) {
+        viewers.remove(viewerId, replayViewer);
+    }
+
+    /**
+     * Stop playback and sampling, then write everything queued and wait up to five seconds
+     */
+    public void shutdown() {
+        for (UUID viewerId : new ArrayList<>(viewers.keySet())) {
+            stopViewing(viewerId);
+        }
+        if (sampleTask != null) {
+            sampleTask.cancel();
+            sampleTask = null;
+        }
+
+        writer.shutdown();
+        try {
+            if (writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                deflater.end();
+            } else {
+                Logger.warning("Replay writer did not finish in time, " + writer.getQueue().size() + " writes dropped");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getRecordingCount() {
+        return recorders.size();
+    }
+
+    public int getViewerCount() {
+        return viewers.size();
+    }
+
+    public int getPendingChunks() {
+        return pendingChunks.get();
+    }
+
+    public long getRawBytes() {
+        return rawBytes.sum();
+    }
+
+    public long getWrittenBytes() {
+        return writtenBytes.sum();
+    }
+
+    public long getDroppedChunks() {
+        return droppedChunks.get();
+    }
+}
@@ -0,0 +1,248 @@
+package com.crysisshot.replay;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Streams the frames of a replay file one chunk at a time
+ * Memory use is one decompressed chunk plus the current state of each player. A chunk cut
+ * short by a crash ends the stream instead of failing it. Has no server dependencies, so it
+ * also runs in the offline ReplayDump tool.
+ */
+public class ReplayReader implements Closeable {
+
+    private final DataInputStream input;
+    private final int sampleInterval;
+    private final long startTime;
+    private final String sessionId;
+    private final String arenaName;
+    private final String worldName;
+
+    private final Inflater inflater = new Inflater();
+    private final Map<Integer, MutableState> players = new TreeMap<>();
+    private byte[] compressed = new byte[0];
+    private byte[] chunk = new byte[0];
+    private int position;
+    private int limit;
+    private int lastTick;
+
+    public ReplayReader(Path file) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        try {
+            if (input.readInt() != ReplayFormat.MAGIC) {
+                throw new IOException("Not a replay file: " + file);
+            }
+            short version = input.readShort();
+            if (version > ReplayFormat.VERSION) {
+                throw new IOException("Unsupported replay version " + version + ": " + file);
+            }
+            this.sampleInterval = input.readShort();
+            this.startTime = input.readLong();
+            this.sessionId = readHeaderString();
+            this.arenaName = readHeaderString();
+            this.worldName = readHeaderString();
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private String readHeaderString() throws IOException {
+        byte[] bytes = new byte[input.readUnsignedShort()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read the next frame, or return null at the end of the replay
+     */
+    public ReplayFrame next() throws IOException {
+        if (position >= limit && !readChunk()) {
+            return null;
+        }
+
+        try {
+            int tick = lastTick + readVarInt();
+            lastTick = tick;
+
+            int entry;
+            while ((entry = readVarInt()) != 0) {
+                readEntry(entry - 1);
+            }
+
+            List<ReplayFrame.PlayerState> states = new ArrayList<>(players.size());
+            for (MutableState state : players.values()) {
+                states.add(state.snapshot());
+            }
+            return new ReplayFrame(tick, states);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt replay chunk", e);
+        }
+    }
+
+    private void readEntry(int index) {
+        int flags = readByte();
+        if ((flags & ReplayFormat.FLAG_REMOVED) != 0) {
+            players.remove(index);
+            return;
+        }
+
+        MutableState state = players.get(index);
+        if ((flags & ReplayFormat.FLAG_NEW) != 0) {
+            state = new MutableState(index, new UUID(readLong(), readLong()), readString());
+            players.put(index, state);
+        } else if (state == null) {
+            throw new IndexOutOfBoundsException("Unknown player index " + index);
+        }
+
+        if ((flags & ReplayFormat.FLAG_POSITION) != 0) {
+            state.x += readZigZag();
+            state.y += readZigZag();
+            state.z += readZigZag();
+        }
+        if ((flags & ReplayFormat.FLAG_ROTATION) != 0) {
+            state.yaw = (byte) readByte();
+            state.pitch = (byte) readByte();
+        }
+        if ((flags & ReplayFormat.FLAG_ITEM) != 0) {
+            state.item = readString();
+        }
+    }
+
+    /**
+     * Load and inflate the next chunk; returns false at the end of the file
+     */
+    private boolean readChunk() throws IOException {
+        int rawLength;
+        int compressedLength;
+        try {
+            rawLength = input.readInt();
+            compressedLength = input.readInt();
+            if (rawLength <= 0 || rawLength > ReplayFormat.MAX_CHUNK_BYTES
+                || compressedLength <= 0 || compressedLength > ReplayFormat.MAX_CHUNK_BYTES) {
+                throw new IOException("Corrupt replay chunk header");
+            }
+            if (compressed.length < compressedLength) {
+                compressed = new byte[compressedLength];
+            }
+            input.readFully(compressed, 0, compressedLength);
+        } catch (EOFException e) {
+            return false;
+        }
+
+        if (chunk.length < rawLength) {
+            chunk = new byte[rawLength];
+        }
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedLength);
+        try {
+            if (inflater.inflate(chunk, 0, rawLength) != rawLength) {
+                throw new IOException("Corrupt replay chunk");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt replay chunk", e);
+        }
+
+        // Every chunk starts with a keyframe
+        position = 0;
+        limit = rawLength;
+        lastTick = 0;
+        players.clear();
+        return true;
+    }
+
+    private int readByte() {
+        if (position >= limit) {
+            throw new IndexOutOfBoundsException("Replay chunk ended mid-frame");
+        }
+        return chunk[position++] & 0xFF;
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Varint too long");
+    }
+
+    private int readZigZag() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    private String readString() {
+        int length = readVarInt();
+        if (length < 0 || position + length > limit) {
+            throw new IndexOutOfBoundsException("Replay string past end of chunk");
+        }
+        String value = new String(chunk, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        input.close();
+    }
+
+    /**
+     * Server ticks between samples when the replay was recorded
+     */
+    public int getSampleInterval() { return sampleInterval; }
+
+    /**
+     * Wall-clock time the match started, in epoch milliseconds
+     */
+    public long getStartTime() { return startTime; }
+    public String getSessionId() { return sessionId; }
+    public String getArenaName() { return arenaName; }
+    public String getWorldName() { return worldName; }
+
+    private static final class MutableState {
+        private final int index;
+        private final UUID playerId;
+        private final String name;
+        private int x, y, z;
+        private byte yaw, pitch;
+        private String item = "";
+
+        private MutableState(int index, UUID playerId, String name) {
+            this.index = index;
+            this.playerId = playerId;
+            this.name = name;
+        }
+
+        private ReplayFrame.PlayerState snapshot() {
+            return new ReplayFrame.PlayerState(index, playerId, name,
+                ReplayFormat.fromFixed(x), ReplayFormat.fromFixed(y), ReplayFormat.fromFixed(z),
+                ReplayFormat.fromAngle(yaw), ReplayFormat.fromAngle(pitch), item);
+        }
+    }
+}
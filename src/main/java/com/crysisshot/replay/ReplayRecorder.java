@@ -0,0 +1,246 @@
+package com.crysisshot.replay;
+
+import com.crysisshot.game.GameSession;
+import com.crysisshot.models.GamePlayer;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Samples the players of one match into delta-encoded replay chunks
+ * Sampling runs on the main thread and writes a few bytes per player that moved, turned or
+ * switched items; a chunk is handed to the replay writer thread for compression once it
+ * reaches the configured size or age, so each match holds at most one chunk in memory.
+ */
+public class ReplayRecorder {
+
+    /**
+     * Recorder used when replays are off; every call returns immediately
+     */
+    public static final ReplayRecorder DISABLED = new ReplayRecorder(null, null, null, 0, 0, 0);
+
+    private final ReplayManager manager;
+    private final Path file;
+    private final GameSession session;
+    private final int startTick;
+    private final int chunkBytes;
+    private final int chunkTicks;
+
+    // Main thread only
+    private final Map<UUID, TrackedPlayer> tracked = new HashMap<>();
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private ReplayBuffer chunk;
+    private int chunkStartTick;
+    private int lastFrameTick;
+    private int frameTick;
+    private int frameStart;
+    private boolean frameHasEntries;
+    private int generation;
+    private int nextIndex;
+    private boolean closed;
+
+    // Replay writer thread only
+    FileChannel channel;
+
+    ReplayRecorder(ReplayManager manager, Path file, GameSession session, int startTick, int chunkBytes, int chunkTicks) {
+        this.manager = manager;
+        this.file = file;
+        this.session = session;
+        this.startTick = startTick;
+        this.chunkBytes = chunkBytes;
+        this.chunkTicks = chunkTicks;
+        this.closed = manager == null;
+    }
+
+    public boolean isEnabled() {
+        return !closed;
+    }
+
+    /**
+     * Record one frame with every player of the session
+     */
+    void sample(int serverTick) {
+        if (closed) {
+            return;
+        }
+
+        beginFrame(serverTick - startTick);
+        for (GamePlayer gamePlayer : session.getPlayersCollection()) {
+            Player player = gamePlayer.getBukkitPlayer();
+            if (player == null || !player.isOnline()) {
+                continue;
+            }
+            player.getLocation(scratch);
+            ItemStack item = player.getInventory().getItemInMainHand();
+            Material material = item != null ? item.getType() : Material.AIR;
+            recordPlayer(player.getUniqueId(), player.getName(), scratch.getX(), scratch.getY(), scratch.getZ(),
+                scratch.getYaw(), scratch.getPitch(), material == Material.AIR ? "" : material.name());
+        }
+        endFrame();
+    }
+
+    void beginFrame(int tick) {
+        if (chunk == null) {
+            // New chunk: restart tick deltas and send every player in full
+            chunk = manager.takeBuffer();
+            chunkStartTick = tick;
+            lastFrameTick = 0;
+            for (TrackedPlayer player : tracked.values()) {
+                player.keyframe = true;
+            }
+        }
+
+        generation++;
+        frameTick = tick;
+        frameStart = chunk.size();
+        frameHasEntries = false;
+        chunk.writeVarInt(tick - lastFrameTick);
+    }
+
+    void recordPlayer(UUID playerId, String name, double x, double y, double z, float yaw, float pitch, String item) {
+        TrackedPlayer player = tracked.get(playerId);
+        if (player == null) {
+            player = new TrackedPlayer(nextIndex++);
+            tracked.put(playerId, player);
+        }
+        player.generation = generation;
+
+        int fixedX = ReplayFormat.toFixed(x);
+        int fixedY = ReplayFormat.toFixed(y);
+        int fixedZ = ReplayFormat.toFixed(z);
+        int angleYaw = ReplayFormat.toAngle(yaw);
+        int anglePitch = ReplayFormat.toAngle(pitch);
+
+        int flags;
+        if (player.keyframe) {
+            flags = ReplayFormat.FLAG_NEW | ReplayFormat.FLAG_POSITION | ReplayFormat.FLAG_ROTATION | ReplayFormat.FLAG_ITEM;
+            player.x = 0;
+            player.y = 0;
+            player.z = 0;
+        } else {
+            flags = 0;
+            if (fixedX != player.x || fixedY != player.y || fixedZ != player.z) {
+                flags |= ReplayFormat.FLAG_POSITION;
+            }
+            if (angleYaw != player.yaw || anglePitch != player.pitch) {
+                flags |= ReplayFormat.FLAG_ROTATION;
+            }
+            if (!item.equals(player.item)) {
+                flags |= ReplayFormat.FLAG_ITEM;
+            }
+            if (flags == 0) {
+                return;
+            }
+        }
+
+        chunk.writeVarInt(player.index + 1);
+        chunk.writeByte(flags);
+        if ((flags & ReplayFormat.FLAG_NEW) != 0) {
+            chunk.writeLong(playerId.getMostSignificantBits());
+            chunk.writeLong(playerId.getLeastSignificantBits());
+            chunk.writeString(name);
+        }
+        if ((flags & ReplayFormat.FLAG_POSITION) != 0) {
+            chunk.writeZigZag(fixedX - player.x);
+            chunk.writeZigZag(fixedY - player.y);
+            chunk.writeZigZag(fixedZ - player.z);
+        }
+        if ((flags & ReplayFormat.FLAG_ROTATION) != 0) {
+            chunk.writeByte(angleYaw);
+            chunk.writeByte(anglePitch);
+        }
+        if ((flags & ReplayFormat.FLAG_ITEM) != 0) {
+            chunk.writeString(item);
+        }
+
+        player.x = fixedX;
+        player.y = fixedY;
+        player.z = fixedZ;
+        player.yaw = angleYaw;
+        player.pitch = anglePitch;
+        player.item = item;
+        player.keyframe = false;
+        frameHasEntries = true;
+    }
+
+    void endFrame() {
+        // Players not seen this frame have left the match
+        Iterator<TrackedPlayer> iterator = tracked.values().iterator();
+        while (iterator.hasNext()) {
+            TrackedPlayer player = iterator.next();
+            if (player.generation != generation) {
+                chunk.writeVarInt(player.index + 1);
+                chunk.writeByte(ReplayFormat.FLAG_REMOVED);
+                iterator.remove();
+                frameHasEntries = true;
+            }
+        }
+
+        if (!frameHasEntries) {
+            // Nothing changed: drop the frame and let the next delta cover the gap
+            chunk.truncate(frameStart);
+            return;
+        }
+        chunk.writeVarInt(0);
+        lastFrameTick = frameTick;
+
+        if (chunk.size() >= chunkBytes || frameTick - chunkStartTick >= chunkTicks) {
+            flush();
+        }
+    }
+
+    /**
+     * Hand the current chunk to the writer thread
+     */
+    public void flush() {
+        if (closed || chunk == null) {
+            return;
+        }
+        if (chunk.size() == 0) {
+            manager.recycle(chunk);
+        } else {
+            manager.write(this, chunk);
+        }
+        chunk = null;
+    }
+
+    /**
+     * Write the last chunk and close the file; later samples are ignored
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        manager.close(this);
+    }
+
+    /**
+     * Path of the replay file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    private static final class TrackedPlayer {
+        private final int index;
+        private int x, y, z;
+        private int yaw, pitch;
+        private String item = "";
+        private int generation;
+        private boolean keyframe = true;
+
+        private TrackedPlayer(int index) {
+            this.index = index;
+        }
+    }
+}
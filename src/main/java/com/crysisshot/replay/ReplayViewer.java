@@ -0,0 +1,212 @@
+package com.crysisshot.replay;
+
+import com.crysisshot.CrysisShot;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.EulerAngle;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Plays a replay to one staff member with armor stands only they can see
+ * A loader thread decodes the file into a small bounded queue ahead of playback; the main
+ * thread moves one stand per recorded player in real time. Stands are hidden by default and
+ * shown to the viewer alone, so the server only sends them to that client.
+ */
+public class ReplayViewer {
+
+    private static final int PREFETCH_FRAMES = 256;
+
+    private final CrysisShot plugin;
+    private final ReplayManager manager;
+    private final Player viewer;
+    private final UUID viewerId;
+    private final Path file;
+
+    private final BlockingQueue<ReplayFrame> frames = new ArrayBlockingQueue<>(PREFETCH_FRAMES);
+    private volatile String worldName;
+    private volatile String loadError;
+    private volatile boolean loaded;
+    private Thread loader;
+
+    // Main thread only
+    private final Map<Integer, ArmorStand> stands = new HashMap<>();
+    private final Map<Integer, String> items = new HashMap<>();
+    private BukkitTask task;
+    private World world;
+    private int replayTick = -1;
+    private boolean stopped;
+
+    ReplayViewer(CrysisShot plugin, ReplayManager manager, Player viewer, Path file) {
+        this.plugin = plugin;
+        this.manager = manager;
+        this.viewer = viewer;
+        this.viewerId = viewer.getUniqueId();
+        this.file = file;
+    }
+
+    void start() {
+        loader = new Thread(this::load, "CrysisShot-ReplayLoader");
+        loader.setDaemon(true);
+        loader.start();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        viewer.sendMessage("§eLoading replay §f" + file.getFileName() + "§e...");
+    }
+
+    // ---- Loader thread ----
+
+    private void load() {
+        try (ReplayReader reader = new ReplayReader(file)) {
+            worldName = reader.getWorldName();
+            ReplayFrame frame;
+            while ((frame = reader.next()) != null) {
+                frames.put(frame);
+            }
+        } catch (IOException e) {
+            loadError = e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Playback stopped
+        } finally {
+            loaded = true;
+        }
+    }
+
+    // ---- Main thread ----
+
+    private void tick() {
+        if (stopped) {
+            return;
+        }
+        if (!viewer.isOnline()) {
+            manager.stopViewing(viewerId);
+            return;
+        }
+        if (loadError != null) {
+            viewer.sendMessage("§cCould not read replay: " + loadError);
+            manager.stopViewing(viewerId);
+            return;
+        }
+        if (world == null && !resolveWorld()) {
+            return;
+        }
+
+        ReplayFrame frame = frames.peek();
+        if (frame == null) {
+            if (loaded && frames.isEmpty()) {
+                viewer.sendMessage("§aReplay finished.");
+                manager.stopViewing(viewerId);
+            }
+            return; // Waiting for the loader
+        }
+
+        // Start at the first recorded frame, then advance in real time
+        replayTick = replayTick < 0 ? frame.getTick() : replayTick + 1;
+        while (frame != null && frame.getTick() <= replayTick) {
+            frames.poll();
+            apply(frame);
+            frame = frames.peek();
+        }
+    }
+
+    private boolean resolveWorld() {
+        String name = worldName;
+        if (name == null) {
+            return false; // Header not read yet
+        }
+        world = Bukkit.getWorld(name);
+        if (world == null) {
+            viewer.sendMessage("§cThe replay's world §f" + name + "§c is not loaded.");
+            manager.stopViewing(viewerId);
+            return false;
+        }
+        viewer.sendMessage("§aPlaying replay §f" + file.getFileName() + "§a. Use §f/cs admin replay stop§a to end it.");
+        return true;
+    }
+
+    private void apply(ReplayFrame frame) {
+        Set<Integer> present = new HashSet<>();
+        for (ReplayFrame.PlayerState player : frame.getPlayers()) {
+            present.add(player.getIndex());
+            Location location = new Location(world, player.getX(), player.getY(), player.getZ(), player.getYaw(), 0);
+
+            ArmorStand stand = stands.get(player.getIndex());
+            if (stand == null || !stand.isValid()) {
+                stand = spawnStand(location, player.getName());
+                stands.put(player.getIndex(), stand);
+                items.remove(player.getIndex());
+            } else {
+                stand.teleport(location);
+            }
+            stand.setHeadPose(new EulerAngle(Math.toRadians(player.getPitch()), 0, 0));
+
+            if (!player.getItem().equals(items.get(player.getIndex()))) {
+                items.put(player.getIndex(), player.getItem());
+                Material material = player.getItem().isEmpty() ? null : Material.matchMaterial(player.getItem());
+                stand.getEquipment().setItemInMainHand(material != null ? new ItemStack(material) : null);
+            }
+        }
+
+        // Players that left the match
+        Iterator<Map.Entry<Integer, ArmorStand>> iterator = stands.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, ArmorStand> entry = iterator.next();
+            if (!present.contains(entry.getKey())) {
+                entry.getValue().remove();
+                items.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private ArmorStand spawnStand(Location location, String name) {
+        ArmorStand stand = world.spawn(location, ArmorStand.class, spawned -> {
+            spawned.setVisibleByDefault(false);
+            spawned.setPersistent(false);
+            spawned.setGravity(false);
+            spawned.setInvulnerable(true);
+            spawned.setArms(true);
+            spawned.setBasePlate(false);
+            spawned.setCustomName(name);
+            spawned.setCustomNameVisible(true);
+        });
+        viewer.showEntity(plugin, stand);
+        return stand;
+    }
+
+    /**
+     * Stop playback and remove every stand
+     */
+    void stop() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        if (task != null) {
+            task.cancel();
+        }
+        if (loader != null) {
+            loader.interrupt();
+        }
+        for (ArmorStand stand : stands.values()) {
+            stand.remove();
+        }
+        stands.clear();
+        items.clear();
+        manager.viewerFinished(viewerId, this);
+    }
+}
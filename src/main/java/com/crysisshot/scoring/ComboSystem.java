@@ -2,7 +2,6 @@ package com.crysisshot.scoring;
 
 import com.crysisshot.CrysisShot;
 import com.crysisshot.game.GameSession;
-import com.crysisshot.localization.MessageManager;
 import com.crysisshot.models.GamePlayer;
 import org.bukkit.Sound;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -14,11 +13,9 @@ import org.bukkit.entity.Player;
 public class ComboSystem {
     
     private final FileConfiguration config;
-    private final MessageManager messages;
     
     public ComboSystem(CrysisShot plugin) {
         this.config = plugin.getConfigManager().getConfig();
-        this.messages = plugin.getMessageManager();
     }
     
     /**
@@ -51,19 +48,16 @@ public class ComboSystem {
         
         String comboName = getComboName(killStreak);
         if (!"none".equals(comboName)) {
-            // Send combo message
-            String comboMessage = messages.getMessage("game.combo." + comboName, player,
-                "{player}", player.getName(),
-                "{streak}", String.valueOf(killStreak));
-            
             // Play combo sound
             Sound comboSound = getComboSound(comboName);
             if (comboSound != null) {
                 player.playSound(player.getLocation(), comboSound, 1.0f, 1.0f);
             }
             
-            // Broadcast combo achievement
-            session.broadcastMessage(comboMessage);
+            // Broadcast combo achievement in each player's language
+            session.broadcastMessage("game.combo." + comboName,
+                "player", player.getName(),
+                "streak", String.valueOf(killStreak));
         }
     }
     
@@ -78,11 +72,9 @@ public class ComboSystem {
         if (previousStreak >= 5 && session != null) {
             Player bukkitPlayer = player.getBukkitPlayer();
             if (bukkitPlayer != null) {
-                String streakEndMessage = messages.getMessage("game.streak.ended", bukkitPlayer,
-                    "{player}", bukkitPlayer.getName(),
-                    "{streak}", String.valueOf(previousStreak));
-                
-                session.broadcastMessage(streakEndMessage);
+                session.broadcastMessage("game.streak.ended",
+                    "player", bukkitPlayer.getName(),
+                    "streak", String.valueOf(previousStreak));
             }
         }
     }
@@ -5,16 +5,13 @@ import com.crysisshot.config.ConfigManager;
 import com.crysisshot.game.GameSession;
 import com.crysisshot.localization.MessageManager;
 import com.crysisshot.models.GamePlayer;
-import com.crysisshot.models.PlayerStats;
 import com.crysisshot.ranking.Rank;
 import com.crysisshot.utils.Logger;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Manages scoring, kill streaks, combos, and win conditions
@@ -61,18 +58,18 @@ public class ScoringManager {
         victim.resetKillStreak();
         
         // Log the kill
-        Logger.info(String.format("Kill processed: %s killed %s (%s) - %d points (x%.1f multiplier, %d streak)", 
-            killer.getPlayer().getName(), victim.getPlayer().getName(), 
-            killType.name(), finalScore, multiplier, currentStreak));
+        Logger.event("Kill processed: {} killed {} ({}) - {} points (x{} multiplier, {} streak)", 
+            killer.getPlayerName(), victim.getPlayerName(), 
+            killType.name(), finalScore, multiplier, currentStreak);
         
         // Send messages and effects
         sendKillMessages(session, killer, victim, finalScore, multiplier, currentStreak, killType);
         
-        // Check for game end condition
-        checkWinCondition(session, killer);
-        
         // Update session statistics
         session.updatePlayerStatistics(killer, victim);
+        
+        // Let the session update its leaders; reaching the target score ends the game here
+        session.onScoreChanged(killer);
     }
     
     /**
@@ -127,31 +124,28 @@ public class ScoringManager {
         }
         
         // Message to killer
-        String killerMessage;
         if (multiplier > 1.0) {
-            killerMessage = messages.getMessage("game.kill.combo", killerPlayer)
-                .replace("{victim}", victimPlayer.getName())
-                .replace("{points}", String.valueOf(points))
-                .replace("{multiplier}", String.format("%.1f", multiplier))
-                .replace("{streak}", String.valueOf(killStreak));
+            messages.sendMessage(killerPlayer, "game.kill.combo",
+                "victim", victimPlayer.getName(),
+                "points", String.valueOf(points),
+                "multiplier", String.format("%.1f", multiplier),
+                "streak", String.valueOf(killStreak));
         } else {
-            killerMessage = messages.getMessage("game.kill.normal", killerPlayer)
-                .replace("{victim}", victimPlayer.getName())
-                .replace("{points}", String.valueOf(points));
+            messages.sendMessage(killerPlayer, "game.kill.normal",
+                "victim", victimPlayer.getName(),
+                "points", String.valueOf(points));
         }
-        killerPlayer.sendMessage(killerMessage);
         
         // Message to victim
-        String victimMessage = messages.getMessage("game.death.killed", victimPlayer)
-            .replace("{killer}", killerPlayer.getName())
-            .replace("{killer_score}", String.valueOf(killer.getScore()));
-        victimPlayer.sendMessage(victimMessage);
-          // Send kill streak milestones
+        messages.sendMessage(victimPlayer, "game.death.killed",
+            "killer", killerPlayer.getName(),
+            "killer_score", String.valueOf(killer.getScore()));
+        
+        // Send kill streak milestones
         if (isKillStreakMilestone(killStreak)) {
-            String streakMessage = messages.getMessage("game.killstreak.milestone", "en")
-                .replace("{player}", killerPlayer.getName())
-                .replace("{streak}", String.valueOf(killStreak));
-            session.broadcastMessage(streakMessage);
+            session.broadcastMessage("game.killstreak.milestone",
+                "player", killerPlayer.getName(),
+                "streak", String.valueOf(killStreak));
         }
         
         // Play sound effects
@@ -173,147 +167,6 @@ public class ScoringManager {
         return thresholds.contains(killStreak) || killStreak % 5 == 0; // Announce every 5 kills too
     }
     
-    /**
-     * Check if the game should end based on win conditions
-     */
-    private void checkWinCondition(GameSession session, GamePlayer potentialWinner) {
-        int targetScore = config.getTargetScore();
-        
-        if (potentialWinner.getScore() >= targetScore) {
-            // We have a winner!
-            endGame(session, potentialWinner);
-        }
-    }
-    
-    /**
-     * End the game with a winner
-     */
-    private void endGame(GameSession session, GamePlayer winner) {
-        if (session.getState() != GameSession.GameState.ACTIVE) {
-            return; // Game already ending or ended
-        }
-        
-        session.setState(GameSession.GameState.ENDING);
-        
-        // Announce winner
-        String winMessage = messages.getMessage("game.winner.announced", "en")
-            .replace("{winner}", winner.getPlayer().getName())
-            .replace("{score}", String.valueOf(winner.getScore()));
-        session.broadcastMessage(winMessage);
-        
-        // Generate final leaderboard
-        generateFinalLeaderboard(session);
-        
-        // Schedule game end tasks
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            finalizeGameEnd(session);
-        }, 100L); // 5 second delay for players to see results
-    }
-    
-    /**
-     * Generate and display final leaderboard
-     */
-    private void generateFinalLeaderboard(GameSession session) {        List<GamePlayer> sortedPlayers = session.getPlayersCollection().stream()
-            .sorted(Comparator.comparingInt(GamePlayer::getScore).reversed())
-            .collect(Collectors.toList());
-          // Broadcast leaderboard header
-        String headerMessage = messages.getMessage("game.leaderboard.header", "en");
-        session.broadcastMessage(headerMessage);
-        
-        // Show top players
-        for (int i = 0; i < Math.min(sortedPlayers.size(), 5); i++) {
-            GamePlayer player = sortedPlayers.get(i);
-            String position = getPositionString(i + 1);
-            
-            String playerEntry = messages.getMessage("game.leaderboard.entry", "en")
-                .replace("{position}", position)
-                .replace("{player}", player.getPlayer().getName())
-                .replace("{score}", String.valueOf(player.getScore()))
-                .replace("{kills}", String.valueOf(player.getKills()))
-                .replace("{deaths}", String.valueOf(player.getDeaths()));
-            
-            session.broadcastMessage(playerEntry);
-        }
-          // Play victory/defeat sounds
-        Player winner = sortedPlayers.get(0).getPlayer();
-        for (GamePlayer gamePlayer : session.getPlayersCollection()) {
-            Player player = gamePlayer.getPlayer();
-            if (player != null) {
-                if (player.equals(winner)) {
-                    player.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-                } else {
-                    player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
-                }
-            }
-        }
-    }
-    
-    /**
-     * Get position string (1st, 2nd, 3rd, etc.)
-     */
-    private String getPositionString(int position) {
-        switch (position) {
-            case 1: return "1st";
-            case 2: return "2nd";
-            case 3: return "3rd";
-            default: return position + "th";
-        }
-    }
-    
-    /**
-     * Finalize game end and clean up
-     */
-    private void finalizeGameEnd(GameSession session) {
-        // Save player statistics to database
-        savePlayerStatistics(session);
-        
-        // Reset session state
-        session.setState(GameSession.GameState.RESETTING);
-          // Restore players and remove from session
-        for (GamePlayer gamePlayer : session.getPlayersCollection()) {
-            Player player = gamePlayer.getPlayer();
-            if (player != null) {
-                // Thank you message
-                String thankYouMessage = messages.getMessage("game.end.thankyou", player);
-                player.sendMessage(thankYouMessage);
-                  // Remove from session (this will restore player state)
-                plugin.getGameManager().removePlayerFromGame(player, false);
-            }
-        }
-        
-        // Clear session
-        session.getPlayers().clear();
-        session.setState(GameSession.GameState.WAITING);
-        
-        Logger.info("Game session ended and cleaned up");
-    }
-    
-    /**
-     * Save player statistics to database
-     */
-    private void savePlayerStatistics(GameSession session) {
-        // TODO: Implement database saving when DatabaseManager is integrated
-        // For now, just log the statistics
-        Logger.info("Saving player statistics for session " + session.getSessionId());
-        
-        for (GamePlayer gamePlayer : session.getPlayersCollection()) {
-            Logger.info(String.format("Player %s: Score=%d, Kills=%d, Deaths=%d, Arrows=%d", 
-                gamePlayer.getPlayer().getName(),
-                gamePlayer.getScore(),
-                gamePlayer.getKills(),
-                gamePlayer.getDeaths(),
-                gamePlayer.getArrowsUsed()));
-        }
-    }
-    
-    /**
-     * Get current leaderboard for a session
-     */
-    public List<GamePlayer> getLeaderboard(GameSession session) {        return session.getPlayersCollection().stream()
-            .sorted(Comparator.comparingInt(GamePlayer::getScore).reversed())
-            .collect(Collectors.toList());
-    }
-    
     /**
      * Update player persistent stats and check for rank progression
      */
@@ -323,54 +176,37 @@ public class ScoringManager {
         }
         
         Player player = gamePlayer.getPlayer();
-          // Run async to avoid blocking the main thread
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try {
-                // Load player stats
-                PlayerStats stats = plugin.getDatabaseManager().loadPlayerStats(player.getUniqueId()).join();
-                if (stats == null) {
-                    // Create new stats if player doesn't exist
-                    stats = new PlayerStats(player.getUniqueId(), player.getName());
-                }
-                
-                // Get current rank before update
-                Rank oldRank = stats.getCurrentRank();
-                
-                // Update kill statistics based on kill type
-                stats.incrementKills();
-                if (killType == KillType.BOW) {
-                    stats.incrementBowKills();
-                } else if (killType == KillType.MELEE) {
-                    stats.incrementMeleeKills();
-                }
-                
-                // Update last seen
-                stats.updateLastSeen();
+        
+        // Update the cached stats in memory; the cache writes them back in batches
+        plugin.getStatsCache().modify(player.getUniqueId(), player.getName(), stats -> {
+            // Get current rank before update
+            Rank oldRank = stats.getCurrentRank();
+            
+            // Update kill statistics based on kill type
+            stats.incrementKills();
+            if (killType == KillType.BOW) {
+                stats.incrementBowKills();
+            } else if (killType == KillType.MELEE) {
+                stats.incrementMeleeKills();
+            }
+            
+            // Check for rank progression based on bow kills
+            Rank newRank = Rank.getRankByKills(stats.getBowKills());
+            
+            // Check if rank has improved
+            if (newRank != oldRank && newRank.ordinal() > oldRank.ordinal()) {
+                stats.setCurrentRank(newRank);
                 
-                // Check for rank progression based on bow kills
-                Rank newRank = Rank.getRankByKills(stats.getBowKills());
+                final int finalBowKills = stats.getBowKills();
                 
-                // Check if rank has improved
-                if (newRank != oldRank && newRank.ordinal() > oldRank.ordinal()) {
-                    // Update rank
-                    stats.setCurrentRank(newRank);
-                    
-                    // Create final variables for lambda
-                    final int finalBowKills = stats.getBowKills();
-                    final Rank finalOldRank = oldRank;
-                    final Rank finalNewRank = newRank;
-                    
-                    // Notify player of rank promotion (run on main thread)
+                // Stats that were not cached yet are updated from a database thread
+                if (Bukkit.isPrimaryThread()) {
+                    notifyRankPromotion(player, oldRank, newRank, finalBowKills);
+                } else {
                     Bukkit.getScheduler().runTask(plugin, () -> {
-                        notifyRankPromotion(player, finalOldRank, finalNewRank, finalBowKills);
+                        notifyRankPromotion(player, oldRank, newRank, finalBowKills);
                     });
                 }
-                
-                // Save updated stats
-                plugin.getDatabaseManager().savePlayerStats(stats);
-                  } catch (Exception e) {
-                Logger.severe("Error updating player stats and rank for " + player.getName() + ": " + e.getMessage());
-                e.printStackTrace();
             }
         });
     }
@@ -384,19 +220,22 @@ public class ScoringManager {
         }
         
         try {            // Send promotion message
-            String message = messages.getMessage("rank.promotion", 
-                oldRank.getFormattedName(), newRank.getFormattedName(), String.valueOf(bowKills));
-            player.sendMessage(message);
+            messages.sendMessage(player, "rank.promotion",
+                "old_rank", oldRank.getFormattedName(),
+                "new_rank", newRank.getFormattedName(),
+                "bow_kills", String.valueOf(bowKills));
             
             // Play sound effect
             player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
             
             // Special handling for Deadeye rank
             if (newRank == Rank.DEADEYE) {
-                // Broadcast to all players
-                String announcement = messages.getMessage("rank.deadeye_announcement", 
-                    player.getName(), String.valueOf(bowKills));
-                Bukkit.getServer().broadcastMessage(announcement);
+                // Broadcast to all players, each in their own language
+                for (Player online : Bukkit.getOnlinePlayers()) {
+                    messages.sendMessage(online, "rank.deadeye_announcement",
+                        "player", player.getName(),
+                        "bow_kills", String.valueOf(bowKills));
+                }
                 
                 Logger.info("Player " + player.getName() + " achieved Deadeye rank with " + bowKills + " bow kills!");
             }
@@ -0,0 +1,364 @@
+package com.crysisshot.utils;
+
+import org.bukkit.Bukkit;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Log file writer fed through a preallocated lock-free ring buffer
+ * Callers on any thread claim a slot with one CAS and store the pattern and arguments;
+ * formatting, file I/O, size rotation and gzip compression all happen on a single
+ * background thread. When the buffer is full the event is dropped and counted instead
+ * of blocking the caller.
+ */
+public class AsyncLogSink {
+
+    private static final int MAX_ARGS = 8;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final String ACTIVE_FILE = "crysisshot.log";
+    private static final DateTimeFormatter LINE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final DateTimeFormatter ARCHIVE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd-HHmmss-SSS");
+    private static final String ARCHIVE_SUFFIX = ".log.gz";
+
+    // Ring buffer: a slot is free for position p when its sequence is p, readable when it is p + 1
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] times;
+    private final Level[] levels;
+    private final String[] patterns;
+    private final Object[][] arguments;
+    private final int[] argumentCounts;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // only advanced by the writer thread
+
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+    private long reportedDropped;
+    private long lastDropWarning;
+
+    private final File directory;
+    private final long maxFileBytes;
+    private final int maxArchives;
+    private OutputStream output;
+    private long fileBytes;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AsyncLogSink(File directory, int capacity, long maxFileBytes, int maxArchives) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.sequences = new AtomicLongArray(this.capacity);
+        this.times = new long[this.capacity];
+        this.levels = new Level[this.capacity];
+        this.patterns = new String[this.capacity];
+        this.arguments = new Object[this.capacity][MAX_ARGS];
+        this.argumentCounts = new int[this.capacity];
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        this.directory = directory;
+        this.maxFileBytes = Math.max(1024, maxFileBytes);
+        this.maxArchives = Math.max(1, maxArchives);
+    }
+
+    /**
+     * Open the log file and start the writer thread
+     */
+    public void start() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create log directory " + directory);
+        }
+
+        // Archive whatever the previous run left behind so every file starts at a server start
+        File active = new File(directory, ACTIVE_FILE);
+        if (active.length() > 0) {
+            archive(active);
+        }
+        openActiveFile();
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "CrysisShot-LogWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stop the writer after it has drained everything already queued
+     */
+    public void shutdown() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+
+    /**
+     * Queue a message; returns false if the buffer was full and the message was dropped
+     */
+    public boolean offer(Level level, String message) {
+        return publish(level, message, null);
+    }
+
+    /**
+     * Queue a {} pattern whose arguments are formatted on the writer thread
+     * Arguments must not change after the call; pass strings, numbers or enums.
+     */
+    public boolean offer(Level level, String pattern, Object... args) {
+        return publish(level, pattern, args);
+    }
+
+    private boolean publish(Level level, String pattern, Object[] args) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (available < 0) {
+                dropped.increment();
+                return false;
+            }
+            // Another producer claimed this position; retry with the new tail
+        }
+
+        times[index] = System.currentTimeMillis();
+        levels[index] = level;
+        patterns[index] = pattern;
+        int count = args == null ? 0 : Math.min(args.length, MAX_ARGS);
+        Object[] slotArgs = arguments[index];
+        for (int i = 0; i < count; i++) {
+            slotArgs[i] = args[i];
+        }
+        argumentCounts[index] = count;
+
+        // Publishes the slot contents to the writer thread
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    private void runWriter() {
+        while (running || head < tail.get()) {
+            int drained = drain();
+            reportDrops();
+
+            if (drained == 0) {
+                flushOutput();
+                if (running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                } else if (head < tail.get()) {
+                    // A producer claimed a slot but has not published it yet
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        reportDrops();
+        closeOutput();
+    }
+
+    private int drain() {
+        int drained = 0;
+        StringBuilder line = new StringBuilder(128);
+        Object[] args = new Object[MAX_ARGS];
+
+        while (true) {
+            long position = head;
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                return drained;
+            }
+
+            long time = times[index];
+            Level level = levels[index];
+            String pattern = patterns[index];
+            int count = argumentCounts[index];
+            Object[] slotArgs = arguments[index];
+            for (int i = 0; i < count; i++) {
+                args[i] = slotArgs[i];
+                slotArgs[i] = null;
+            }
+            patterns[index] = null;
+
+            // Hand the slot back to producers for the next lap
+            sequences.set(index, position + capacity);
+            head = position + 1;
+
+            line.setLength(0);
+            line.append('[').append(LINE_TIME.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault())))
+                .append("] [").append(level.getName()).append("] ")
+                .append(count == 0 ? pattern : Logger.format(pattern, Arrays.copyOf(args, count)))
+                .append('\n');
+            write(line.toString());
+            written.incrementAndGet();
+            drained++;
+        }
+    }
+
+    private void reportDrops() {
+        long total = dropped.sum();
+        if (total == reportedDropped) {
+            return;
+        }
+
+        long missed = total - reportedDropped;
+        reportedDropped = total;
+        write("[" + LINE_TIME.format(LocalDateTime.now()) + "] [WARNING] Log buffer full, dropped "
+            + missed + " events (" + total + " since startup)\n");
+
+        long now = System.nanoTime();
+        if (now - lastDropWarning >= DROP_WARNING_INTERVAL_NANOS && Bukkit.getServer() != null) {
+            lastDropWarning = now;
+            Bukkit.getLogger().warning("[CrysisShot] Log buffer full, " + total
+                + " log events dropped so far; raise debug.log-buffer-size");
+        }
+    }
+
+    private void write(String line) {
+        if (output == null) {
+            return;
+        }
+
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (fileBytes + bytes.length > maxFileBytes && fileBytes > 0) {
+                rotate();
+            }
+            output.write(bytes);
+            fileBytes += bytes.length;
+        } catch (IOException e) {
+            writeFailed(e);
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeOutput();
+        archive(new File(directory, ACTIVE_FILE));
+        openActiveFile();
+    }
+
+    private void openActiveFile() throws IOException {
+        File active = new File(directory, ACTIVE_FILE);
+        output = new BufferedOutputStream(new FileOutputStream(active, true), 64 * 1024);
+        fileBytes = active.length();
+    }
+
+    /**
+     * Gzip a finished log file next to it and keep only the newest archives
+     */
+    private void archive(File file) throws IOException {
+        String stamp = ARCHIVE_TIME.format(LocalDateTime.now());
+        File target = new File(directory, "crysisshot-" + stamp + ARCHIVE_SUFFIX);
+        for (int suffix = 1; target.exists(); suffix++) {
+            target = new File(directory, "crysisshot-" + stamp + "-" + suffix + ARCHIVE_SUFFIX);
+        }
+
+        try (InputStream in = new FileInputStream(file);
+             OutputStream out = new GZIPOutputStream(new FileOutputStream(target))) {
+            in.transferTo(out);
+        }
+        if (!file.delete()) {
+            throw new IOException("Could not remove rotated log " + file);
+        }
+
+        File[] archives = directory.listFiles((dir, name) -> name.startsWith("crysisshot-") && name.endsWith(ARCHIVE_SUFFIX));
+        if (archives != null && archives.length > maxArchives) {
+            // Names hold a sortable timestamp, so name order (without the extension) is age order
+            Arrays.sort(archives, Comparator.comparing((File archive) ->
+                archive.getName().substring(0, archive.getName().length() - ARCHIVE_SUFFIX.length())));
+            for (int i = 0; i < archives.length - maxArchives; i++) {
+                archives[i].delete();
+            }
+        }
+    }
+
+    private void flushOutput() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.flush();
+        } catch (IOException e) {
+            writeFailed(e);
+        }
+    }
+
+    private void closeOutput() {
+        OutputStream closing = output;
+        output = null;
+        if (closing == null) {
+            return;
+        }
+        try {
+            closing.close();
+        } catch (IOException e) {
+            warnWriteError(e);
+        }
+    }
+
+    /**
+     * Stop writing after an I/O error; queued events keep draining and are discarded
+     */
+    private void writeFailed(IOException e) {
+        warnWriteError(e);
+        closeOutput();
+    }
+
+    private void warnWriteError(IOException e) {
+        // Logger would queue the report back into this sink
+        if (Bukkit.getServer() != null) {
+            Bukkit.getLogger().warning("[CrysisShot] Could not write log file: " + e.getMessage());
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getPendingCount() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.crysisshot.utils;
+
+/**
+ * Debug log categories that can be switched on individually in config.yml (debug.categories)
+ */
+public enum DebugCategory {
+    GAME_EVENTS("game-events"),
+    PLAYER_ACTIONS("player-actions"),
+    DATABASE_OPERATIONS("database-operations");
+
+    private final String key;
+
+    DebugCategory(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Look up a category by its config key, or null if unknown
+     */
+    public static DebugCategory fromKey(String key) {
+        for (DebugCategory category : values()) {
+            if (category.key.equalsIgnoreCase(key)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
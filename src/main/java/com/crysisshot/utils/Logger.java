@@ -1,18 +1,67 @@
 package com.crysisshot.utils;
 
-import com.crysisshot.CrysisShot;
+import com.crysisshot.config.ConfigManager;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
  * Utility class for consistent logging throughout the plugin
+ * Debug calls check a cached flag first, so with debug off the lazy overloads
+ * ({} patterns and suppliers) return before any message is built.
  */
 public class Logger {
     
     private static final String PREFIX = "[CrysisShot] ";
     
+    // Refreshed from config.yml on load and reload
+    private static volatile boolean debugEnabled = false;
+    private static volatile Set<DebugCategory> debugCategories = Collections.unmodifiableSet(EnumSet.allOf(DebugCategory.class));
+    
+    // Log file writer, present while debug.save-logs is on
+    private static volatile AsyncLogSink sink;
+    
+    /**
+     * Cache debug.enabled and debug.categories from the configuration
+     */
+    public static void configure(ConfigManager configManager) {
+        configure(configManager.isDebugMode(), configManager.getDebugCategories());
+    }
+    
+    /**
+     * Set the debug flag and categories; an empty category list enables every category
+     */
+    static void configure(boolean enabled, Collection<String> categoryKeys) {
+        EnumSet<DebugCategory> categories = EnumSet.noneOf(DebugCategory.class);
+        for (String key : categoryKeys) {
+            DebugCategory category = DebugCategory.fromKey(key);
+            if (category != null) {
+                categories.add(category);
+            } else {
+                warning("Unknown debug category in config.yml: " + key);
+            }
+        }
+        if (categoryKeys.isEmpty()) {
+            categories = EnumSet.allOf(DebugCategory.class);
+        }
+        
+        debugCategories = Collections.unmodifiableSet(categories);
+        debugEnabled = enabled;
+    }
+    
+    /**
+     * Route every log line, and game events, to a log file sink (null to stop)
+     */
+    public static void setSink(AsyncLogSink logSink) {
+        sink = logSink;
+    }
+    
     /**
      * Log an info message
      */
@@ -34,25 +83,127 @@ public class Logger {
         log(Level.SEVERE, message);
     }
     
+    public static boolean isDebugEnabled() {
+        return debugEnabled;
+    }
+    
+    public static boolean isDebugEnabled(DebugCategory category) {
+        return debugEnabled && debugCategories.contains(category);
+    }
+    
     /**
      * Log a debug message (only if debug mode is enabled)
      */
     public static void debug(String message) {
-        CrysisShot plugin = CrysisShot.getInstance();
-        if (plugin != null && plugin.getConfigManager() != null && 
-            plugin.getConfigManager().isDebugMode()) {
+        if (debugEnabled) {
             log(Level.INFO, "[DEBUG] " + message);
         }
     }
     
+    /**
+     * Log a debug message built only if debug mode is enabled
+     */
+    public static void debug(Supplier<String> message) {
+        if (debugEnabled) {
+            log(Level.INFO, "[DEBUG] " + message.get());
+        }
+    }
+    
+    /**
+     * Log a debug message in a category
+     */
+    public static void debug(DebugCategory category, String message) {
+        if (isDebugEnabled(category)) {
+            logDebug(category, message);
+        }
+    }
+    
+    /**
+     * Log a debug message in a category, built only if that category is enabled
+     */
+    public static void debug(DebugCategory category, Supplier<String> message) {
+        if (isDebugEnabled(category)) {
+            logDebug(category, message.get());
+        }
+    }
+    
+    /**
+     * Log a debug message in a category, with each {} replaced by the next argument
+     */
+    public static void debug(DebugCategory category, String pattern, Object arg) {
+        if (isDebugEnabled(category)) {
+            logDebug(category, format(pattern, arg));
+        }
+    }
+    
+    public static void debug(DebugCategory category, String pattern, Object arg1, Object arg2) {
+        if (isDebugEnabled(category)) {
+            logDebug(category, format(pattern, arg1, arg2));
+        }
+    }
+    
+    public static void debug(DebugCategory category, String pattern, Object arg1, Object arg2, Object arg3) {
+        if (isDebugEnabled(category)) {
+            logDebug(category, format(pattern, arg1, arg2, arg3));
+        }
+    }
+    
+    /**
+     * Varargs form; the argument array is allocated even when debug is off, so hot paths should
+     * use the fixed-arity overloads or check isDebugEnabled first
+     */
+    public static void debug(DebugCategory category, String pattern, Object... args) {
+        if (isDebugEnabled(category)) {
+            logDebug(category, format(pattern, args));
+        }
+    }
+    
+    /**
+     * Log a gameplay event such as a kill to the log file only, never the console
+     * The arguments are formatted on the log writer thread, so pass values that do not change.
+     * Without a log file the event is a game-events debug message.
+     */
+    public static void event(String pattern, Object... args) {
+        AsyncLogSink logSink = sink;
+        if (logSink != null) {
+            logSink.offer(Level.INFO, pattern, args);
+        } else if (isDebugEnabled(DebugCategory.GAME_EVENTS)) {
+            logDebug(DebugCategory.GAME_EVENTS, format(pattern, args));
+        }
+    }
+    
+    /**
+     * Replace each {} in the pattern with the next argument; extra placeholders stay as {}
+     */
+    static String format(String pattern, Object... args) {
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * args.length);
+        int argument = 0;
+        int start = 0;
+        int placeholder;
+        while (argument < args.length && (placeholder = pattern.indexOf("{}", start)) >= 0) {
+            builder.append(pattern, start, placeholder).append(args[argument++]);
+            start = placeholder + 2;
+        }
+        return builder.append(pattern, start, pattern.length()).toString();
+    }
+    
+    private static void logDebug(DebugCategory category, String message) {
+        log(Level.INFO, "[DEBUG/" + category.getKey() + "] " + message);
+    }
+    
     /**
      * Log a message with specified level
      */
     private static void log(Level level, String message) {
-        if (Bukkit.getLogger() != null) {
+        AsyncLogSink logSink = sink;
+        if (logSink != null) {
+            logSink.offer(level, message);
+        }
+        
+        if (Bukkit.getServer() != null && Bukkit.getLogger() != null) {
             Bukkit.getLogger().log(level, PREFIX + message);
         } else {
-            // Fallback for early initialization
+            // Fallback for early initialization and unit tests
             System.out.println(PREFIX + level.getName() + ": " + message);
         }
     }
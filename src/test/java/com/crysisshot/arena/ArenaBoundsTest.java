@@ -0,0 +1,64 @@
+package com.crysisshot.arena;
+
+import org.bukkit.Location;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArenaBounds normalization and containment.
+ */
+class ArenaBoundsTest {
+
+    @Test
+    void of_shouldNormalizeCornersInAnyOrder() {
+        ArenaBounds bounds = ArenaBounds.of("arena", new Location(null, 10.7, 80.2, -5.5), new Location(null, -20.3, 60.0, 15.9));
+
+        assertEquals(-21, bounds.getMinX());
+        assertEquals(60, bounds.getMinY());
+        assertEquals(-6, bounds.getMinZ());
+        assertEquals(10, bounds.getMaxX());
+        assertEquals(80, bounds.getMaxY());
+        assertEquals(15, bounds.getMaxZ());
+    }
+
+    @Test
+    void contains_shouldIncludeBothCornerBlocks() {
+        ArenaBounds bounds = ArenaBounds.of("arena", new Location(null, 5.9, 64, 5.9), new Location(null, 0.1, 70, 0.1));
+
+        assertTrue(bounds.contains(0, 64, 0));
+        assertTrue(bounds.contains(5, 70, 5));
+        assertFalse(bounds.contains(6, 64, 0));
+        assertFalse(bounds.contains(-1, 64, 0));
+        assertFalse(bounds.contains(0, 71, 0));
+        assertFalse(bounds.contains(0, 64, 6));
+        assertTrue(bounds.isBelow(63));
+        assertFalse(bounds.isBelow(64));
+    }
+
+    @Test
+    void distanceSquared_shouldMeasureToTheNearestInsideBlock() {
+        ArenaBounds bounds = ArenaBounds.of("arena", new Location(null, 0, 64, 0), new Location(null, 10, 70, 10));
+
+        assertEquals(0, bounds.distanceSquared(5, 66, 5));
+        assertEquals(0, bounds.distanceSquared(10, 70, 0));
+        assertEquals(9, bounds.distanceSquared(13, 66, 5));
+        assertEquals(4 + 1, bounds.distanceSquared(-2, 71, 5));
+        assertTrue(bounds.distanceSquared(12, 66, 5) < bounds.distanceSquared(13, 66, 5));
+    }
+
+    @Test
+    void of_shouldFallBackToBuildLimitsWithoutBoundaries() {
+        Arena arena = new Arena("Open");
+        arena.setBoundaryMin(new Location(null, 0, 0, 0));
+
+        ArenaBounds bounds = ArenaBounds.of(arena);
+
+        assertSame(ArenaBounds.UNBOUNDED, bounds);
+        assertSame(ArenaBounds.UNBOUNDED, ArenaBounds.of((Arena) null));
+        assertTrue(bounds.contains(1_000_000, 100, -1_000_000));
+        assertFalse(bounds.contains(0, 301, 0));
+        assertTrue(bounds.isBelow(-51));
+        assertTrue(bounds.appliesTo(null));
+    }
+}
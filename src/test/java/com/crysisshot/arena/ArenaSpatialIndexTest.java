@@ -0,0 +1,91 @@
+package com.crysisshot.arena;
+
+import org.bukkit.Location;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArenaSpatialIndex lookups and incremental updates.
+ */
+class ArenaSpatialIndexTest {
+
+    private static Arena arena(String name, String world, double x1, double y1, double z1, double x2, double y2, double z2) {
+        Arena arena = new Arena(name);
+        arena.setWorldName(world);
+        arena.setBoundaryMin(new Location(null, x1, y1, z1));
+        arena.setBoundaryMax(new Location(null, x2, y2, z2));
+        return arena;
+    }
+
+    @Test
+    void getArenaAt_shouldResolveAcrossChunkEdgesAndWorlds() {
+        ArenaSpatialIndex index = new ArenaSpatialIndex();
+        Arena desert = arena("Desert", "world", -20, 60, -20, 20, 90, 20);
+        Arena temple = arena("Temple", "world", 100, 60, 100, 130, 90, 130);
+        Arena nether = arena("Nether", "world_nether", -20, 60, -20, 20, 90, 20);
+        index.put(desert);
+        index.put(temple);
+        index.put(nether);
+
+        assertSame(desert, index.getArenaAt("world", -20, 60, -20));
+        assertSame(desert, index.getArenaAt("world", 20, 90, 20));
+        assertSame(desert, index.getArenaAt("world", 0, 70, 15));
+        assertSame(temple, index.getArenaAt("world", 115, 75, 128));
+        assertSame(nether, index.getArenaAt("world_nether", 0, 70, 0));
+        assertNull(index.getArenaAt("world", 21, 70, 0));
+        assertNull(index.getArenaAt("world", 0, 91, 0));
+        assertNull(index.getArenaAt("world", 60, 70, 60));
+        assertNull(index.getArenaAt("world_the_end", 0, 70, 0));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void put_shouldMoveAnArenaWhenItsBoundsChange() {
+        ArenaSpatialIndex index = new ArenaSpatialIndex();
+        Arena arena = arena("Urban", "world", 0, 60, 0, 31, 90, 31);
+        index.put(arena);
+        int chunksBefore = index.getIndexedChunkCount();
+
+        arena.setBoundaryMin(new Location(null, 500, 60, 500));
+        arena.setBoundaryMax(new Location(null, 520, 90, 520));
+        index.put(arena);
+
+        assertEquals(4, chunksBefore);
+        assertNull(index.getArenaAt("world", 10, 70, 10));
+        assertSame(arena, index.getArenaAt("world", 510, 70, 510));
+        assertEquals(1, index.size());
+        assertEquals(4, index.getIndexedChunkCount()); // 500..520 spans chunks 31 and 32 on both axes
+    }
+
+    @Test
+    void remove_shouldDropEmptyCellsAndIgnoreUnboundedArenas() {
+        ArenaSpatialIndex index = new ArenaSpatialIndex();
+        index.put(arena("Classic", "world", 0, 60, 0, 15, 90, 15));
+        index.put(new Arena("Unfinished"));
+
+        assertEquals(1, index.size());
+        assertNull(index.getBounds("Unfinished"));
+
+        index.remove("Classic");
+        assertNull(index.getArenaAt("world", 5, 70, 5));
+        assertEquals(0, index.getIndexedChunkCount());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void oversizedArenas_shouldStillResolveWithoutFloodingTheIndex() {
+        ArenaSpatialIndex index = new ArenaSpatialIndex();
+        Arena huge = arena("Huge", "world", -5000, 0, -5000, 5000, 255, 5000);
+        Arena inside = arena("Inside", "world", 0, 60, 0, 10, 90, 10);
+        index.put(huge);
+        index.put(inside);
+
+        assertEquals(1, index.getIndexedChunkCount());
+        assertSame(inside, index.getArenaAt("world", 5, 70, 5));
+        assertSame(huge, index.getArenaAt("world", 4000, 70, -4000));
+
+        index.remove("Huge");
+        assertNull(index.getArenaAt("world", 4000, 70, -4000));
+    }
+}
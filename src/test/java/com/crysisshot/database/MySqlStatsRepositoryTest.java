@@ -0,0 +1,143 @@
+package com.crysisshot.database;
+
+import com.crysisshot.models.PlayerStats;
+import com.crysisshot.ranking.Rank;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MySqlStatsRepository.
+ * These tests run the MySQL dialect against an in-memory H2 database in MySQL mode.
+ */
+class MySqlStatsRepositoryTest {
+
+    private JdbcDataSource dataSource;
+    private MySqlStatsRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:stats;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+        // Start every test from an empty table
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS crysis_players");
+        }
+
+        repository = new MySqlStatsRepository(dataSource);
+        repository.createTables();
+    }
+
+    @Test
+    void load_shouldReturnNull_whenPlayerMissing() throws Exception {
+        assertNull(repository.load(UUID.randomUUID()));
+    }
+
+    @Test
+    void save_shouldRoundTripAllColumns() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerStats stats = new PlayerStats(playerId, "Archer");
+        stats.setTotalKills(12);
+        stats.setBowKills(9);
+        stats.setMeleeKills(3);
+        stats.setTotalDamageDealt(42.5);
+        stats.setTotalPlaytime(3600L);
+        stats.setCurrentRank(Rank.LETAL);
+
+        repository.save(stats);
+        PlayerStats loaded = repository.load(playerId);
+
+        assertNotNull(loaded);
+        assertEquals("Archer", loaded.getPlayerName());
+        assertEquals(12, loaded.getTotalKills());
+        assertEquals(9, loaded.getBowKills());
+        assertEquals(3, loaded.getMeleeKills());
+        assertEquals(42.5, loaded.getTotalDamageDealt(), 0.001);
+        assertEquals(3600L, loaded.getTotalPlaytime());
+        assertEquals(Rank.LETAL, loaded.getCurrentRank());
+    }
+
+    @Test
+    void save_shouldUpdateExistingRow_andKeepFirstJoin() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerStats stats = new PlayerStats(playerId, "Archer");
+        stats.setFirstJoin(Timestamp.valueOf("2024-01-01 12:00:00"));
+        repository.save(stats);
+
+        stats.setTotalKills(5);
+        stats.setFirstJoin(Timestamp.valueOf("2025-06-01 12:00:00"));
+        repository.save(stats);
+
+        PlayerStats loaded = repository.load(playerId);
+        assertEquals(5, loaded.getTotalKills());
+        assertEquals(Timestamp.valueOf("2024-01-01 12:00:00"), loaded.getFirstJoin());
+    }
+
+    @Test
+    void applyDeltas_shouldCreateMissingRow() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerStats before = new PlayerStats(playerId, "Newbie");
+        PlayerStats after = new PlayerStats(before);
+        after.incrementKills();
+        after.incrementBowKills();
+
+        repository.applyDeltas(Map.of(playerId, StatDelta.between(before, after)));
+
+        PlayerStats loaded = repository.load(playerId);
+        assertNotNull(loaded);
+        assertEquals("Newbie", loaded.getPlayerName());
+        assertEquals(1, loaded.getTotalKills());
+        assertEquals(1, loaded.getBowKills());
+    }
+
+    @Test
+    void applyDeltas_shouldAddToStoredCounters() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerStats stored = new PlayerStats(playerId, "Archer");
+        stored.setTotalKills(10);
+        stored.setLongestKillStreak(4);
+        repository.save(stored);
+
+        // Two servers each report their own kills against the same row
+        PlayerStats base = new PlayerStats(playerId, "Archer");
+        PlayerStats serverA = new PlayerStats(base);
+        serverA.setTotalKills(3);
+        serverA.setLongestKillStreak(3);
+        PlayerStats serverB = new PlayerStats(base);
+        serverB.setTotalKills(2);
+        serverB.setLongestKillStreak(6);
+
+        repository.applyDeltas(Map.of(playerId, StatDelta.between(base, serverA)));
+        repository.applyDeltas(Map.of(playerId, StatDelta.between(base, serverB)));
+
+        PlayerStats loaded = repository.load(playerId);
+        assertEquals(15, loaded.getTotalKills());
+        assertEquals(6, loaded.getLongestKillStreak());
+    }
+
+    @Test
+    void getTopPlayers_shouldOrderByColumnDescending() throws Exception {
+        for (int kills : new int[] {5, 20, 10}) {
+            PlayerStats stats = new PlayerStats(UUID.randomUUID(), "P" + kills);
+            stats.setTotalKills(kills);
+            repository.save(stats);
+        }
+
+        List<PlayerStats> top = repository.getTopPlayers("total_kills", 2);
+
+        assertEquals(2, top.size());
+        assertEquals(20, top.get(0).getTotalKills());
+        assertEquals(10, top.get(1).getTotalKills());
+    }
+}
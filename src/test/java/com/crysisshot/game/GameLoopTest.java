@@ -0,0 +1,112 @@
+package com.crysisshot.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameLoop staggering, phase order and budgeting.
+ */
+class GameLoopTest {
+
+    private static GameLoop loop(long budgetMillis) {
+        return new GameLoop(null, null, TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+    }
+
+    @Test
+    void schedule_shouldSpreadJobsOfAPhaseOverTheirPeriod() {
+        GameLoop loop = loop(10);
+        int[] runsPerTick = new int[41];
+        int[] runsPerJob = new int[20];
+        int[] tick = new int[1];
+        for (int i = 0; i < 20; i++) {
+            int job = i;
+            loop.schedule(GameLoop.Phase.MATCH, "session-" + i, 20, () -> {
+                runsPerTick[tick[0]]++;
+                runsPerJob[job]++;
+            });
+        }
+
+        for (tick[0] = 1; tick[0] <= 40; tick[0]++) {
+            loop.tick();
+        }
+
+        for (int t = 1; t <= 40; t++) {
+            assertEquals(1, runsPerTick[t], "tick " + t);
+        }
+        for (int runs : runsPerJob) {
+            assertEquals(2, runs);
+        }
+    }
+
+    @Test
+    void tick_shouldRunPhasesInOrder() {
+        GameLoop loop = loop(10);
+        List<String> order = new ArrayList<>();
+        loop.schedule(GameLoop.Phase.HOUSEKEEPING, "housekeeping", 1, () -> order.add("housekeeping"));
+        loop.schedule(GameLoop.Phase.EFFECTS, "effects", 1, () -> order.add("effects"));
+        loop.schedule(GameLoop.Phase.MATCH, "match", 1, () -> order.add("match"));
+
+        loop.tick();
+
+        assertEquals(List.of("match", "effects", "housekeeping"), order);
+    }
+
+    @Test
+    void overBudgetPhase_shouldDeferRemainingJobsToTheNextTick() {
+        GameLoop loop = loop(0); // Every phase is over budget after its first job
+        List<String> ran = new ArrayList<>();
+        for (String name : new String[] {"a", "b", "c"}) {
+            loop.schedule(GameLoop.Phase.MATCH, name, 1, () -> ran.add(name));
+        }
+
+        loop.tick();
+        assertEquals(List.of("a"), ran);
+        loop.tick();
+        assertEquals(List.of("a", "b"), ran);
+        loop.tick();
+        assertEquals(List.of("a", "b", "c"), ran);
+        loop.tick();
+        assertEquals(List.of("a", "b", "c", "a"), ran);
+        assertTrue(loop.getDeferredRuns() > 0);
+    }
+
+    @Test
+    void cancel_shouldStopAJobFromInsideItself() {
+        GameLoop loop = loop(10);
+        int[] runs = new int[1];
+        GameLoop.Job[] job = new GameLoop.Job[1];
+        job[0] = loop.schedule(GameLoop.Phase.MATCH, "self-cancelling", 1, () -> {
+            if (++runs[0] == 3) {
+                job[0].cancel();
+            }
+        });
+
+        for (int i = 0; i < 10; i++) {
+            loop.tick();
+        }
+
+        assertEquals(3, runs[0]);
+        assertTrue(job[0].isCancelled());
+        assertEquals(0, loop.getJobCount());
+    }
+
+    @Test
+    void failingJob_shouldNotStopTheOthers() {
+        GameLoop loop = loop(1000); // Printing the stack trace must not push the other job past the budget
+        int[] runs = new int[1];
+        loop.schedule(GameLoop.Phase.MATCH, "broken", 1, () -> {
+            throw new IllegalStateException("boom");
+        });
+        loop.schedule(GameLoop.Phase.MATCH, "healthy", 1, () -> runs[0]++);
+
+        loop.tick();
+        loop.tick();
+
+        assertEquals(2, runs[0]);
+    }
+}
@@ -0,0 +1,96 @@
+package com.crysisshot.game;
+
+import com.crysisshot.CrysisShot;
+import com.crysisshot.config.ConfigManager;
+import com.crysisshot.localization.MessageManager;
+import com.crysisshot.models.GamePlayer;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameManager's player bindings.
+ * The plugin, game loop and session are mocks, so no server is needed.
+ */
+class GameManagerTest {
+
+    private GameManager gameManager;
+    private GameSession session;
+    private Player player;
+    private Location joinLocation;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CrysisShot plugin = mock(CrysisShot.class);
+        when(plugin.getGameLoop()).thenReturn(mock(GameLoop.class));
+        when(plugin.getConfigManager()).thenReturn(mock(ConfigManager.class));
+        when(plugin.getMessageManager()).thenReturn(mock(MessageManager.class));
+        gameManager = new GameManager(plugin);
+
+        UUID playerId = UUID.randomUUID();
+        joinLocation = new Location(null, 10, 64, 10);
+        PlayerInventory inventory = mock(PlayerInventory.class);
+        when(inventory.getContents()).thenReturn(new ItemStack[0]);
+        when(inventory.getArmorContents()).thenReturn(new ItemStack[4]);
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getName()).thenReturn("Player");
+        when(player.getLocation()).thenReturn(joinLocation);
+        when(player.getInventory()).thenReturn(inventory);
+        when(player.isOnline()).thenReturn(true);
+
+        GamePlayer gamePlayer = mock(GamePlayer.class);
+        when(gamePlayer.getPlayerId()).thenReturn(playerId);
+        when(gamePlayer.getBukkitPlayer()).thenReturn(player);
+
+        session = mock(GameSession.class);
+        when(session.getSessionId()).thenReturn("session");
+        when(session.addPlayer(player)).thenReturn(true);
+        when(session.getPlayers()).thenReturn(Map.of(playerId, gamePlayer));
+
+        // Register the mocked session the way createSession would
+        Field sessionsField = GameManager.class.getDeclaredField("sessions");
+        sessionsField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<String, GameSession> sessions = (Map<String, GameSession>) sessionsField.get(gameManager);
+        sessions.put("session", session);
+    }
+
+    @Test
+    void addPlayerToGame_shouldBindPlayerToSession() {
+        assertTrue(gameManager.addPlayerToGame(player, "session"));
+
+        assertTrue(gameManager.isPlayerInGame(player));
+        assertSame(session, gameManager.getSessionOf(player));
+    }
+
+    @Test
+    void releaseSessionPlayers_shouldTakePlayersOutOfTheGame_whenSessionResets() {
+        gameManager.addPlayerToGame(player, "session");
+
+        gameManager.releaseSessionPlayers(session);
+
+        assertFalse(gameManager.isPlayerInGame(player));
+        assertNull(gameManager.getSessionOf(player));
+        assertNull(gameManager.getGamePlayer(player));
+        verify(player).teleport(joinLocation); // State from before the join was restored
+    }
+
+    @Test
+    void releaseSessionPlayers_shouldLetPlayersJoinAgain() {
+        gameManager.addPlayerToGame(player, "session");
+        gameManager.releaseSessionPlayers(session);
+
+        assertTrue(gameManager.addPlayerToGame(player, "session"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.crysisshot.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SessionLeaderboard ordering and change tracking.
+ */
+class SessionLeaderboardTest {
+
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+    private static final UUID CAROL = UUID.randomUUID();
+
+    private static List<String> names(List<SessionLeaderboard.Entry> entries) {
+        return entries.stream().map(SessionLeaderboard.Entry::getPlayerName).collect(Collectors.toList());
+    }
+
+    @Test
+    void update_shouldKeepPlayersSortedByScore() {
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        leaderboard.update(ALICE, "Alice", 0);
+        leaderboard.update(BOB, "Bob", 0);
+        leaderboard.update(CAROL, "Carol", 0);
+
+        leaderboard.update(CAROL, "Carol", 2);
+        leaderboard.update(BOB, "Bob", 1);
+        assertEquals(List.of("Carol", "Bob", "Alice"), names(leaderboard.top(10)));
+
+        leaderboard.update(ALICE, "Alice", 3);
+        assertEquals(List.of("Alice", "Carol"), names(leaderboard.top(2)));
+        assertEquals("Alice", leaderboard.getLeader().getPlayerName());
+        assertEquals("Carol", leaderboard.getRunnerUp().getPlayerName());
+        assertEquals(3, leaderboard.size());
+    }
+
+    @Test
+    void equalScores_shouldRankWhoeverGotThereFirst() {
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        leaderboard.update(ALICE, "Alice", 5);
+        leaderboard.update(BOB, "Bob", 5);
+
+        assertEquals(List.of("Alice", "Bob"), names(leaderboard.top(2)));
+
+        leaderboard.update(BOB, "Bob", 6);
+        leaderboard.update(ALICE, "Alice", 6);
+        assertEquals(List.of("Bob", "Alice"), names(leaderboard.top(2)));
+    }
+
+    @Test
+    void version_shouldOnlyMoveWhenTheStandingsChange() {
+        SessionLeaderboard leaderboard = new SessionLeaderboard();
+        leaderboard.update(ALICE, "Alice", 1);
+        long version = leaderboard.getVersion();
+
+        leaderboard.update(ALICE, "Alice", 1);
+        leaderboard.remove(BOB);
+        assertEquals(version, leaderboard.getVersion());
+
+        leaderboard.remove(ALICE);
+        assertTrue(leaderboard.getVersion() > version);
+        assertNull(leaderboard.getLeader());
+        assertNull(leaderboard.getRunnerUp());
+        assertTrue(leaderboard.top(5).isEmpty());
+    }
+}
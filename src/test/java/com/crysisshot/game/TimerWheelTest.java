@@ -0,0 +1,103 @@
+package com.crysisshot.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimerWheel deadlines and cancellation.
+ */
+class TimerWheelTest {
+
+    private static void advance(TimerWheel wheel, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.advance();
+        }
+    }
+
+    @Test
+    void schedule_shouldFireOnTheExactTick() {
+        TimerWheel wheel = new TimerWheel(8);
+        long[] firedAt = new long[3];
+        wheel.schedule(1, () -> firedAt[0] = wheel.getCurrentTick());
+        wheel.schedule(5, () -> firedAt[1] = wheel.getCurrentTick());
+        wheel.schedule(8, () -> firedAt[2] = wheel.getCurrentTick());
+
+        advance(wheel, 10);
+
+        assertArrayEquals(new long[] {1, 5, 8}, firedAt);
+        assertEquals(0, wheel.getPendingCount());
+        assertEquals(3, wheel.getExpiredCount());
+    }
+
+    @Test
+    void schedule_shouldWaitOutDelaysLongerThanTheWheel() {
+        TimerWheel wheel = new TimerWheel(8);
+        long[] firedAt = new long[1];
+        TimerWheel.Timeout timeout = wheel.schedule(21, () -> firedAt[0] = wheel.getCurrentTick());
+
+        advance(wheel, 20);
+        assertTrue(timeout.isPending());
+        assertEquals(1, timeout.getRemainingTicks());
+
+        wheel.advance();
+        assertEquals(21, firedAt[0]);
+        assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    void cancel_shouldStopTheTaskAndKeepSlotNeighbours() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(3, () -> fired.add("a"));
+        TimerWheel.Timeout b = wheel.schedule(3, () -> fired.add("b"));
+        wheel.schedule(11, () -> fired.add("c")); // Same slot, next turn
+        wheel.schedule(3, () -> fired.add("d"));
+
+        b.cancel();
+        b.cancel();
+        assertEquals(3, wheel.getPendingCount());
+
+        advance(wheel, 3);
+        assertEquals(List.of("a", "d"), fired);
+        advance(wheel, 8);
+        assertEquals(List.of("a", "d", "c"), fired);
+        assertTrue(b.isCancelled());
+    }
+
+    @Test
+    void tasks_shouldBeAbleToCancelAndScheduleTimeoutsWhileFiring() {
+        TimerWheel wheel = new TimerWheel(8);
+        List<String> fired = new ArrayList<>();
+        TimerWheel.Timeout[] later = new TimerWheel.Timeout[1];
+        wheel.schedule(2, () -> {
+            fired.add("first");
+            later[0].cancel(); // Due on the same tick, must still be skipped
+            wheel.schedule(2, () -> fired.add("rescheduled"));
+        });
+        later[0] = wheel.schedule(2, () -> fired.add("second"));
+
+        advance(wheel, 4);
+
+        assertEquals(List.of("first", "rescheduled"), fired);
+        assertTrue(later[0].isCancelled());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void failingTask_shouldNotStopTheOthers() {
+        TimerWheel wheel = new TimerWheel(8);
+        int[] runs = new int[1];
+        wheel.schedule(1, () -> {
+            throw new IllegalStateException("boom");
+        });
+        wheel.schedule(1, () -> runs[0]++);
+
+        wheel.advance();
+
+        assertEquals(1, runs[0]);
+    }
+}
@@ -0,0 +1,115 @@
+package com.crysisshot.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for writing match journals and streaming them back.
+ */
+class MatchJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void journal_shouldRoundTripThroughReader() throws IOException {
+        JournalManager manager = new JournalManager(true, tempDir.toFile(), 16, 10);
+        MatchJournal journal = manager.open("match_1", "Desert", 0);
+        UUID playerId = UUID.randomUUID();
+
+        // More records than one buffer holds, so several buffers are queued
+        journal.appendPlayer(0, 0, playerId);
+        for (int tick = 1; tick <= 100; tick++) {
+            journal.append(tick, JournalEventType.SHOT, 0, JournalRecord.NO_PLAYER, 0,
+                tick, 64.5, -tick, 0.25, 0, 3);
+        }
+        journal.append(101, JournalEventType.KILL, 0, 1, 2, 1, 2, 3, 4, 5, 6);
+        journal.close();
+        manager.shutdown();
+
+        assertEquals(102, manager.getWrittenRecords());
+        assertEquals(0, manager.getDroppedRecords());
+        assertEquals(0, manager.getOpenJournals());
+
+        try (JournalReader reader = new JournalReader(journal.getFile())) {
+            assertEquals("match_1", reader.getSessionId());
+            assertEquals("Desert", reader.getArenaName());
+            assertTrue(reader.getStartTime() > 0);
+
+            List<JournalRecord> records = new ArrayList<>();
+            reader.forEach(records::add);
+            assertEquals(102, records.size());
+
+            JournalRecord player = records.get(0);
+            assertEquals(JournalEventType.PLAYER, player.getType());
+            assertEquals(playerId, player.getPlayerId());
+
+            JournalRecord shot = records.get(50);
+            assertEquals(JournalEventType.SHOT, shot.getType());
+            assertEquals(50, shot.getTick());
+            assertFalse(shot.hasTarget());
+            assertEquals(50f, shot.getX());
+            assertEquals(64.5f, shot.getY());
+            assertEquals(3f, shot.getVectorZ());
+
+            JournalRecord kill = records.get(101);
+            assertEquals(JournalEventType.KILL, kill.getType());
+            assertEquals(1, kill.getTarget());
+            assertEquals(2, kill.getDetail());
+            assertEquals(6f, kill.getVectorZ());
+        }
+    }
+
+    @Test
+    void reader_shouldStopAtTruncatedRecord() throws IOException {
+        JournalManager manager = new JournalManager(true, tempDir.toFile(), 16, 10);
+        MatchJournal journal = manager.open("match_2", "Forest", 0);
+        journal.append(1, JournalEventType.RESPAWN, 0, JournalRecord.NO_PLAYER, 0, 1, 2, 3, 0, 0, 0);
+        journal.append(2, JournalEventType.RESPAWN, 0, JournalRecord.NO_PLAYER, 0, 1, 2, 3, 0, 0, 0);
+        journal.close();
+        manager.shutdown();
+
+        // Simulate a crash in the middle of the second record
+        try (RandomAccessFile file = new RandomAccessFile(journal.getFile().toFile(), "rw")) {
+            file.setLength(file.length() - 10);
+        }
+
+        try (JournalReader reader = new JournalReader(journal.getFile())) {
+            JournalRecord first = reader.next();
+            assertNotNull(first);
+            assertEquals(1, first.getTick());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void reader_shouldRejectOtherFiles() throws IOException {
+        Path file = tempDir.resolve("not-a-journal.csj");
+        Files.writeString(file, "hello world, not a journal");
+
+        assertThrows(IOException.class, () -> new JournalReader(file));
+    }
+
+    @Test
+    void disabledJournal_shouldIgnoreEverything() {
+        JournalManager manager = new JournalManager(false, tempDir.toFile(), 16, 10);
+        MatchJournal journal = manager.open("match_3", "Desert");
+
+        assertSame(MatchJournal.DISABLED, journal);
+        assertFalse(journal.isEnabled());
+        journal.flush();
+        journal.close();
+        manager.shutdown();
+        assertEquals(0, manager.getWrittenRecords());
+    }
+}
@@ -0,0 +1,65 @@
+package com.crysisshot.localization;
+
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageTemplate.
+ * Rendered output is compared against the previous replace-then-parse behaviour.
+ */
+class MessageTemplateTest {
+
+    private final MiniMessage miniMessage = MiniMessage.miniMessage();
+
+    @Test
+    void render_shouldReturnSkeleton_whenTemplateHasNoSlots() {
+        MessageTemplate template = MessageTemplate.compile("<green>You joined the game queue!", miniMessage);
+
+        assertFalse(template.hasSlots());
+        assertSame(template.render(), template.render("unused", "value"));
+        assertEquals("&aYou joined the game queue!", template.render());
+    }
+
+    @Test
+    void render_shouldFillSlots_likeReplaceThenParse() {
+        String source = "<gold>{winner}</gold> <yellow>wins with</yellow> <green>{score}</green> <yellow>points!";
+        MessageTemplate template = MessageTemplate.compile(source, miniMessage);
+
+        String expected = miniMessageLegacy(source.replace("{winner}", "Steve").replace("{score}", "20"));
+        assertEquals(expected, template.render("winner", "Steve", "score", "20"));
+    }
+
+    @Test
+    void render_shouldKeepUnsuppliedSlotsLiteral() {
+        MessageTemplate template = MessageTemplate.compile("<yellow>{killer} <gray>killed {victim}", miniMessage);
+
+        String rendered = template.render("killer", "Alex");
+
+        assertTrue(rendered.contains("Alex"));
+        assertTrue(rendered.contains("{victim}"));
+    }
+
+    @Test
+    void render_shouldAcceptBracedKeys() {
+        MessageTemplate template = MessageTemplate.compile("{player} is on a {streak} streak", miniMessage);
+
+        assertEquals("Alex is on a 5 streak", template.render("{player}", "Alex", "{streak}", "5"));
+    }
+
+    @Test
+    void renderComponent_shouldFillSlots() {
+        MessageTemplate template = MessageTemplate.compile("<yellow>Respawning in <gold>{seconds}</gold> seconds...", miniMessage);
+
+        String plain = PlainTextComponentSerializer.plainText().serialize(template.renderComponent("seconds", "3"));
+
+        assertEquals("Respawning in 3 seconds...", plain);
+    }
+
+    private String miniMessageLegacy(String source) {
+        return LegacyComponentSerializer.legacyAmpersand().serialize(miniMessage.deserialize(source));
+    }
+}
@@ -0,0 +1,131 @@
+package com.crysisshot.ranking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RankingManager.
+ * These tests feed bow kill values directly without a database.
+ */
+class RankingManagerTest {
+
+    private RankingManager rankingManager;
+
+    @BeforeEach
+    void setUp() {
+        rankingManager = new RankingManager();
+    }
+
+    @Test
+    void getPosition_shouldReturnMinusOne_whenPlayerUnknown() {
+        assertEquals(-1, rankingManager.getPosition(UUID.randomUUID()));
+        assertEquals(-1, rankingManager.getTopPercent(UUID.randomUUID()));
+    }
+
+    @Test
+    void getPosition_shouldRankByBowKillsDescending() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        rankingManager.update(second, "Second", 10);
+        rankingManager.update(third, "Third", 2);
+        rankingManager.update(first, "First", 40);
+
+        assertEquals(1, rankingManager.getPosition(first));
+        assertEquals(2, rankingManager.getPosition(second));
+        assertEquals(3, rankingManager.getPosition(third));
+        assertEquals(3, rankingManager.getTotalPlayers());
+    }
+
+    @Test
+    void getPosition_shouldShareCompetitionRank_whenTied() {
+        UUID leader = UUID.randomUUID();
+        UUID tiedA = UUID.randomUUID();
+        UUID tiedB = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        rankingManager.update(leader, "Leader", 30);
+        rankingManager.update(tiedA, "TiedA", 20);
+        rankingManager.update(tiedB, "TiedB", 20);
+        rankingManager.update(last, "Last", 5);
+
+        assertEquals(2, rankingManager.getPosition(tiedA));
+        assertEquals(2, rankingManager.getPosition(tiedB));
+        assertEquals(4, rankingManager.getPosition(last));
+    }
+
+    @Test
+    void update_shouldMovePlayer_whenValueChanges() {
+        UUID climber = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        rankingManager.update(climber, "Climber", 1);
+        rankingManager.update(other, "Other", 5);
+        assertEquals(2, rankingManager.getPosition(climber));
+
+        rankingManager.update(climber, "Climber", 6);
+
+        assertEquals(1, rankingManager.getPosition(climber));
+        assertEquals(2, rankingManager.getPosition(other));
+        assertEquals(2, rankingManager.getTotalPlayers());
+    }
+
+    @Test
+    void update_shouldGrowBeyondInitialCapacity() {
+        UUID veteran = UUID.randomUUID();
+        UUID rookie = UUID.randomUUID();
+        rankingManager.update(rookie, "Rookie", 3);
+        rankingManager.update(veteran, "Veteran", 50_000);
+
+        assertEquals(1, rankingManager.getPosition(veteran));
+        assertEquals(2, rankingManager.getPosition(rookie));
+    }
+
+    @Test
+    void getTopPercent_shouldReflectPosition() {
+        UUID best = UUID.randomUUID();
+        rankingManager.update(best, "Best", 100);
+        for (int i = 0; i < 19; i++) {
+            rankingManager.update(UUID.randomUUID(), "P" + i, i);
+        }
+
+        assertEquals(5.0, rankingManager.getTopPercent(best), 0.001);
+    }
+
+    @Test
+    void neighbours_shouldReturnNearestPlayersFirst() {
+        UUID me = UUID.randomUUID();
+        rankingManager.update(me, "Me", 10);
+        rankingManager.update(UUID.randomUUID(), "Far", 50);
+        rankingManager.update(UUID.randomUUID(), "Near", 12);
+        rankingManager.update(UUID.randomUUID(), "Just", 9);
+        rankingManager.update(UUID.randomUUID(), "Low", 1);
+
+        List<LeaderboardEntry> above = rankingManager.getPlayersAbove(me, 1);
+        List<LeaderboardEntry> below = rankingManager.getPlayersBelow(me, 5);
+
+        assertEquals(1, above.size());
+        assertEquals("Near", above.get(0).getPlayerName());
+        assertEquals(2, below.size());
+        assertEquals("Just", below.get(0).getPlayerName());
+        assertEquals("Low", below.get(1).getPlayerName());
+    }
+
+    @Test
+    void update_shouldRankHugeValuesWithoutGrowingForever() {
+        UUID huge = UUID.randomUUID();
+        UUID alsoHuge = UUID.randomUUID();
+        UUID normal = UUID.randomUUID();
+        rankingManager.update(normal, "Normal", 100);
+        rankingManager.update(huge, "Huge", Integer.MAX_VALUE);
+        rankingManager.update(alsoHuge, "AlsoHuge", Integer.MAX_VALUE - 1);
+
+        assertEquals(1, rankingManager.getPosition(huge));
+        assertEquals(1, rankingManager.getPosition(alsoHuge)); // Past the tracked range, so tied
+        assertEquals(3, rankingManager.getPosition(normal));
+        assertEquals(Integer.MAX_VALUE, rankingManager.getBowKills(huge));
+    }
+}
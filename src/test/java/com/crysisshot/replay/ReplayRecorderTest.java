@@ -0,0 +1,121 @@
+package com.crysisshot.replay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for replay encoding, chunking and streaming playback.
+ */
+class ReplayRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ReplayManager manager() {
+        // 1 KB chunks every 20 ticks, so a short recording spans several chunks
+        return new ReplayManager(null, true, tempDir.toFile(), 1, 1024, 20, 10);
+    }
+
+    @Test
+    void recording_shouldRoundTripThroughReader() throws IOException {
+        ReplayManager manager = manager();
+        ReplayRecorder recorder = manager.open(null, "match_1", "Desert", "world", 0);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        for (int tick = 1; tick <= 100; tick++) {
+            recorder.beginFrame(tick);
+            recorder.recordPlayer(alice, "Alice", tick * 0.1, 64, -tick * 0.05, tick * 3f, -10f,
+                tick < 40 ? "BOW" : "IRON_SWORD");
+            if (tick <= 50) {
+                recorder.recordPlayer(bob, "Bob", 5, 65, 5, 90f, 0f, "");
+            }
+            recorder.endFrame();
+        }
+        recorder.close();
+        manager.shutdown();
+
+        assertEquals(0, manager.getDroppedChunks());
+        assertTrue(manager.getWrittenBytes() > 0);
+
+        try (ReplayReader reader = new ReplayReader(recorder.getFile())) {
+            assertEquals("match_1", reader.getSessionId());
+            assertEquals("Desert", reader.getArenaName());
+            assertEquals("world", reader.getWorldName());
+            assertEquals(1, reader.getSampleInterval());
+
+            List<ReplayFrame> frames = new ArrayList<>();
+            ReplayFrame frame;
+            while ((frame = reader.next()) != null) {
+                frames.add(frame);
+            }
+            assertEquals(100, frames.size());
+
+            ReplayFrame early = frames.get(9);
+            assertEquals(10, early.getTick());
+            assertEquals(2, early.getPlayers().size());
+            ReplayFrame.PlayerState aliceEarly = early.getPlayers().get(0);
+            assertEquals(alice, aliceEarly.getPlayerId());
+            assertEquals("Alice", aliceEarly.getName());
+            assertEquals(1.0, aliceEarly.getX(), 1.0 / 32);
+            assertEquals(-0.5, aliceEarly.getZ(), 1.0 / 32);
+            assertEquals(30f, aliceEarly.getYaw(), 1.5f);
+            assertEquals(-10f, aliceEarly.getPitch(), 1.5f);
+            assertEquals("BOW", aliceEarly.getItem());
+            ReplayFrame.PlayerState bobEarly = early.getPlayers().get(1);
+            assertEquals("Bob", bobEarly.getName());
+            assertEquals("", bobEarly.getItem());
+
+            // Bob left after tick 50; Alice switched to her sword at tick 40
+            ReplayFrame late = frames.get(79);
+            assertEquals(80, late.getTick());
+            assertEquals(1, late.getPlayers().size());
+            assertEquals("IRON_SWORD", late.getPlayers().get(0).getItem());
+            assertEquals(8.0, late.getPlayers().get(0).getX(), 1.0 / 32);
+        }
+    }
+
+    @Test
+    void unchangedFrames_shouldNotBeWritten() throws IOException {
+        ReplayManager manager = manager();
+        ReplayRecorder recorder = manager.open(null, "match_2", "Desert", "world", 0);
+        UUID playerId = UUID.randomUUID();
+
+        for (int tick = 1; tick <= 10; tick++) {
+            recorder.beginFrame(tick);
+            recorder.recordPlayer(playerId, "Idle", 1, 2, 3, 0f, 0f, "BOW");
+            recorder.endFrame();
+        }
+        recorder.beginFrame(11);
+        recorder.recordPlayer(playerId, "Idle", 4, 2, 3, 0f, 0f, "BOW");
+        recorder.endFrame();
+        recorder.close();
+        manager.shutdown();
+
+        try (ReplayReader reader = new ReplayReader(recorder.getFile())) {
+            ReplayFrame first = reader.next();
+            assertEquals(1, first.getTick());
+            ReplayFrame moved = reader.next();
+            assertEquals(11, moved.getTick());
+            assertEquals(4.0, moved.getPlayers().get(0).getX());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void reader_shouldRejectOtherFiles() throws IOException {
+        Path file = tempDir.resolve("not-a-replay.csr");
+        Files.writeString(file, "hello world, not a replay");
+
+        assertThrows(IOException.class, () -> new ReplayReader(file));
+    }
+}
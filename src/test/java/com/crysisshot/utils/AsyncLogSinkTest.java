@@ -0,0 +1,81 @@
+package com.crysisshot.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncLogSink against a temporary log directory.
+ */
+class AsyncLogSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void offer_shouldFormatOnWriterThreadAndWriteInOrder() throws IOException {
+        AsyncLogSink sink = new AsyncLogSink(directory.toFile(), 64, 1024 * 1024, 3);
+        sink.start();
+        sink.offer(Level.INFO, "Bow kill: {} -> {}", "Alice", "Bob");
+        sink.offer(Level.WARNING, "plain {} message");
+        sink.shutdown();
+
+        String log = Files.readString(directory.resolve("crysisshot.log"));
+        int kill = log.indexOf("[INFO] Bow kill: Alice -> Bob");
+        int plain = log.indexOf("[WARNING] plain {} message");
+        assertTrue(kill >= 0, log);
+        assertTrue(plain > kill, log);
+        assertEquals(2, sink.getWrittenCount());
+        assertEquals(0, sink.getDroppedCount());
+    }
+
+    @Test
+    void offer_shouldDropAndCount_whenBufferFull() throws IOException {
+        // Not started, so nothing drains the buffer
+        AsyncLogSink sink = new AsyncLogSink(directory.toFile(), 8, 1024 * 1024, 3);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(sink.offer(Level.INFO, "event {}", i));
+        }
+        assertFalse(sink.offer(Level.INFO, "overflow"));
+        assertEquals(1, sink.getDroppedCount());
+
+        sink.start();
+        sink.shutdown();
+        String log = Files.readString(directory.resolve("crysisshot.log"));
+        assertTrue(log.contains("event 7"), log);
+        assertTrue(log.contains("dropped 1 events"), log);
+    }
+
+    @Test
+    void write_shouldRotateIntoGzipArchivesAndKeepTheNewest() throws IOException {
+        AsyncLogSink sink = new AsyncLogSink(directory.toFile(), 1024, 1024, 2);
+        sink.start();
+        String padding = "x".repeat(200);
+        for (int i = 0; i < 40; i++) {
+            sink.offer(Level.INFO, "line {} {}", i, padding);
+        }
+        sink.shutdown();
+
+        File[] archives = directory.toFile().listFiles((dir, name) -> name.endsWith(".log.gz"));
+        assertNotNull(archives);
+        assertEquals(2, archives.length);
+        for (File archive : archives) {
+            try (InputStream in = new GZIPInputStream(new FileInputStream(archive))) {
+                String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(content.startsWith("["), content);
+            }
+        }
+        assertTrue(Files.readString(directory.resolve("crysisshot.log")).contains("line 39"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.crysisshot.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Logger debug gating and {} formatting.
+ */
+class LoggerTest {
+
+    @AfterEach
+    void tearDown() {
+        Logger.configure(false, List.of());
+    }
+
+    @Test
+    void format_shouldReplacePlaceholdersInOrder() {
+        assertEquals("Player Steve shot arrow (3 remaining)",
+            Logger.format("Player {} shot arrow ({} remaining)", "Steve", 3));
+        assertEquals("a {} c", Logger.format("a {} c"));
+        assertEquals("x=1, y={}", Logger.format("x={}, y={}", 1));
+        assertEquals("null", Logger.format("{}", (Object) null));
+    }
+
+    @Test
+    void isDebugEnabled_shouldRespectFlagAndCategories() {
+        Logger.configure(false, List.of("game-events"));
+        assertFalse(Logger.isDebugEnabled(DebugCategory.GAME_EVENTS));
+
+        Logger.configure(true, List.of("game-events", "unknown"));
+        assertTrue(Logger.isDebugEnabled());
+        assertTrue(Logger.isDebugEnabled(DebugCategory.GAME_EVENTS));
+        assertFalse(Logger.isDebugEnabled(DebugCategory.DATABASE_OPERATIONS));
+    }
+
+    @Test
+    void isDebugEnabled_shouldEnableEveryCategory_whenListEmpty() {
+        Logger.configure(true, List.of());
+        for (DebugCategory category : DebugCategory.values()) {
+            assertTrue(Logger.isDebugEnabled(category));
+        }
+    }
+
+    @Test
+    void debug_shouldNotEvaluateSupplier_whenDisabled() {
+        Logger.configure(false, List.of());
+        Logger.debug(DebugCategory.GAME_EVENTS, () -> {
+            fail("supplier evaluated while debug is off");
+            return "";
+        });
+    }
+}